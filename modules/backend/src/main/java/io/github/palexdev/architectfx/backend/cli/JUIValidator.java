@@ -0,0 +1,473 @@
+/*
+ * Copyright (C) 2025 Parisi Alessandro - alessandro.parisi406@gmail.com
+ * This file is part of ArchitectFX (https://github.com/palexdev/ArchitectFX)
+ *
+ * ArchitectFX is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License
+ * as published by the Free Software Foundation; either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * ArchitectFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ArchitectFX. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.palexdev.architectfx.backend.cli;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import io.github.palexdev.architectfx.backend.deps.DependencyManager;
+import io.github.palexdev.architectfx.backend.jui.JUILexer;
+import io.github.palexdev.architectfx.backend.jui.JUIParser;
+import io.github.palexdev.architectfx.backend.jui.JUIParser.*;
+import io.github.palexdev.architectfx.backend.jui.JUIVisitor;
+import io.github.palexdev.architectfx.backend.jui.MetadataVisitor;
+import io.github.palexdev.architectfx.backend.lint.DocumentLinter;
+import io.github.palexdev.architectfx.backend.lint.LintFinding;
+import io.github.palexdev.architectfx.backend.loaders.BatchParser;
+import io.github.palexdev.architectfx.backend.loaders.jui.JUIBaseLoader;
+import io.github.palexdev.architectfx.backend.utils.ImportsSet;
+import io.github.palexdev.architectfx.backend.utils.reflection.Reflector;
+import io.github.palexdev.architectfx.backend.utils.reflection.Scanner;
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.TerminalNode;
+
+/// Headless, command-line validator for trees of _JUI_ documents, meant to be used in CI pipelines.
+///
+/// Every `.jui` file found under the given directory is parsed in parallel by a [BatchParser]. For each document, the
+/// validator collects syntax errors from the ANTLR parser and then walks the parse tree to resolve every type, member
+/// and import reference against the document's `.deps`. Classes are only loaded, never initialized nor instantiated,
+/// which means that no toolkit is required.
+///
+/// Errors are reported as `file:line:column: message`, with positions taken from the ANTLR tokens.
+///
+/// The `--emit` option writes a precompiled copy of each valid document to the given directory, in which the
+/// `.imports` block lists the fully qualified name of every type used in the document. Such documents can be loaded
+/// without the [Scanner] ever falling back to classpath scans.
+///
+/// The `--lint` option also runs the [DocumentLinter] on each valid document and reports its findings as warnings.
+///
+/// At the end, throughput statistics are printed: files/s, tokens/s and a histogram of the time spent resolving the
+/// references of each file.
+///
+/// Usage: `JUIValidator <dir> [--threads <n>] [--emit <dir>] [--syntax-only] [--lint]`
+///
+/// The process exits with code `1` if any error is found, `2` for invalid arguments.
+public class JUIValidator {
+    //================================================================================
+    // Static Properties
+    //================================================================================
+    private static final long[] HISTOGRAM_BOUNDS_MS = {1, 5, 10, 50, 100, 500, 1000};
+
+    //================================================================================
+    // Properties
+    //================================================================================
+    private final Path root;
+    private final int threads;
+    private final Path emitDir;
+    private final boolean resolve;
+    private final PrintStream out;
+    private boolean lint = false;
+    private final Map<Set<String>, CompletableFuture<DependencyManager>> dms = new ConcurrentHashMap<>();
+
+    //================================================================================
+    // Constructors
+    //================================================================================
+    public JUIValidator(Path root, int threads, Path emitDir, boolean resolve, PrintStream out) {
+        this.root = root;
+        this.threads = threads;
+        this.emitDir = emitDir;
+        this.resolve = resolve;
+        this.out = out;
+    }
+
+    //================================================================================
+    // Static Methods
+    //================================================================================
+    public static void main(String[] args) {
+        Path root = null;
+        Path emit = null;
+        int threads = Runtime.getRuntime().availableProcessors();
+        boolean resolve = true;
+        boolean lint = false;
+        try {
+            for (int i = 0; i < args.length; i++) {
+                String arg = args[i];
+                if (arg.equals("--threads")) {
+                    threads = Integer.parseInt(args[++i]);
+                } else if (arg.equals("--emit")) {
+                    emit = Path.of(args[++i]);
+                } else if (arg.equals("--syntax-only")) {
+                    resolve = false;
+                } else if (arg.equals("--lint")) {
+                    lint = true;
+                } else if (!arg.startsWith("--") && root == null) {
+                    root = Path.of(arg);
+                } else {
+                    throw new IllegalArgumentException("Unknown argument: " + arg);
+                }
+            }
+            if (root == null || !Files.isDirectory(root))
+                throw new IllegalArgumentException("A valid directory must be specified");
+        } catch (RuntimeException ex) {
+            System.err.println(ex.getMessage());
+            System.err.println("Usage: JUIValidator <dir> [--threads <n>] [--emit <dir>] [--syntax-only] [--lint]");
+            System.exit(2);
+            return;
+        }
+
+        try {
+            Summary summary = new JUIValidator(root, threads, emit, resolve, System.out)
+                .setLint(lint)
+                .run();
+            System.exit(summary.errors() > 0 ? 1 : 0);
+        } catch (IOException | InterruptedException ex) {
+            System.err.println("Validation failed: " + ex);
+            System.exit(2);
+        }
+    }
+
+    //================================================================================
+    // Methods
+    //================================================================================
+
+    /// Validates all the documents under the root directory, prints the diagnostics and the statistics.
+    public Summary run() throws IOException, InterruptedException {
+        List<Path> files;
+        try (Stream<Path> stream = Files.walk(root)) {
+            files = stream.filter(Files::isRegularFile)
+                .filter(p -> p.getFileName().toString().endsWith("." + JUIBaseLoader.EXTENSION))
+                .sorted()
+                .toList();
+        }
+
+        long start = System.nanoTime();
+        List<BatchParser.Result<FileReport>> results;
+        try (BatchParser<FileReport> parser = new BatchParser<>(this::validate, threads)) {
+            results = parser.parseFiles(files).await();
+        }
+        long elapsed = System.nanoTime() - start;
+
+        int errors = 0;
+        int warnings = 0;
+        long tokens = 0;
+        long[] histogram = new long[HISTOGRAM_BOUNDS_MS.length + 1];
+        for (int i = 0; i < results.size(); i++) {
+            BatchParser.Result<FileReport> res = results.get(i);
+            Path file = root.relativize(files.get(i));
+            if (!res.isSuccess()) {
+                errors++;
+                out.printf("%s: error: %s%n", file, res.error());
+                continue;
+            }
+
+            FileReport report = res.result();
+            tokens += report.tokens();
+            errors += report.diagnostics().size();
+            warnings += report.findings().size();
+            report.diagnostics().forEach(d -> out.printf("%s:%d:%d: error: %s%n", file, d.line(), d.column(), d.message()));
+            report.findings().forEach(f -> out.printf("%s: warning: %s%n", file, f));
+            if (resolve) histogram[bucket(report.resolutionNanos())]++;
+            if (emitDir != null && report.emitted() != null) {
+                Path target = emitDir.resolve(file.toString());
+                Files.createDirectories(target.toAbsolutePath().getParent());
+                Files.writeString(target, report.emitted());
+            }
+        }
+
+        Summary summary = new Summary(files.size(), errors, warnings, tokens, elapsed);
+        printStats(summary, histogram);
+        return summary;
+    }
+
+    /// Validates a single document. This is the [BatchParser.Parser] function, so it must be thread-safe.
+    protected FileReport validate(InputStream is, URL location) throws IOException {
+        List<Diagnostic> diagnostics = Collections.synchronizedList(new ArrayList<>());
+        ANTLRErrorListener listener = new BaseErrorListener() {
+            @Override
+            public void syntaxError(Recognizer<?, ?> recognizer, Object offendingSymbol, int line, int charPositionInLine, String msg, RecognitionException e) {
+                diagnostics.add(new Diagnostic(line, charPositionInLine + 1, msg));
+            }
+        };
+
+        JUILexer lexer = new JUILexer(CharStreams.fromStream(is));
+        lexer.removeErrorListeners();
+        lexer.addErrorListener(listener);
+        CommonTokenStream cts = new CommonTokenStream(lexer);
+        JUIParser parser = new JUIParser(cts);
+        parser.removeErrorListeners();
+        parser.addErrorListener(listener);
+        DocumentContext document = parser.document();
+        int tokens = cts.getNumberOfOnChannelTokens();
+
+        if (!diagnostics.isEmpty() || !resolve)
+            return new FileReport(tokens, List.copyOf(diagnostics), List.of(), 0, null);
+
+        long start = System.nanoTime();
+        References refs = new References(document, diagnostics);
+        refs.check();
+        long resolution = System.nanoTime() - start;
+
+        List<LintFinding> findings = (lint && diagnostics.isEmpty()) ?
+            new DocumentLinter(refs.dm).lint(JUIVisitor.INSTANCE.visit(document, location)) :
+            List.of();
+        String emitted = (emitDir != null && diagnostics.isEmpty()) ? refs.emit(cts) : null;
+        return new FileReport(tokens, List.copyOf(diagnostics), findings, resolution, emitted);
+    }
+
+    /// Dependency managers are shared by all documents declaring the same set of dependencies, so that artifacts are
+    /// downloaded and indexed only once per run.
+    ///
+    /// The first document to ask for a set of dependencies resolves them, the others wait for its result. Resolution
+    /// happens outside the map's mapping functions since it may download artifacts.
+    protected DependencyManager dependencyManager(Set<String> deps) {
+        CompletableFuture<DependencyManager> created = new CompletableFuture<>();
+        CompletableFuture<DependencyManager> existing = dms.putIfAbsent(deps, created);
+        if (existing == null) {
+            try {
+                created.complete(new DependencyManager().addDeps(deps.toArray(String[]::new)));
+            } catch (RuntimeException ex) {
+                created.completeExceptionally(ex);
+            }
+            existing = created;
+        }
+
+        try {
+            return existing.join();
+        } catch (CompletionException ex) {
+            throw (ex.getCause() instanceof RuntimeException re) ? re : ex;
+        }
+    }
+
+    protected void printStats(Summary summary, long[] histogram) {
+        double seconds = summary.nanos() / 1_000_000_000.0;
+        out.println();
+        out.printf("Validated %d files in %.2fs with %d error(s) and %d warning(s)%n", summary.files(), seconds, summary.errors(), summary.warnings());
+        out.printf("Throughput: %.1f files/s, %.1f tokens/s%n", summary.files() / seconds, summary.tokens() / seconds);
+        if (!resolve) return;
+
+        out.println("Resolution time per file:");
+        long max = Arrays.stream(histogram).max().orElse(0);
+        for (int i = 0; i < histogram.length; i++) {
+            String label = (i < HISTOGRAM_BOUNDS_MS.length) ?
+                "< " + HISTOGRAM_BOUNDS_MS[i] + "ms" :
+                ">= " + HISTOGRAM_BOUNDS_MS[HISTOGRAM_BOUNDS_MS.length - 1] + "ms";
+            int bar = (max == 0) ? 0 : (int) Math.round(histogram[i] * 40.0 / max);
+            out.printf("  %-9s %6d %s%n", label, histogram[i], "#".repeat(bar));
+        }
+    }
+
+    private static int bucket(long nanos) {
+        long ms = TimeUnit.NANOSECONDS.toMillis(nanos);
+        for (int i = 0; i < HISTOGRAM_BOUNDS_MS.length; i++) {
+            if (ms < HISTOGRAM_BOUNDS_MS[i]) return i;
+        }
+        return HISTOGRAM_BOUNDS_MS.length;
+    }
+
+    //================================================================================
+    // Getters/Setters
+    //================================================================================
+    public boolean isLint() {
+        return lint;
+    }
+
+    public JUIValidator setLint(boolean lint) {
+        this.lint = lint;
+        return this;
+    }
+
+    //================================================================================
+    // Inner Classes
+    //================================================================================
+
+    /// A problem found in a document, columns are 1-based.
+    public record Diagnostic(int line, int column, String message) {}
+
+    /// The outcome of validating a single document.
+    ///
+    /// @param tokens the number of on-channel tokens in the document
+    /// @param resolutionNanos the time spent resolving references, `0` if the document was not resolved
+    /// @param emitted the precompiled document, `null` if not requested or if the document is not valid
+    public record FileReport(int tokens, List<Diagnostic> diagnostics, List<LintFinding> findings, long resolutionNanos, String emitted) {}
+
+    public record Summary(int files, int errors, int warnings, long tokens, long nanos) {}
+
+    /// Walks the parse tree of a document and resolves every reference to a type or member, reporting failures as
+    /// [Diagnostic]s.
+    ///
+    /// Members are checked following the same conventions used by the resolver, see [Reflector#canRead(Class, String, boolean)]
+    /// and [Reflector#canWrite(Class, String, boolean)]: properties must be writable, collections readable. Methods are
+    /// matched by name only since argument types are not known until instantiation.
+    protected class References {
+        private final DocumentContext document;
+        private final List<Diagnostic> diagnostics;
+        private DependencyManager dm;
+        private Scanner scanner;
+        private final Map<String, String> resolved = new TreeMap<>();
+
+        protected References(DocumentContext document, List<Diagnostic> diagnostics) {
+            this.document = document;
+            this.diagnostics = diagnostics;
+        }
+
+        protected void check() {
+            Set<String> deps = new TreeSet<>(MetadataVisitor.INSTANCE.visit(document.dependencies()));
+            try {
+                dm = dependencyManager(deps);
+            } catch (Exception ex) {
+                Token token = (document.dependencies() != null) ? document.dependencies().getStart() : null;
+                report(token, "Failed to resolve dependencies: " + ex.getMessage());
+                return;
+            }
+
+            ImportsSet imports = new ImportsSet();
+            imports.addAll(MetadataVisitor.INSTANCE.visit(document.imports()));
+            scanner = new Scanner(dm, imports);
+
+            // Explicit imports must exist
+            if (document.imports() != null) {
+                for (TerminalNode node : document.imports().STRING()) {
+                    String imp = node.getText().replaceAll("^['\"]|['\"]$", "");
+                    if (imp.endsWith("*")) continue;
+                    try {
+                        dm.loadClass(imp);
+                    } catch (ClassNotFoundException | LinkageError ex) {
+                        report(node.getSymbol(), "Unresolved import: " + imp);
+                    }
+                }
+            }
+
+            if (document.controller() != null) checkObj(document.controller().uiObj());
+            checkObj(document.root);
+        }
+
+        protected void checkObj(UiObjContext ctx) {
+            if (ctx == null) return;
+            Class<?> type = findClass(JUIVisitor.toFQN(ctx.IDENTIFIER()), ctx.getStart());
+            if (ctx.factory() != null) walk(ctx.factory().methodsChain(), type);
+            if (ctx.constructor() != null) walk(ctx.constructor().args(), type);
+            for (MethodsChainContext mc : ctx.methodsChain()) walk(mc, type);
+            for (PropertyContext property : ctx.property()) {
+                checkProperty(property, type);
+                walk(property.type() != null ? property.type() : property.collection(), type);
+            }
+            for (UiObjContext child : ctx.uiObj()) checkObj(child);
+        }
+
+        protected void walk(ParseTree node, Class<?> owner) {
+            switch (node) {
+                case null -> {}
+                case UiObjContext obj -> checkObj(obj);
+                case MethodsChainContext mc -> {
+                    checkMethodsChain(mc, owner);
+                    mc.method().forEach(m -> walk(m.args(), owner));
+                }
+                case FieldContext field -> checkField(field, owner);
+                case ArrayContext array -> {
+                    if (!array.IDENTIFIER().isEmpty())
+                        findClass(JUIVisitor.toFQN(array.IDENTIFIER()), array.getStart());
+                    walk(array.args(), owner);
+                }
+                default -> {
+                    for (int i = 0; i < node.getChildCount(); i++) {
+                        walk(node.getChild(i), owner);
+                    }
+                }
+            }
+        }
+
+        protected void checkProperty(PropertyContext ctx, Class<?> owner) {
+            if (owner == null) return;
+            String name = ctx.IDENTIFIER().getText();
+            boolean found = (ctx.collection() != null) ?
+                Reflector.canRead(owner, name, false) :
+                Reflector.canWrite(owner, name, false);
+            if (!found)
+                report(ctx.getStart(), "Unresolved property '%s' on %s".formatted(name, owner.getName()));
+        }
+
+        protected void checkMethodsChain(MethodsChainContext ctx, Class<?> self) {
+            Class<?> owner = (ctx.THIS() != null) ? self : findClass(JUIVisitor.toFQN(ctx.IDENTIFIER()), ctx.getStart());
+            for (MethodContext mCtx : ctx.method()) {
+                if (owner == null) return;
+                String name = mCtx.IDENTIFIER().getText();
+                List<Method> candidates = Reflector.methods(owner, name);
+                if (candidates.isEmpty()) {
+                    report(mCtx.getStart(), "Unresolved method '%s' on %s".formatted(name, owner.getName()));
+                    return;
+                }
+                // The chain can be followed only if the return type is unambiguous
+                Set<Class<?>> returns = candidates.stream().map(Method::getReturnType).collect(Collectors.toSet());
+                owner = (returns.size() == 1) ? returns.iterator().next() : null;
+            }
+        }
+
+        protected void checkField(FieldContext ctx, Class<?> self) {
+            List<TerminalNode> ids = new ArrayList<>(ctx.IDENTIFIER());
+            TerminalNode name = ids.removeLast();
+            Class<?> owner = (ctx.THIS() != null) ? self : findClass(JUIVisitor.toFQN(ids), ctx.getStart());
+            if (owner == null) return;
+            if (!Reflector.canRead(owner, name.getText(), ctx.THIS() == null))
+                report(name.getSymbol(), "Unresolved field '%s' on %s".formatted(name.getText(), owner.getName()));
+        }
+
+        protected Class<?> findClass(String name, Token token) {
+            if (name == null) return null;
+            try {
+                Class<?> klass = scanner.findClass(name);
+                if (!name.contains(".")) resolved.put(name, klass.getName());
+                return klass;
+            } catch (ClassNotFoundException | LinkageError ex) {
+                report(token, "Unresolved type: " + name);
+            } catch (IllegalArgumentException ex) {
+                report(token, ex.getMessage());
+            }
+            return null;
+        }
+
+        /// Rewrites the document so that its `.imports` block contains an explicit import for every simple type
+        /// name resolved during the check.
+        protected String emit(CommonTokenStream cts) {
+            Set<String> imports = new ImportsSet();
+            imports.addAll(MetadataVisitor.INSTANCE.visit(document.imports()));
+            imports.addAll(resolved.values());
+            String block = imports.stream()
+                .map(s -> "  '" + s + "'")
+                .collect(Collectors.joining(",\n", ".imports {\n", "\n}"));
+
+            TokenStreamRewriter rewriter = new TokenStreamRewriter(cts);
+            if (document.imports() != null) {
+                rewriter.replace(document.imports().getStart(), document.imports().getStop(), block);
+            } else {
+                ParserRuleContext next = (document.controller() != null) ? document.controller() : document.root;
+                rewriter.insertBefore(next.getStart(), block + "\n\n");
+            }
+            return rewriter.getText();
+        }
+
+        private void report(Token token, String message) {
+            int line = (token != null) ? token.getLine() : 0;
+            int column = (token != null) ? token.getCharPositionInLine() + 1 : 0;
+            diagnostics.add(new Diagnostic(line, column, message));
+        }
+    }
+}
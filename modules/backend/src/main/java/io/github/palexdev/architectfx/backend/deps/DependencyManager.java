@@ -18,10 +18,14 @@
 
 package io.github.palexdev.architectfx.backend.deps;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /// Core class of this system which basically combines the features of [MavenHelper] and [DynamicClassLoader].
 ///
@@ -40,6 +44,21 @@ public class DependencyManager {
     //================================================================================
     private final Set<Path> dependencies = new HashSet<>();
     private DynamicClassLoader classLoader = new DynamicClassLoader();
+    private final Map<Path, JarIndex> indices = new ConcurrentHashMap<>();
+    private long fingerprint = 0;
+
+    //================================================================================
+    // Constructors
+    //================================================================================
+    public DependencyManager() {}
+
+    /// Copies the state of the given manager, the [DynamicClassLoader] is shared since it's never modified once
+    /// created, see [#refresh()].
+    protected DependencyManager(DependencyManager source) {
+        dependencies.addAll(source.dependencies);
+        classLoader = source.classLoader;
+        fingerprint = source.fingerprint;
+    }
 
     //================================================================================
     // Methods
@@ -51,6 +70,31 @@ public class DependencyManager {
         return classLoader.loadClass(fqName);
     }
 
+    /// Checks whether a class with the given simple name exists in the given package, without loading it and without
+    /// relying on exceptions.
+    ///
+    /// Dependencies are checked first by using their [JarIndex]. A dependency containing the package but not the class
+    /// is not enough to answer `false`, since packages can be split across JARs, modules and the app's classpath. In such
+    /// case, and when no dependency has the package, the class file is looked up as a resource: by the parent of the
+    /// [DynamicClassLoader] if the dependencies were already searched, by the loader itself otherwise.
+    public boolean containsClass(String pkg, String simpleName) {
+        boolean searched = false;
+        for (Path dep : dependencies) {
+            JarIndex index = index(dep);
+            if (index.containsClass(pkg, simpleName)) return true;
+            searched |= index.containsPackage(pkg);
+        }
+
+        String resource = pkg.replace('.', '/') + "/" + simpleName + ".class";
+        ClassLoader loader = (searched && classLoader.getParent() != null) ? classLoader.getParent() : classLoader;
+        return loader.getResource(resource) != null;
+    }
+
+    /// @return the [JarIndex] for the given JAR, see [JarIndex#of(Path)]
+    public JarIndex index(Path jar) {
+        return indices.computeIfAbsent(jar, JarIndex::of);
+    }
+
     /// Downloads the given Maven coordinates as Files and stores them.
     public DependencyManager addDeps(String... artifacts) {
         if (artifacts.length != 0) {
@@ -75,10 +119,36 @@ public class DependencyManager {
         return this;
     }
 
+    /// @return a read-only copy of this manager, which is not affected by later changes to this one. Meant to be handed
+    /// to background tasks that must not observe the dependencies of a load still in progress
+    public DependencyManager snapshot() {
+        return new Snapshot(this);
+    }
+
     /// This method is responsible for creating a new [DynamicClassLoader] with all the dependencies in [#dependencies()].
+    /// Also updates the [#fingerprint()] and drops the references to the [JarIndex]es, which are anyway cached globally.
     protected void refresh() {
         classLoader = new DynamicClassLoader();
         classLoader.addJars(dependencies);
+        indices.clear();
+        fingerprint = computeFingerprint();
+    }
+
+    /// Computes a fingerprint from the paths, sizes and last modified times of the dependencies. The order in which
+    /// they were added does not matter.
+    protected long computeFingerprint() {
+        long hash = 0;
+        for (Path dep : dependencies) {
+            long h = dep.toAbsolutePath().toString().hashCode();
+            try {
+                h = h * 31 + Files.size(dep);
+                h = h * 31 + Files.getLastModifiedTime(dep).toMillis();
+            } catch (IOException ignored) {}
+            // Mix and sum, so that the result is independent of the iteration order
+            h *= 0x9E3779B97F4A7C15L;
+            hash += h ^ (h >>> 32);
+        }
+        return hash;
     }
 
     //================================================================================
@@ -91,4 +161,47 @@ public class DependencyManager {
     public DynamicClassLoader loader() {
         return classLoader;
     }
+
+    /// @return a value which identifies the current set of dependencies. Two managers with the same JARs have the
+    /// same fingerprint, and removing, adding or changing a JAR changes it
+    public long fingerprint() {
+        return fingerprint;
+    }
+
+    //================================================================================
+    // Inner Classes
+    //================================================================================
+
+    /// Read-only [DependencyManager] returned by [#snapshot()], all the methods that would change the dependencies
+    /// throw an [UnsupportedOperationException].
+    protected static class Snapshot extends DependencyManager {
+        protected Snapshot(DependencyManager source) {
+            super(source);
+        }
+
+        @Override
+        public DependencyManager addDeps(String... artifacts) {
+            throw new UnsupportedOperationException("Dependencies snapshots are read-only");
+        }
+
+        @Override
+        public DependencyManager addDeps(Path... deps) {
+            throw new UnsupportedOperationException("Dependencies snapshots are read-only");
+        }
+
+        @Override
+        public DependencyManager cleanDeps() {
+            throw new UnsupportedOperationException("Dependencies snapshots are read-only");
+        }
+
+        @Override
+        public Set<Path> dependencies() {
+            return Collections.unmodifiableSet(super.dependencies());
+        }
+
+        @Override
+        public DependencyManager snapshot() {
+            return this;
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,315 @@
+/*
+ * Copyright (C) 2025 Parisi Alessandro - alessandro.parisi406@gmail.com
+ * This file is part of ArchitectFX (https://github.com/palexdev/ArchitectFX)
+ *
+ * ArchitectFX is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License
+ * as published by the Free Software Foundation; either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * ArchitectFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ArchitectFX. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.palexdev.architectfx.backend.deps;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.tinylog.Logger;
+
+/// Listing of all the classes contained in a JAR file, grouped by package.
+///
+/// The listing is built by reading the JAR's entries (the central directory), no class is loaded. This allows
+/// answering questions like "does package `x` contain a class named `Y`?" without resorting to
+/// [ClassLoader#loadClass(String)] and exceptions.
+///
+/// Class names are stored as they appear in the JAR, which means that nested classes are in the form `Outer$Inner`.
+///
+/// Indices are meant to be built once per JAR, [#of(Path)] keeps them in memory for the whole application's lifetime,
+/// and also stores them on disk, see [#getCacheDir()]. The disk cache is content-addressed: files are named after the
+/// SHA-256 of the JAR's central directory, see [#hash(Path)]. This way the same JAR found at different paths (or
+/// re-downloaded) shares the same index, while a JAR that changed in place gets a new one.
+public class JarIndex {
+    //================================================================================
+    // Static Properties
+    //================================================================================
+    private static final int MAGIC = 0x41465849; // AFXI
+    private static final int VERSION = 1;
+    private static final int EOCD_SIGNATURE = 0x06054b50;
+    private static final int EOCD_SIZE = 22;
+    private static final Map<Path, JarIndex> LOADED = new ConcurrentHashMap<>();
+    private static Path cacheDir = Path.of(System.getProperty("user.home"), ".architectfx", "cache", "index");
+
+    //================================================================================
+    // Properties
+    //================================================================================
+    private final Path jar;
+    private final Map<String, Set<String>> packages;
+    private final Map<String, List<String>> bySimpleName = new HashMap<>();
+    private long stamp;
+
+    //================================================================================
+    // Constructors
+    //================================================================================
+    protected JarIndex(Path jar, Map<String, Set<String>> packages) {
+        this.jar = jar;
+        this.packages = packages;
+        packages.forEach((pkg, classes) -> {
+            for (String cls : classes) {
+                bySimpleName.computeIfAbsent(cls, c -> new ArrayList<>(1)).add(pkg);
+            }
+        });
+    }
+
+    //================================================================================
+    // Static Methods
+    //================================================================================
+
+    /// @return the index for the given JAR. The first time a JAR is requested, its index is read from the disk cache
+    /// (see [#load(Path)]), the following times it's returned from memory, unless the JAR's size or last modified time
+    /// changed in the meantime.
+    public static JarIndex of(Path jar) {
+        Path key = jar.toAbsolutePath().normalize();
+        long stamp = stamp(key);
+        JarIndex index = LOADED.get(key);
+        if (index != null && index.stamp == stamp) return index;
+
+        index = load(key);
+        index.stamp = stamp;
+        LOADED.put(key, index);
+        return index;
+    }
+
+    /// Loads the index of the given JAR from the disk cache, if present. Otherwise, builds it with [#build(Path)] and
+    /// stores it in the cache dir. The cache file is memory-mapped for reading.
+    ///
+    /// If the cache dir is `null`, or in case of errors, this is the same as [#build(Path)].
+    public static JarIndex load(Path jar) {
+        Path dir = cacheDir;
+        if (dir == null) return build(jar);
+
+        Path file;
+        try {
+            file = dir.resolve(hash(jar) + ".idx");
+        } catch (IOException ex) {
+            Logger.error("Failed to hash jar {} because:\n{}", jar, ex);
+            return build(jar);
+        }
+
+        if (Files.isRegularFile(file)) {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                return new JarIndex(jar, read(buffer));
+            } catch (IOException | RuntimeException ex) {
+                Logger.warn("Corrupted index {} for jar {}, rebuilding...", file, jar);
+            }
+        }
+
+        JarIndex index = build(jar);
+        try {
+            write(index.packages, dir, file);
+        } catch (IOException ex) {
+            Logger.error("Failed to store index for jar {} because:\n{}", jar, ex);
+        }
+        return index;
+    }
+
+    /// Reads the entries of the given JAR and builds its index. Module descriptors, multi-release versions and
+    /// `package-info` classes are ignored.
+    ///
+    /// In case of errors, returns an empty index.
+    public static JarIndex build(Path jar) {
+        Map<String, Set<String>> packages = new HashMap<>();
+        try (ZipFile zip = new ZipFile(jar.toFile())) {
+            Enumeration<? extends ZipEntry> entries = zip.entries();
+            while (entries.hasMoreElements()) {
+                String name = entries.nextElement().getName();
+                if (!name.endsWith(".class") || name.startsWith("META-INF/")) continue;
+                int slash = name.lastIndexOf('/');
+                String pkg = (slash < 0) ? "" : name.substring(0, slash).replace('/', '.');
+                String cls = name.substring(slash + 1, name.length() - ".class".length());
+                if (cls.equals("module-info") || cls.equals("package-info")) continue;
+                packages.computeIfAbsent(pkg, p -> new HashSet<>()).add(cls);
+            }
+        } catch (IOException ex) {
+            Logger.error("Failed to index jar {} because:\n{}", jar, ex);
+        }
+        return new JarIndex(jar, packages);
+    }
+
+    /// @return the hex-encoded SHA-256 of the given JAR's central directory. The central directory lists every entry
+    /// along with its name, CRC and sizes, so it identifies the content without reading all of it. If it can't be
+    /// located (e.g. ZIP64 archives), the path, size and last modified time of the file are hashed instead
+    protected static String hash(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            ByteBuffer directory = centralDirectory(channel);
+            if (directory != null) {
+                digest.update(directory);
+            } else {
+                String stamp = file.toAbsolutePath().normalize() + "|" + channel.size() + "|" + Files.getLastModifiedTime(file).toMillis();
+                digest.update(stamp.getBytes(StandardCharsets.UTF_8));
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IOException(ex);
+        }
+    }
+
+    /// Locates the central directory through the end of central directory record, which is at the end of the file,
+    /// possibly followed by a comment of up to 64KB.
+    ///
+    /// @return the memory-mapped central directory, `null` if it could not be located
+    protected static ByteBuffer centralDirectory(FileChannel channel) throws IOException {
+        long size = channel.size();
+        int tail = (int) Math.min(size, EOCD_SIZE + 0xFFFF);
+        ByteBuffer buffer = ByteBuffer.allocate(tail).order(ByteOrder.LITTLE_ENDIAN);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, size - tail + buffer.position()) < 0) return null;
+        }
+
+        for (int i = tail - EOCD_SIZE; i >= 0; i--) {
+            if (buffer.getInt(i) != EOCD_SIGNATURE) continue;
+            long length = Integer.toUnsignedLong(buffer.getInt(i + 12));
+            long offset = Integer.toUnsignedLong(buffer.getInt(i + 16));
+            if (length == 0xFFFFFFFFL || offset == 0xFFFFFFFFL || offset + length > size) return null;
+            return channel.map(FileChannel.MapMode.READ_ONLY, offset, length);
+        }
+        return null;
+    }
+
+    /// Cache file layout: magic, version, number of packages, then for each package its name, the number of classes
+    /// and their names. Names are stored as an unsigned short length followed by UTF-8 bytes.
+    protected static Map<String, Set<String>> read(ByteBuffer buffer) throws IOException {
+        if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION)
+            throw new IOException("Unknown index format");
+        int nPackages = buffer.getInt();
+        Map<String, Set<String>> packages = HashMap.newHashMap(nPackages);
+        for (int i = 0; i < nPackages; i++) {
+            String pkg = readString(buffer);
+            int nClasses = buffer.getInt();
+            Set<String> classes = HashSet.newHashSet(nClasses);
+            for (int j = 0; j < nClasses; j++) classes.add(readString(buffer));
+            packages.put(pkg, classes);
+        }
+        return packages;
+    }
+
+    /// Writes the given packages to the given file, see [#read(ByteBuffer)] for the layout. The data is first written
+    /// to a temporary file which is then moved to the destination, so that readers never see partial files.
+    protected static void write(Map<String, Set<String>> packages, Path dir, Path file) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(packages.size());
+            for (Map.Entry<String, Set<String>> e : packages.entrySet()) {
+                writeString(out, e.getKey());
+                out.writeInt(e.getValue().size());
+                for (String cls : e.getValue()) writeString(out, cls);
+            }
+        }
+
+        Files.createDirectories(dir);
+        Path tmp = Files.createTempFile(dir, "index", ".tmp");
+        try {
+            Files.write(tmp, bytes.toByteArray());
+            try {
+                Files.move(tmp, file, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException ex) {
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] data = new byte[Short.toUnsignedInt(buffer.getShort())];
+        buffer.get(data);
+        return new String(data, StandardCharsets.UTF_8);
+    }
+
+    private static void writeString(DataOutputStream out, String s) throws IOException {
+        byte[] data = s.getBytes(StandardCharsets.UTF_8);
+        out.writeShort(data.length);
+        out.write(data);
+    }
+
+    private static long stamp(Path jar) {
+        try {
+            return Files.size(jar) * 31 + Files.getLastModifiedTime(jar).toMillis();
+        } catch (IOException ex) {
+            return -1;
+        }
+    }
+
+    /// @return the directory in which indices are stored, by default `~/.architectfx/cache/index`
+    public static Path getCacheDir() {
+        return cacheDir;
+    }
+
+    /// Sets the directory in which indices are stored, `null` disables the disk cache.
+    public static void setCacheDir(Path cacheDir) {
+        JarIndex.cacheDir = cacheDir;
+    }
+
+    //================================================================================
+    // Methods
+    //================================================================================
+
+    /// @return whether this JAR contains classes in the given package
+    public boolean containsPackage(String pkg) {
+        return packages.containsKey(pkg);
+    }
+
+    /// @return whether the given package in this JAR contains a class with the given simple name
+    public boolean containsClass(String pkg, String simpleName) {
+        Set<String> classes = packages.get(pkg);
+        return classes != null && classes.contains(simpleName);
+    }
+
+    /// @return the simple names of all the classes in the given package, an empty set if the package is not in this JAR
+    public Set<String> classes(String pkg) {
+        return Collections.unmodifiableSet(packages.getOrDefault(pkg, Set.of()));
+    }
+
+    /// @return the fully qualified names of all the classes in this JAR with the given simple name
+    public List<String> find(String simpleName) {
+        List<String> pkgs = bySimpleName.get(simpleName);
+        if (pkgs == null) return List.of();
+        List<String> res = new ArrayList<>(pkgs.size());
+        for (String pkg : pkgs) res.add(pkg.isEmpty() ? simpleName : pkg + "." + simpleName);
+        return res;
+    }
+
+    //================================================================================
+    // Getters
+    //================================================================================
+    public Path jar() {
+        return jar;
+    }
+
+    public Set<String> packages() {
+        return Collections.unmodifiableSet(packages.keySet());
+    }
+}
@@ -20,14 +20,21 @@ package io.github.palexdev.architectfx.backend.deps;
 
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import dev.mccue.jresolve.Cache;
 import dev.mccue.jresolve.Dependency;
 import dev.mccue.jresolve.Library;
 import dev.mccue.jresolve.Resolve;
-import io.github.palexdev.architectfx.backend.utils.Async;
+import io.github.palexdev.architectfx.backend.utils.CancellationGroup;
+import io.github.palexdev.architectfx.backend.utils.TaskScope;
 
 /// Facade class which allows downloading Maven artifacts through [JResolve](https://github.com/palexdev/jresolve).
 ///
@@ -75,13 +82,35 @@ public class MavenHelper {
     }
 
     /// Downloads a series of Maven artifacts given their coordinates and returns the retrieved artifacts and dependencies.
+    ///
+    /// The download runs in a [TaskScope], so that the caller can abandon it by being interrupted (or by cancelling its
+    /// [CancellationGroup]), in which case a [CancellationException] is thrown.
+    ///
+    /// The resolver gets its own executor, which is shut down when this returns. This way, an abandoned download
+    /// doesn't keep fetching artifacts in background, all the transfers still in progress are interrupted.
     public static Map<Library, Path> downloadLibraries(String... coordinates) {
-        return new Resolve()
-            .withCache(Cache.standard(MAVEN_LOCAL))
-            .addDependencies(dependencies(coordinates))
-            .withExecutorService(Async.executor())
-            .fetch()
-            .run()
-            .libraries();
+        CancellationGroup.checkpoint();
+        ExecutorService transfers = Executors.newVirtualThreadPerTaskExecutor();
+        try (TaskScope scope = new TaskScope("maven")) {
+            Future<Map<Library, Path>> fetch = scope.fork(() -> new Resolve()
+                .withCache(Cache.standard(MAVEN_LOCAL))
+                .addDependencies(dependencies(coordinates))
+                .withExecutorService(transfers)
+                .fetch()
+                .run()
+                .libraries()
+            );
+            scope.join().throwIfFailed();
+            CancellationGroup.checkpoint();
+            return fetch.resultNow();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Download of %s was cancelled".formatted(Arrays.toString(coordinates)));
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException rex) throw rex;
+            throw new IllegalStateException("Failed to download " + Arrays.toString(coordinates), ex.getCause());
+        } finally {
+            transfers.shutdownNow();
+        }
     }
 }
\ No newline at end of file
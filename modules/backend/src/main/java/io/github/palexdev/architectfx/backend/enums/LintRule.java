@@ -0,0 +1,19 @@
+package io.github.palexdev.architectfx.backend.enums;
+
+/// This enumeration specifies all the performance anti-patterns detected by the
+/// [io.github.palexdev.architectfx.backend.lint.DocumentLinter].
+public enum LintRule {
+    /// A simple type name is neither imported explicitly nor contained by any star-imported package. The
+    /// [io.github.palexdev.architectfx.backend.utils.reflection.Scanner] will have to look it up in the JAR indices,
+    /// and scan the classpath if not found there.
+    UNRESOLVED_NAME,
+    /// A simple type name is resolved through star imports, which means probing several packages before finding it.
+    STAR_IMPORT,
+    /// The same constructor expression appears more than once, each occurrence is instantiated by reflection.
+    REPEATED_CONSTRUCTOR,
+    /// The UI tree is nested too deeply, which makes CSS and layout passes more expensive.
+    DEEP_NESTING,
+    /// A very large inline string, typically SVG path data, which must be parsed at every load.
+    LARGE_STRING,
+    ;
+}
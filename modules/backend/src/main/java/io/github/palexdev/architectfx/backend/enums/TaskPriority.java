@@ -0,0 +1,12 @@
+package io.github.palexdev.architectfx.backend.enums;
+
+/// Enumeration of the priority lanes of a [io.github.palexdev.architectfx.backend.utils.PriorityExecutor].
+/// Queued tasks are picked by priority first, and by submission order for equal priorities.
+public enum TaskPriority {
+    /// For tasks the user is actively waiting for, e.g. loading/reloading the preview.
+    INTERACTIVE,
+    /// The default priority.
+    NORMAL,
+    /// For tasks nobody waits for, e.g. saving previews to the disk.
+    BACKGROUND,
+}
@@ -24,12 +24,11 @@ import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import io.github.palexdev.architectfx.backend.jui.JUIParser.DocumentContext;
 import io.github.palexdev.architectfx.backend.model.UIDocument;
 import io.github.palexdev.architectfx.backend.model.UIObj;
-import org.antlr.v4.runtime.tree.ParseTree;
+import io.github.palexdev.architectfx.backend.utils.SymbolTable;
 import org.antlr.v4.runtime.tree.TerminalNode;
 
 /// Entry point fot parsing a _JUI_ document. This is responsible for parsing the dependencies, the imports, the controller
@@ -63,10 +62,16 @@ public class JUIVisitor {
     //================================================================================
     // Static Methods
     //================================================================================
+    /// Joins the given identifiers with dots. The result is not interned, the model classes take care of that when they
+    /// store it, see [SymbolTable].
     public static String toFQN(List<TerminalNode> tokens) {
         if (tokens == null || tokens.isEmpty()) return null;
-        return tokens.stream()
-            .map(ParseTree::getText)
-            .collect(Collectors.joining("."));
+        if (tokens.size() == 1) return tokens.getFirst().getText();
+        StringBuilder sb = new StringBuilder();
+        for (TerminalNode token : tokens) {
+            if (!sb.isEmpty()) sb.append('.');
+            sb.append(token.getText());
+        }
+        return sb.toString();
     }
 }
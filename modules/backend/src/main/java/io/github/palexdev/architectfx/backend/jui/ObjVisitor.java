@@ -19,6 +19,10 @@
 package io.github.palexdev.architectfx.backend.jui;
 
 
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
 import io.github.palexdev.architectfx.backend.jui.JUIParser.MethodsChainContext;
 import io.github.palexdev.architectfx.backend.jui.JUIParser.PropertyContext;
 import io.github.palexdev.architectfx.backend.jui.JUIParser.UiObjContext;
@@ -34,7 +38,7 @@ import io.github.palexdev.architectfx.backend.model.types.ObjConstructor;
 /// 2) The constructor if the node needs arguments or the user wants to use a factory/builder
 /// 3) Extra configuration expressed through method calls
 /// 4) Properties
-/// 5) Children, which are parsed recursively
+/// 5) Children, which are parsed depth-first with an explicit stack, see [#visit(UiObjContext)]
 ///
 /// _Note about children_\
 /// To make the syntax as pleasant as possible for UIs definition, I made it so any node defined inside another one are
@@ -51,7 +55,29 @@ public class ObjVisitor {
     //================================================================================
     // Methods
     //================================================================================
+    /// Visits the given node and its whole subtree. Children are visited with an explicit stack rather than by
+    /// recursion, so that deeply nested documents can't overflow the thread's stack.
     public UIObj visit(UiObjContext ctx) {
+        UIObj root = visitShallow(ctx);
+        Deque<Frame> frames = new ArrayDeque<>();
+        frames.push(new Frame(root, ctx.uiObj()));
+        while (!frames.isEmpty()) {
+            Frame frame = frames.peek();
+            if (frame.next == frame.children.size()) {
+                frames.pop();
+                continue;
+            }
+            UiObjContext childCtx = frame.children.get(frame.next++);
+            UIObj cObj = visitShallow(childCtx);
+            frame.obj.addChildren(cObj);
+            List<UiObjContext> children = childCtx.uiObj();
+            if (!children.isEmpty()) frames.push(new Frame(cObj, children));
+        }
+        return root;
+    }
+
+    /// Visits everything but the children of the given node.
+    protected UIObj visitShallow(UiObjContext ctx) {
         String type = JUIVisitor.toFQN(ctx.IDENTIFIER());
         UIObj obj = new UIObj(type);
 
@@ -67,7 +93,7 @@ public class ObjVisitor {
         // Method calls
         for (MethodsChainContext mcCtx : ctx.methodsChain()) {
             MethodsChain chain = MembersVisitor.INSTANCE.visit(mcCtx);
-            obj.getMethods().add(chain);
+            obj.addMethods(chain);
         }
 
         // Properties
@@ -75,13 +101,20 @@ public class ObjVisitor {
             ObjProperty property = PropertyVisitor.INSTANCE.visit(pCtx);
             obj.addProperty(property);
         }
+        return obj;
+    }
 
-        // Children
-        for (UiObjContext childCtx : ctx.uiObj()) {
-            UIObj cObj = visit(childCtx);
-            obj.addChildren(cObj);
-        }
+    //================================================================================
+    // Inner Classes
+    //================================================================================
+    private static class Frame {
+        private final UIObj obj;
+        private final List<UiObjContext> children;
+        private int next = 0;
 
-        return obj;
+        private Frame(UIObj obj, List<UiObjContext> children) {
+            this.obj = obj;
+            this.children = children;
+        }
     }
 }
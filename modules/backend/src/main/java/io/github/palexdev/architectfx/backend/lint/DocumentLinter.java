@@ -0,0 +1,282 @@
+/*
+ * Copyright (C) 2025 Parisi Alessandro - alessandro.parisi406@gmail.com
+ * This file is part of ArchitectFX (https://github.com/palexdev/ArchitectFX)
+ *
+ * ArchitectFX is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License
+ * as published by the Free Software Foundation; either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * ArchitectFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ArchitectFX. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.palexdev.architectfx.backend.lint;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+import io.github.palexdev.architectfx.backend.deps.DependencyManager;
+import io.github.palexdev.architectfx.backend.enums.LintRule;
+import io.github.palexdev.architectfx.backend.model.ObjProperty;
+import io.github.palexdev.architectfx.backend.model.UIDocument;
+import io.github.palexdev.architectfx.backend.model.UIObj;
+import io.github.palexdev.architectfx.backend.model.types.*;
+import io.github.palexdev.architectfx.backend.model.types.Value.*;
+import io.github.palexdev.architectfx.backend.utils.reflection.ImportsIndex;
+import io.github.palexdev.architectfx.backend.utils.reflection.Scanner;
+import io.github.palexdev.architectfx.backend.utils.reflection.Scanner.ScanScope;
+
+/// Static analyzer which inspects a [UIDocument] (without resolving it) and reports performance anti-patterns as
+/// [LintFinding]s, see [LintRule].
+///
+/// Every finding carries an estimated cost in milliseconds, computed from the constants defined here. These are rough
+/// figures, meant to rank the problems and give an idea of the order of magnitude, not to be accurate measurements.
+///
+/// The linter can optionally work with a [DependencyManager]. When available, star imports are checked against the
+/// actual classpath (see [DependencyManager#containsClass(String, String)], nothing is loaded), which allows telling
+/// apart the names found through star imports from the ones which will need a scan. Since linting usually runs in
+/// background, the manager should not be one that a load may change in the meantime, see [DependencyManager#snapshot()].
+public class DocumentLinter {
+    //================================================================================
+    // Static Properties
+    //================================================================================
+    public static final int MAX_DEPTH = 20;
+    public static final int MAX_STRING_LENGTH = 4096;
+
+    /// Estimated cost of a classpath scan issued by [Scanner#findClass(String)].
+    public static final double SCAN_COST = 250.0;
+    /// Estimated cost of looking up a simple name in the JAR indices, see [Scanner#lookup(String, ScanScope)].
+    public static final double INDEX_LOOKUP_COST = 0.05;
+    /// Estimated cost of checking whether a star-imported package contains a class.
+    public static final double PACKAGE_PROBE_COST = 0.01;
+    /// Estimated cost of creating an object by reflection.
+    public static final double INSTANTIATION_COST = 0.02;
+    /// Estimated additional CSS and layout cost for each level beyond [#MAX_DEPTH].
+    public static final double NESTING_COST = 0.1;
+    /// Estimated cost of parsing 1KB of inline data, like SVG paths.
+    public static final double STRING_COST_PER_KB = 0.2;
+
+    private static final Set<String> CORE_NAMES = Arrays.stream(Scanner.CORE_CLASS_CACHE)
+        .map(Class::getSimpleName)
+        .collect(Collectors.toUnmodifiableSet());
+
+    //================================================================================
+    // Properties
+    //================================================================================
+    private final DependencyManager dm;
+
+    //================================================================================
+    // Constructors
+    //================================================================================
+    public DocumentLinter() {
+        this(null);
+    }
+
+    public DocumentLinter(DependencyManager dm) {
+        this.dm = dm;
+    }
+
+    //================================================================================
+    // Methods
+    //================================================================================
+
+    /// @return the problems found in the given document, sorted by estimated cost, the most expensive first
+    public List<LintFinding> lint(UIDocument document) {
+        Session session = new Session();
+        if (document.getController() != null) session.visit(document.getController(), 0);
+        if (document.getRoot() != null) session.visit(document.getRoot(), 0);
+
+        List<LintFinding> findings = new ArrayList<>();
+        lintNames(document, session, findings);
+        session.constructors.forEach((expr, objs) -> {
+            if (objs.size() < 2) return;
+            findings.add(new LintFinding(
+                LintRule.REPEATED_CONSTRUCTOR,
+                "Constructor expression %s is repeated %d times".formatted(expr, objs.size()),
+                objs.getFirst(),
+                objs.size() * INSTANTIATION_COST
+            ));
+        });
+        if (session.maxDepth > MAX_DEPTH) {
+            findings.add(new LintFinding(
+                LintRule.DEEP_NESTING,
+                "UI tree is nested %d levels deep (max suggested is %d)".formatted(session.maxDepth, MAX_DEPTH),
+                session.deepest,
+                session.deepNodes * NESTING_COST
+            ));
+        }
+        session.strings.forEach((obj, length) -> findings.add(new LintFinding(
+            LintRule.LARGE_STRING,
+            "Inline string of %d characters in %s, consider loading it from a resource".formatted(length, obj.getType()),
+            obj,
+            (length / 1024.0) * STRING_COST_PER_KB
+        )));
+
+        findings.sort(Comparator.comparingDouble(LintFinding::cost).reversed());
+        return findings;
+    }
+
+    protected void lintNames(UIDocument document, Session session, List<LintFinding> findings) {
+        ImportsIndex index = new ImportsIndex(document.getImports());
+        List<String> packages = index.packages();
+        Scanner scanner = (dm != null) ? new Scanner(dm) : null;
+
+        session.names.forEach((name, obj) -> {
+            if (CORE_NAMES.contains(name)) return;
+            if (index.explicit(name) != null) return;
+
+            int found = (dm != null) ? index.indexOfPackage(name, dm) : -1;
+            if (found == 0) return;
+            if (found > 0) {
+                findings.add(new LintFinding(
+                    LintRule.STAR_IMPORT,
+                    "Type '%s' is found by probing %d star imports, add an explicit import".formatted(name, found + 1),
+                    obj,
+                    found * PACKAGE_PROBE_COST
+                ));
+                return;
+            }
+
+            if (dm == null && !packages.isEmpty()) {
+                findings.add(new LintFinding(
+                    LintRule.STAR_IMPORT,
+                    "Type '%s' may need up to %d star import probes and a scan, add an explicit import".formatted(name, packages.size()),
+                    obj,
+                    packages.size() * PACKAGE_PROBE_COST
+                ));
+                return;
+            }
+
+            // Names in the JAR indices are found without scanning
+            if (scanner != null && !scanner.lookup(name, ScanScope.DEPS).isEmpty()) {
+                findings.add(new LintFinding(
+                    LintRule.UNRESOLVED_NAME,
+                    "Type '%s' is not imported and is looked up in the JAR indices, add an explicit import".formatted(name),
+                    obj,
+                    packages.size() * PACKAGE_PROBE_COST + INDEX_LOOKUP_COST
+                ));
+                return;
+            }
+
+            String message = (scanner != null) ?
+                "Type '%s' is not imported nor in any indexed JAR and will trigger a classpath scan" :
+                "Type '%s' is not imported and may trigger a classpath scan";
+            findings.add(new LintFinding(
+                LintRule.UNRESOLVED_NAME,
+                message.formatted(name),
+                obj,
+                packages.size() * PACKAGE_PROBE_COST + SCAN_COST
+            ));
+        });
+    }
+
+    //================================================================================
+    // Inner Classes
+    //================================================================================
+
+    /// Collects the data needed by the rules in a single pass over the document.
+    ///
+    /// The UI tree is walked iteratively with [UIObj#preOrder()], so deep documents can't overflow the stack. The depth
+    /// of each object is derived from its parent's. Objects held by values (e.g. a property whose value is a node) are
+    /// not part of the children hierarchy, they are queued and walked afterward, at the depth of their owner.
+    protected static class Session {
+        private final Deque<Pending> pending = new ArrayDeque<>();
+        private final Map<String, UIObj> names = new LinkedHashMap<>();
+        private final Map<String, List<UIObj>> constructors = new LinkedHashMap<>();
+        private final Map<UIObj, Integer> strings = new LinkedHashMap<>();
+        private int maxDepth = 0;
+        private int deepNodes = 0;
+        private UIObj deepest;
+
+        protected void visit(UIObj root, int depth) {
+            pending.push(new Pending(root, depth));
+            Map<UIObj, Integer> depths = new IdentityHashMap<>();
+            while (!pending.isEmpty()) {
+                Pending next = pending.pop();
+                for (UIObj obj : next.root().preOrder()) {
+                    int d = (obj == next.root()) ? next.depth() : depths.get(obj.getParent()) + 1;
+                    if (!obj.getChildren().isEmpty()) depths.put(obj, d);
+                    inspect(obj, d);
+                }
+                depths.clear();
+            }
+        }
+
+        /// Collects the data of a single object, children excluded.
+        protected void inspect(UIObj obj, int depth) {
+            addName(obj.getType(), obj);
+            if (depth > maxDepth) {
+                maxDepth = depth;
+                deepest = obj;
+            }
+            if (depth > MAX_DEPTH) deepNodes++;
+
+            switch (obj.getConstructor()) {
+                case ObjConstructor.Simple s when s.args().length > 0 -> {
+                    String expr = obj.getType() + "::(" + describe(s.args()) + ")";
+                    constructors.computeIfAbsent(expr, e -> new ArrayList<>()).add(obj);
+                    visit(s.args(), obj, depth);
+                }
+                case ObjConstructor.Factory f -> visit(f.methods(), obj, depth);
+                case null, default -> {}
+            }
+            for (MethodsChain mc : obj.getMethods()) visit(mc, obj, depth);
+            for (ObjProperty property : obj.getProperties().values()) visit(property.getValue(), obj, depth);
+        }
+
+        protected void visit(Value<?> value, UIObj owner, int depth) {
+            switch (value) {
+                case UIObjValue v when v.getValue() != null -> pending.push(new Pending(v.getValue(), depth));
+                case MethodsValue v -> visit(v.getValue(), owner, depth);
+                case FieldValue v -> addName(v.getValue().getOwner(), owner);
+                case ArrayValue v -> {
+                    addName(v.getComponentType(), owner);
+                    visit(v.getValue(), owner, depth);
+                }
+                case CollectionValue v -> visit(v.getValue(), owner, depth);
+                case StringValue v when v.getValue() != null && v.getValue().length() > MAX_STRING_LENGTH ->
+                    strings.merge(owner, v.getValue().length(), Integer::sum);
+                case null, default -> {}
+            }
+        }
+
+        protected void visit(Value<?>[] values, UIObj owner, int depth) {
+            if (values == null) return;
+            for (Value<?> value : values) visit(value, owner, depth);
+        }
+
+        protected void visit(MethodsChain chain, UIObj owner, int depth) {
+            for (MethodCall call : chain.getMethods()) {
+                addName(call.getOwner(), owner);
+                visit(call.getArgs(), owner, depth);
+            }
+        }
+
+        protected void addName(String name, UIObj obj) {
+            // Fully qualified names never need imports nor scans
+            if (name == null || name.contains(".")) return;
+            names.putIfAbsent(name, obj);
+        }
+
+        protected static String describe(Value<?>[] values) {
+            return Arrays.stream(values)
+                .map(v -> switch (v) {
+                    case null -> "null";
+                    case UIObjValue o -> o.getValue().getType() + "{...}";
+                    case ArrayValue a -> a.getComponentType() + "[" + describe(a.getValue()) + "]";
+                    case CollectionValue c -> c.getCollectionType() + "(" + describe(c.getValue()) + ")";
+                    default -> String.valueOf(v.getValue());
+                })
+                .collect(Collectors.joining(", "));
+        }
+
+        /// An object queued to be walked, along with its depth.
+        protected record Pending(UIObj root, int depth) {}
+    }
+}
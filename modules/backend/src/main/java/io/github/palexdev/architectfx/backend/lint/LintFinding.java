@@ -0,0 +1,34 @@
+/*
+ * Copyright (C) 2025 Parisi Alessandro - alessandro.parisi406@gmail.com
+ * This file is part of ArchitectFX (https://github.com/palexdev/ArchitectFX)
+ *
+ * ArchitectFX is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License
+ * as published by the Free Software Foundation; either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * ArchitectFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ArchitectFX. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.palexdev.architectfx.backend.lint;
+
+import io.github.palexdev.architectfx.backend.enums.LintRule;
+import io.github.palexdev.architectfx.backend.model.UIObj;
+
+/// A performance problem found by the [DocumentLinter].
+///
+/// @param obj the first [UIObj] in which the problem occurs, may be `null` for document-level findings
+/// @param cost the estimated time wasted at every load, in milliseconds
+public record LintFinding(LintRule rule, String message, UIObj obj, double cost) {
+
+    @Override
+    public String toString() {
+        return "[%s] %s (~%.2f ms)".formatted(rule, message, cost);
+    }
+}
@@ -0,0 +1,259 @@
+/*
+ * Copyright (C) 2025 Parisi Alessandro - alessandro.parisi406@gmail.com
+ * This file is part of ArchitectFX (https://github.com/palexdev/ArchitectFX)
+ *
+ * ArchitectFX is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License
+ * as published by the Free Software Foundation; either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * ArchitectFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ArchitectFX. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.palexdev.architectfx.backend.loaders;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import io.github.palexdev.architectfx.backend.model.UIDocument;
+
+import org.tinylog.Logger;
+
+/// Parses many documents concurrently on a bounded pool of platform threads.
+///
+/// Parsing is CPU-bound, so by default the pool has as many threads as available processors. Every source is parsed
+/// by its own [Parser] invocation (for JUI documents this means every file gets its own lexer and parser), which keeps
+/// tasks independent from each other.
+///
+/// Sources are submitted lazily by a dedicated thread which never allows more than `maxInFlight` parses to be queued
+/// or running at the same time. This is the back-pressure mechanism which makes it safe to feed thousands of files
+/// to the parser without flooding the pool's queue (and memory) with pending tasks.
+///
+/// Every call to [#parse(List)] returns a [Batch] handle, which can be used to wait for the results (always in the
+/// same order of the given sources) or to cancel the remaining work.
+///
+/// Instances are reusable and must be closed once done to release the pool.
+///
+/// @param <R> the type of result produced by the parser function
+public class BatchParser<R> implements AutoCloseable {
+    //================================================================================
+    // Properties
+    //================================================================================
+    private final Parser<R> parser;
+    private final int maxInFlight;
+    private final ExecutorService executor;
+
+    //================================================================================
+    // Constructors
+    //================================================================================
+    public BatchParser(Parser<R> parser) {
+        this(parser, Runtime.getRuntime().availableProcessors());
+    }
+
+    public BatchParser(Parser<R> parser, int parallelism) {
+        this(parser, parallelism, parallelism * 4);
+    }
+
+    public BatchParser(Parser<R> parser, int parallelism, int maxInFlight) {
+        if (parallelism <= 0 || maxInFlight <= 0)
+            throw new IllegalArgumentException("Parallelism and max in-flight tasks must be greater than 0");
+        this.parser = parser;
+        this.maxInFlight = Math.max(parallelism, maxInFlight);
+        AtomicInteger count = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(parallelism, r -> {
+            Thread t = new Thread(r, "BatchParser-" + count.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /// Convenience factory to create a parser which produces [UIDocument]s by delegating to
+    /// [UILoader#parse(InputStream, URL)].
+    public static BatchParser<UIDocument> of(UILoader<?> loader) {
+        return new BatchParser<>(loader::parse);
+    }
+
+    //================================================================================
+    // Methods
+    //================================================================================
+
+    /// Starts parsing the given sources and returns immediately.
+    ///
+    /// @see Batch
+    public Batch parse(List<URL> sources) {
+        Batch batch = new Batch(List.copyOf(sources));
+        batch.start();
+        return batch;
+    }
+
+    /// Converts the given paths to [URL]s and delegates to [#parse(List)].
+    public Batch parseFiles(List<Path> files) throws IOException {
+        List<URL> urls = new ArrayList<>(files.size());
+        for (Path file : files) {
+            urls.add(file.toUri().toURL());
+        }
+        return parse(urls);
+    }
+
+    //================================================================================
+    // Overridden Methods
+    //================================================================================
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    //================================================================================
+    // Inner Classes
+    //================================================================================
+
+    /// Functional interface for the actual parsing logic. Implementations must be thread-safe, as they are invoked
+    /// concurrently. The given stream is closed by the [BatchParser].
+    @FunctionalInterface
+    public interface Parser<R> {
+        R parse(InputStream is, URL location) throws IOException;
+    }
+
+    /// The outcome of parsing a single source. Exactly one between `result` and `error` is not `null`.
+    public record Result<R>(URL location, R result, Throwable error, long nanos) {
+        public boolean isSuccess() {
+            return error == null;
+        }
+    }
+
+    /// Handle for a batch of sources submitted to a [BatchParser].
+    ///
+    /// Results are collected in an array indexed by source position, so [#await()] returns them in the original order
+    /// regardless of the order in which they complete.
+    ///
+    /// [#cancel()] stops the submission of new sources and interrupts the ones running. Sources that were never parsed
+    /// will have a [CancellationException] as their error.
+    public class Batch {
+        private final List<URL> sources;
+        private final AtomicReferenceArray<Result<R>> results;
+        private final AtomicReferenceArray<Future<?>> futures;
+        private final Semaphore permits = new Semaphore(maxInFlight);
+        private final CountDownLatch done;
+        private volatile boolean cancelled = false;
+        private Thread submitter;
+
+        private Batch(List<URL> sources) {
+            this.sources = sources;
+            this.results = new AtomicReferenceArray<>(sources.size());
+            this.futures = new AtomicReferenceArray<>(sources.size());
+            this.done = new CountDownLatch(sources.size());
+        }
+
+        private void start() {
+            submitter = Thread.ofVirtual().name("BatchParser-submitter").start(() -> {
+                int i = 0;
+                try {
+                    for (; i < sources.size(); i++) {
+                        if (cancelled) break;
+                        permits.acquire();
+                        submit(i);
+                    }
+                } catch (InterruptedException | RejectedExecutionException ex) {
+                    Logger.debug("Batch submission stopped at source {} of {}", i, sources.size());
+                } finally {
+                    for (; i < sources.size(); i++) {
+                        complete(i, new Result<>(sources.get(i), null, new CancellationException(), 0));
+                    }
+                }
+            });
+        }
+
+        /// Futures are published through an [AtomicReferenceArray] so that [#cancel()] sees them from any thread. A
+        /// cancellation that happens while a future is being published is handled by re-checking the flag afterward.
+        private void submit(int index) {
+            URL location = sources.get(index);
+            Future<?> future = executor.submit(() -> {
+                long start = System.nanoTime();
+                try (InputStream is = location.openStream()) {
+                    if (cancelled) throw new CancellationException();
+                    R res = parser.parse(is, location);
+                    complete(index, new Result<>(location, res, null, System.nanoTime() - start));
+                } catch (Throwable ex) {
+                    complete(index, new Result<>(location, null, ex, System.nanoTime() - start));
+                } finally {
+                    permits.release();
+                }
+            });
+            futures.set(index, future);
+            if (cancelled) cancel(index);
+        }
+
+        private void complete(int index, Result<R> result) {
+            if (results.compareAndSet(index, null, result)) done.countDown();
+        }
+
+        /// Blocks until all the sources have been parsed or cancelled.
+        ///
+        /// @return the results in the same order of the sources
+        public List<Result<R>> await() throws InterruptedException {
+            done.await();
+            return collect();
+        }
+
+        /// Same as [#await()] but waits at most for the given amount of time.
+        ///
+        /// @throws TimeoutException if the batch did not complete in time
+        public List<Result<R>> await(long timeout, TimeUnit unit) throws InterruptedException, TimeoutException {
+            if (!done.await(timeout, unit))
+                throw new TimeoutException("Batch did not complete in " + timeout + " " + unit);
+            return collect();
+        }
+
+        private List<Result<R>> collect() {
+            List<Result<R>> list = new ArrayList<>(results.length());
+            for (int i = 0; i < results.length(); i++) {
+                list.add(results.get(i));
+            }
+            return list;
+        }
+
+        /// Stops submitting new sources and interrupts the parses still running.
+        public void cancel() {
+            cancelled = true;
+            if (submitter != null) submitter.interrupt();
+            for (int i = 0; i < futures.length(); i++) cancel(i);
+        }
+
+        private void cancel(int index) {
+            Future<?> future = futures.get(index);
+            // Tasks cancelled before starting never get to complete their slot
+            if (future != null && future.cancel(true))
+                complete(index, new Result<>(sources.get(index), null, new CancellationException(), 0));
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        public boolean isDone() {
+            return done.getCount() == 0;
+        }
+
+        /// @return the number of sources which have been parsed (or cancelled) so far
+        public int completed() {
+            return (int) (sources.size() - done.getCount());
+        }
+
+        public int size() {
+            return sources.size();
+        }
+    }
+}
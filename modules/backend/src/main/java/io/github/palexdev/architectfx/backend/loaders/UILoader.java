@@ -32,6 +32,7 @@ import java.util.function.Supplier;
 
 import io.github.palexdev.architectfx.backend.model.UIDocument;
 import io.github.palexdev.architectfx.backend.resolver.DefaultResolver;
+import io.github.palexdev.architectfx.backend.resolver.NodeRecycler;
 import io.github.palexdev.architectfx.backend.resolver.Resolver;
 import io.github.palexdev.architectfx.backend.utils.CastUtils;
 import io.github.palexdev.architectfx.backend.utils.Progress;
@@ -58,6 +59,35 @@ public interface UILoader<T> {
         return load(url.openStream(), url);
     }
 
+    /// Converts the given input stream to a [UIDocument] without resolving it.
+    ///
+    /// Implementations must be thread-safe, as this may be called concurrently, see [#parseAll(List)].
+    UIDocument parse(InputStream is, URL location) throws IOException;
+
+    default UIDocument parse(File file) throws IOException {
+        try (FileInputStream fis = new FileInputStream(file)) {
+            return parse(fis, file.toURI().toURL());
+        }
+    }
+
+    default UIDocument parse(URL url) throws IOException {
+        try (InputStream is = url.openStream()) {
+            return parse(is, url);
+        }
+    }
+
+    /// Parses all the given sources concurrently by using a [BatchParser] with default settings.
+    /// This blocks until all the documents are parsed.
+    ///
+    /// For finer control (parallelism, back-pressure, cancellation), use the [BatchParser] directly.
+    ///
+    /// @return the parse results in the same order of the given sources
+    default List<BatchParser.Result<UIDocument>> parseAll(List<URL> sources) throws InterruptedException {
+        try (BatchParser<UIDocument> parser = BatchParser.of(this)) {
+            return parser.parse(sources).await();
+        }
+    }
+
     void attachChildren(T parent, List<T> children);
 
     default void onProgress(Progress progress) {
@@ -88,6 +118,7 @@ public interface UILoader<T> {
         private Supplier<Object> controllerFactory;
         private Function<URI, Resolver> resolverFactory;
         private Consumer<Progress> onProgress;
+        private NodeRecycler recycler;
 
         public Config() {
             resolverFactory = DefaultResolver::new;
@@ -115,6 +146,16 @@ public interface UILoader<T> {
             return this;
         }
 
+        public NodeRecycler getRecycler() {
+            return recycler;
+        }
+
+        /// Enables recycling of the instances between subsequent loads, see [NodeRecycler]. Disabled by default.
+        public Config setRecycler(NodeRecycler recycler) {
+            this.recycler = recycler;
+            return this;
+        }
+
         public Consumer<Progress> getOnProgress() {
             return onProgress;
         }
@@ -25,13 +25,16 @@ import io.github.palexdev.architectfx.backend.jui.JUIVisitor;
 import io.github.palexdev.architectfx.backend.loaders.UILoader;
 import io.github.palexdev.architectfx.backend.model.Initializable;
 import io.github.palexdev.architectfx.backend.model.UIDocument;
+import io.github.palexdev.architectfx.backend.resolver.NodeRecycler;
 import io.github.palexdev.architectfx.backend.resolver.Resolver;
+import io.github.palexdev.architectfx.backend.utils.CancellationGroup;
 import io.github.palexdev.architectfx.backend.utils.Progress;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CancellationException;
 import java.util.function.Supplier;
 import org.antlr.v4.runtime.CharStream;
 import org.antlr.v4.runtime.CharStreams;
@@ -94,23 +97,30 @@ public abstract class JUIBaseLoader<T> implements UILoader<T> {
     //================================================================================
     // Overridden Methods
     //================================================================================
+    /// Loads the given document in stages. Before each stage, and for each object being resolved, the load checks
+    /// whether it should be aborted, see [CancellationGroup#checkpoint()]. Interrupting the loading thread (or
+    /// cancelling its [CancellationGroup]) makes this throw a [CancellationException] as soon as possible.
     @Override
     public Loaded<T> load(UIDocument document) throws IOException {
         try {
             resolver = config().resolver(document.getLocation());
             resolver.context().setChildrenHandler(this::attachChildren);
+            resolver.context().setRecycler(config.getRecycler());
 
             // 1) Handle dependencies
+            CancellationGroup.checkpoint();
             onProgress("Adding dependencies", 0.0);
             resolver.context().getDependencyManager().addDeps(
                 document.getDependencies().toArray(String[]::new)
             );
 
             // 2) Handle imports
+            CancellationGroup.checkpoint();
             onProgress("Adding imports", 0.2);
             resolver.context().setImports(document.getImports());
 
             // 3) Handle controller
+            CancellationGroup.checkpoint();
             onProgress("Handling controller", 0.3);
             Optional<Object> controller = Optional.empty();
             if (config.getControllerFactory() != null) {
@@ -120,22 +130,37 @@ public abstract class JUIBaseLoader<T> implements UILoader<T> {
             }
 
             // 4) Instantiate UI graph
+            // Controllers can modify the nodes in ways the recycler cannot track (listeners, bindings, handlers...),
+            // so documents with a controller are never recycled
+            CancellationGroup.checkpoint();
             onProgress("Loading UI", 0.3);
+            NodeRecycler recycler = config.getRecycler();
+            if (recycler != null && controller.isPresent()) {
+                recycler.clear();
+                recycler = null;
+                resolver.context().setRecycler(null);
+            }
+            if (recycler != null) recycler.begin(document.getRoot());
             T root = resolver.resolveObj(document.getRoot());
+            if (recycler != null) recycler.retain(document.getRoot(), resolver.context().getInstancesUnmodifiable());
 
             // 5) Inject controller
+            CancellationGroup.checkpoint();
             onProgress("Injecting controller", 0.8);
             controller.ifPresent(resolver::injectController);
 
             // 6) Initialize controller
+            CancellationGroup.checkpoint();
             onProgress("Initializing controller", 0.9);
             controller.filter(c -> c instanceof Initializable)
                 .ifPresent(c -> ((Initializable) c).initialize());
 
             // 7) Finally return result
+            CancellationGroup.checkpoint();
             onProgress("Loaded!", 1.0);
             return new Loaded<>(document, root, controller.orElse(null));
         } catch (Exception ex) {
+            if (config.getRecycler() != null) config.getRecycler().clear();
             onProgress(Progress.CANCELED);
             throw ex;
         } finally {
@@ -146,11 +171,17 @@ public abstract class JUIBaseLoader<T> implements UILoader<T> {
 
     @Override
     public Loaded<T> load(InputStream is, URL location) throws IOException {
+        return load(parse(is, location));
+    }
+
+    /// Every call creates its own [JUILexer] and [JUIParser], which makes this safe to use concurrently.
+    @Override
+    public UIDocument parse(InputStream is, URL location) throws IOException {
         CharStream cs = CharStreams.fromStream(is);
         JUILexer lexer = new JUILexer(cs);
         CommonTokenStream cts = new CommonTokenStream(lexer);
         JUIParser parser = new JUIParser(cts);
-        return load(JUIVisitor.INSTANCE.visit(parser.document(), location));
+        return JUIVisitor.INSTANCE.visit(parser.document(), location);
     }
 
     @Override
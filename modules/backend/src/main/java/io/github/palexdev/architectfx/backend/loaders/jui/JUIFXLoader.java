@@ -22,15 +22,55 @@ package io.github.palexdev.architectfx.backend.loaders.jui;
 import java.io.IOException;
 import java.util.List;
 
+import io.github.palexdev.architectfx.backend.resolver.NodeRecycler;
+import javafx.scene.Group;
 import javafx.scene.Node;
 import javafx.scene.Parent;
+import javafx.scene.image.ImageView;
 import javafx.scene.layout.Pane;
+import javafx.scene.layout.Region;
+import javafx.scene.shape.Shape;
+import javafx.scene.text.Text;
 
 /// Concrete implementation of [JUIBaseLoader] to work with the JavaFX framework.\
 /// Although it allows to work on a generic [Node], the parent in [#attachChildren(Node, List)] is expected to have
 /// a children list field, otherwise ends with an [IOException].
 public class JUIFXLoader extends JUIBaseLoader<Node> {
 
+    //================================================================================
+    // Static Methods
+    //================================================================================
+
+    /// @return a [NodeRecycler] with reset policies for the common JavaFX types, meant to be set in the loader's
+    /// [Config#setRecycler(NodeRecycler)]:
+    /// - [Pane] and [Group]: children are removed, as they are going to be attached again
+    /// - Other [Region]s (e.g. controls): reused only if they have no children in the document, as their children list
+    /// may be managed by the skin
+    /// - [Shape]s (e.g. [Text]) and [ImageView]: leaf nodes, reused as they are
+    ///
+    /// All of them also require the new object to overwrite all the properties set by the previous one, see
+    /// [NodeRecycler#sameShape()].
+    ///
+    /// Loads usually run in background, where nodes belonging to a live scene must not be touched. So, nodes are only
+    /// taken from graphs which are detached from any scene: to benefit from recycling, remove the previous root from
+    /// its scene before reloading.
+    public static NodeRecycler recycler() {
+        NodeRecycler.ResetPolicy<Node> leaf = detached(NodeRecycler.sameShape());
+        return new NodeRecycler()
+            .register(Pane.class, detached(NodeRecycler.<Pane>sameShape().andThen(p -> p.getChildren().clear())))
+            .register(Group.class, detached(NodeRecycler.<Group>sameShape().andThen(g -> g.getChildren().clear())))
+            .register(Region.class, (r, previous, next) ->
+                previous.getChildren().isEmpty() && next.getChildren().isEmpty() && leaf.reset(r, previous, next)
+            )
+            .register(Shape.class, leaf)
+            .register(ImageView.class, leaf);
+    }
+
+    /// @return a policy which refuses nodes still attached to a scene, and delegates to the given one otherwise
+    protected static <N extends Node> NodeRecycler.ResetPolicy<N> detached(NodeRecycler.ResetPolicy<N> policy) {
+        return (node, previous, next) -> node.getScene() == null && policy.reset(node, previous, next);
+    }
+
     //================================================================================
     // Overridden Methods
     //================================================================================
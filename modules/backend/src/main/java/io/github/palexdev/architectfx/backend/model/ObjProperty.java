@@ -20,6 +20,7 @@ package io.github.palexdev.architectfx.backend.model;
 
 
 import io.github.palexdev.architectfx.backend.model.types.Value;
+import io.github.palexdev.architectfx.backend.utils.SymbolTable;
 
 /// Represent a property of a [UIObj]. Simply wraps two pieces of information:
 /// 1) The `name` of the property which must correspond to a field in the target object.
@@ -38,8 +39,9 @@ public class ObjProperty {
         this(name, null);
     }
 
+    /// The name is interned, as the same few properties are repeated all over large documents, see [SymbolTable].
     public ObjProperty(String name, Value<?> value) {
-        this.name = name;
+        this.name = SymbolTable.symbol(name);
         this.value = value;
     }
 
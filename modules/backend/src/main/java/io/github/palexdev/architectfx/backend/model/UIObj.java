@@ -20,9 +20,13 @@ package io.github.palexdev.architectfx.backend.model;
 
 
 import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import io.github.palexdev.architectfx.backend.model.types.MethodsChain;
 import io.github.palexdev.architectfx.backend.model.types.ObjConstructor;
+import io.github.palexdev.architectfx.backend.utils.SymbolTable;
 
 /// Core class which represents any kind of object in the UI tree. Objects in the document can appear everywhere:
 /// as values for properties, as arguments, as children.
@@ -50,7 +54,18 @@ import io.github.palexdev.architectfx.backend.model.types.ObjConstructor;
 /// [#removeChildren(UIObj...)]. Beware that for this reason, the list returned by [#getChildren()] is immutable!
 /// 3) `Children`. UI nodes typically form a graph/hierarchy of nodes.
 ///
+/// Documents may contain a huge number of objects, most of which have no methods, no children and just a few
+/// properties. For this reason, empty lists are shared and only allocated on the first addition, properties are kept
+/// in a small array rather than a map, and type names are interned through the [SymbolTable]. Interning happens only
+/// here, in the model classes, the parser passes the names as they are.
 public class UIObj implements Iterable<UIObj> {
+    //================================================================================
+    // Static Properties
+    //================================================================================
+    private static final ObjProperty[] NO_PROPERTIES = new ObjProperty[0];
+    /// Above this number of properties, lookups by name go through a hash index rather than a linear scan.
+    private static final int INDEX_THRESHOLD = 8;
+
     //================================================================================
     // Properties
     //================================================================================
@@ -58,17 +73,21 @@ public class UIObj implements Iterable<UIObj> {
     private UIObj parent;
     private final String type;
     private ObjConstructor constructor;
-    private final List<MethodsChain> methods = new ArrayList<>();
-    private final SequencedMap<String, ObjProperty> properties = new LinkedHashMap<>();
-    private final List<UIObj> children = new ArrayList<>();
+    private List<MethodsChain> methods = List.of();
+    private ObjProperty[] properties = NO_PROPERTIES;
+    private int propertiesCount = 0;
+    private Map<String, ObjProperty> propertiesIndex;
+    private PropertiesView propertiesView;
+    private List<UIObj> children = List.of();
 
     protected boolean root = false;
 
     //================================================================================
     // Constructors
     //================================================================================
+    /// The type is interned, as the same few types are repeated all over large documents, see [SymbolTable].
     public UIObj(String type) {
-        this.type = type;
+        this.type = SymbolTable.symbol(type);
     }
 
     //================================================================================
@@ -79,6 +98,8 @@ public class UIObj implements Iterable<UIObj> {
     ///
     /// Automatically handles the `parent` property of each child.
     public void addChildren(UIObj... children) {
+        if (children.length == 0) return;
+        if (!(this.children instanceof ArrayList)) this.children = new ArrayList<>(children.length);
         for (UIObj child : children) {
             this.children.add(child);
             child.parent = this;
@@ -93,7 +114,7 @@ public class UIObj implements Iterable<UIObj> {
     /// Automatically handles the `parent` property of each child.
     public void setChildren(UIObj... children) {
         this.children.forEach(c -> c.parent = null);
-        this.children.clear();
+        this.children = List.of();
         addChildren(children);
     }
 
@@ -101,6 +122,7 @@ public class UIObj implements Iterable<UIObj> {
     ///
     /// Automatically handles the `parent` property of each removed child.
     public void removeChildren(UIObj... children) {
+        if (this.children.isEmpty()) return;
         for (UIObj child : children) {
             if (this.children.remove(child)) {
                 child.parent = null;
@@ -108,15 +130,49 @@ public class UIObj implements Iterable<UIObj> {
         }
     }
 
+    /// @return this object and its descendants, parents before their children, children in document order. This is
+    /// the same as iterating over the object itself
+    public Iterable<UIObj> preOrder() {
+        return this;
+    }
+
+    /// @return this object and its descendants, children before their parents, children in document order
+    public Iterable<UIObj> postOrder() {
+        return () -> new PostOrderIterator(this);
+    }
+
+    /// @return this object and its descendants, level by level, children in document order
+    public Iterable<UIObj> breadthFirst() {
+        return () -> new BreadthFirstIterator(this);
+    }
+
+    /// @return a sequential stream of this object and its descendants, in pre-order
+    public Stream<UIObj> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /// @return a parallel stream of this object and its descendants, see [#spliterator()]
+    public Stream<UIObj> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
     //================================================================================
     // Overridden Methods
     //================================================================================
 
+    /// @return an iterator over this object and its descendants, in pre-order, see [UIObjIterator]
     @Override
     public Iterator<UIObj> iterator() {
         return new UIObjIterator(this);
     }
 
+    /// @return a spliterator over this object and its descendants, in pre-order, which can be split by subtrees, see
+    /// [TreeSpliterator]
+    @Override
+    public Spliterator<UIObj> spliterator() {
+        return new TreeSpliterator(this);
+    }
+
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder().append("UINode{");
@@ -134,7 +190,7 @@ public class UIObj implements Iterable<UIObj> {
     }
 
     public void setControllerId(String controllerId) {
-        this.controllerId = controllerId;
+        this.controllerId = SymbolTable.symbol(controllerId);
     }
 
     public UIObj getParent() {
@@ -153,24 +209,76 @@ public class UIObj implements Iterable<UIObj> {
         this.constructor = constructor;
     }
 
+    /// @return the chains of methods to invoke on this object, the list is immutable, see [#addMethods(MethodsChain...)]
     public List<MethodsChain> getMethods() {
-        return methods;
+        return methods.isEmpty() ? List.of() : Collections.unmodifiableList(methods);
     }
 
+    public void addMethods(MethodsChain... chains) {
+        if (chains.length == 0) return;
+        if (!(methods instanceof ArrayList)) methods = new ArrayList<>(chains.length);
+        Collections.addAll(methods, chains);
+    }
+
+    /// @return a read-only view of the properties, by name and in insertion order. Properties are stored in a small
+    /// array, since most objects have just a few of them, see [#addProperty(ObjProperty)]. The view is created once
+    /// and reflects later changes. For iterating without iterators, see [#getPropertiesCount()] and [#getProperty(int)]
     public SequencedMap<String, ObjProperty> getProperties() {
-        return properties;
+        if (propertiesView == null) propertiesView = new PropertiesView();
+        return propertiesView;
+    }
+
+    /// @return the number of properties of this object
+    public int getPropertiesCount() {
+        return propertiesCount;
     }
 
+    /// @return the property at the given index, in insertion order
+    /// @throws IndexOutOfBoundsException if the index is not in `[0, getPropertiesCount())`
+    public ObjProperty getProperty(int index) {
+        Objects.checkIndex(index, propertiesCount);
+        return properties[index];
+    }
+
+    /// Adds the given property, replacing the one with the same name if present (keeping its position).
     public void addProperty(ObjProperty property) {
-        properties.put(property.getName(), property);
+        String name = property.getName();
+        int i = indexOf(name);
+        if (i >= 0) {
+            properties[i] = property;
+        } else {
+            if (propertiesCount == properties.length)
+                properties = Arrays.copyOf(properties, Math.max(2, propertiesCount + (propertiesCount >> 1) + 1));
+            properties[propertiesCount++] = property;
+        }
+
+        if (propertiesIndex != null) {
+            propertiesIndex.put(name, property);
+        } else if (propertiesCount > INDEX_THRESHOLD) {
+            propertiesIndex = HashMap.newHashMap(propertiesCount * 2);
+            for (int j = 0; j < propertiesCount; j++) propertiesIndex.put(properties[j].getName(), properties[j]);
+        }
     }
 
     public Optional<ObjProperty> getProperty(String name) {
-        return Optional.ofNullable(properties.get(name));
+        return Optional.ofNullable(findProperty(name));
     }
 
     public List<UIObj> getChildren() {
-        return Collections.unmodifiableList(children);
+        return children.isEmpty() ? List.of() : Collections.unmodifiableList(children);
+    }
+
+    private ObjProperty findProperty(Object name) {
+        if (propertiesIndex != null) return propertiesIndex.get(name);
+        int i = indexOf(name);
+        return (i >= 0) ? properties[i] : null;
+    }
+
+    private int indexOf(Object name) {
+        for (int i = 0; i < propertiesCount; i++) {
+            if (properties[i].getName().equals(name)) return i;
+        }
+        return -1;
     }
 
     /// @return whether this obj is the root of the loaded document
@@ -181,8 +289,83 @@ public class UIObj implements Iterable<UIObj> {
     //================================================================================
     // Inner Classes
     //================================================================================
+
+    /// Read-only [SequencedMap] over the properties array of a [UIObj].
+    private class PropertiesView extends AbstractMap<String, ObjProperty> implements SequencedMap<String, ObjProperty> {
+        private final List<ObjProperty> values = new PropertiesList();
+
+        @Override
+        public int size() {
+            return propertiesCount;
+        }
+
+        @Override
+        public ObjProperty get(Object key) {
+            return findProperty(key);
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return findProperty(key) != null;
+        }
+
+        @Override
+        public Collection<ObjProperty> values() {
+            return values;
+        }
+
+        @Override
+        public Set<Entry<String, ObjProperty>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public Iterator<Entry<String, ObjProperty>> iterator() {
+                    Iterator<ObjProperty> it = values().iterator();
+                    return new Iterator<>() {
+                        @Override
+                        public boolean hasNext() {
+                            return it.hasNext();
+                        }
+
+                        @Override
+                        public Entry<String, ObjProperty> next() {
+                            ObjProperty p = it.next();
+                            return Map.entry(p.getName(), p);
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return propertiesCount;
+                }
+            };
+        }
+
+        @Override
+        public SequencedMap<String, ObjProperty> reversed() {
+            LinkedHashMap<String, ObjProperty> map = LinkedHashMap.newLinkedHashMap(propertiesCount);
+            for (int i = propertiesCount - 1; i >= 0; i--) map.put(properties[i].getName(), properties[i]);
+            return Collections.unmodifiableSequencedMap(map);
+        }
+    }
+
+    /// Read-only [List] over the properties array of a [UIObj], used as the values of [PropertiesView].
+    private class PropertiesList extends AbstractList<ObjProperty> implements RandomAccess {
+        @Override
+        public ObjProperty get(int index) {
+            return getProperty(index);
+        }
+
+        @Override
+        public int size() {
+            return propertiesCount;
+        }
+    }
+
+    /// Pre-order iterator. Traversals access the children lists directly and keep their state in an [ArrayDeque] (or
+    /// arrays), so walking a tree doesn't allocate per node.
     public static class UIObjIterator implements Iterator<UIObj> {
-        private final Stack<UIObj> stack = new Stack<>();
+        private final Deque<UIObj> stack = new ArrayDeque<>();
 
         public UIObjIterator(UIObj root) {
             if (root == null)
@@ -201,8 +384,154 @@ public class UIObj implements Iterable<UIObj> {
                 throw new NoSuchElementException("No more elements in the tree");
 
             UIObj curr = stack.pop();
-            curr.getChildren().forEach(stack::push);
+            List<UIObj> children = curr.children;
+            for (int i = children.size() - 1; i >= 0; i--) stack.push(children.get(i));
             return curr;
         }
     }
+
+    /// Post-order iterator. Keeps the path from the root to the current node, along with the index of the next child
+    /// to visit for each node on the path.
+    public static class PostOrderIterator implements Iterator<UIObj> {
+        private UIObj[] path = new UIObj[16];
+        private int[] indices = new int[16];
+        private int depth = 0;
+
+        public PostOrderIterator(UIObj root) {
+            if (root == null)
+                throw new NullPointerException("Root element cannot be null");
+            path[depth++] = root;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return depth > 0;
+        }
+
+        @Override
+        public UIObj next() {
+            if (!hasNext())
+                throw new NoSuchElementException("No more elements in the tree");
+
+            while (true) {
+                int top = depth - 1;
+                UIObj curr = path[top];
+                if (indices[top] < curr.children.size()) {
+                    UIObj child = curr.children.get(indices[top]++);
+                    if (depth == path.length) {
+                        path = Arrays.copyOf(path, depth * 2);
+                        indices = Arrays.copyOf(indices, depth * 2);
+                    }
+                    path[depth] = child;
+                    indices[depth] = 0;
+                    depth++;
+                    continue;
+                }
+                path[top] = null;
+                depth--;
+                return curr;
+            }
+        }
+    }
+
+    /// Breadth-first iterator, backed by an [ArrayDeque] used as a queue.
+    public static class BreadthFirstIterator implements Iterator<UIObj> {
+        private final Deque<UIObj> queue = new ArrayDeque<>();
+
+        public BreadthFirstIterator(UIObj root) {
+            if (root == null)
+                throw new NullPointerException("Root element cannot be null");
+            queue.add(root);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !queue.isEmpty();
+        }
+
+        @Override
+        public UIObj next() {
+            if (!hasNext())
+                throw new NoSuchElementException("No more elements in the tree");
+
+            UIObj curr = queue.poll();
+            queue.addAll(curr.children);
+            return curr;
+        }
+    }
+
+    /// Pre-order spliterator, meant for parallel analysis passes over large trees.
+    ///
+    /// The pending work is a stack of subtrees, the one on top being the next to traverse. Since subtrees are visited
+    /// one after the other, splitting hands the top half of the stack to a new spliterator, which is a prefix of the
+    /// remaining elements and thus preserves the encounter order. When a single subtree is left, it's expanded first:
+    /// its root becomes an element to emit on its own (the head) and its children become the pending subtrees.
+    public static class TreeSpliterator implements Spliterator<UIObj> {
+        private UIObj head;
+        private final Deque<UIObj> stack;
+        private long estimate = Long.MAX_VALUE;
+
+        public TreeSpliterator(UIObj root) {
+            if (root == null)
+                throw new NullPointerException("Root element cannot be null");
+            this.stack = new ArrayDeque<>();
+            stack.push(root);
+        }
+
+        private TreeSpliterator(UIObj head, Deque<UIObj> stack) {
+            this.head = head;
+            this.stack = stack;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super UIObj> action) {
+            if (head != null) {
+                UIObj curr = head;
+                head = null;
+                action.accept(curr);
+                return true;
+            }
+            UIObj curr = stack.poll();
+            if (curr == null) return false;
+            List<UIObj> children = curr.children;
+            for (int i = children.size() - 1; i >= 0; i--) stack.push(children.get(i));
+            action.accept(curr);
+            return true;
+        }
+
+        @Override
+        public Spliterator<UIObj> trySplit() {
+            if (head == null && stack.size() == 1) {
+                UIObj root = stack.peek();
+                if (root.children.size() < 2) return null;
+                stack.pop();
+                head = root;
+                List<UIObj> children = root.children;
+                for (int i = children.size() - 1; i >= 0; i--) stack.push(children.get(i));
+            }
+            if (stack.size() < 2) return null;
+
+            int n = stack.size() / 2;
+            Deque<UIObj> prefix = new ArrayDeque<>(n);
+            for (int i = 0; i < n; i++) prefix.add(stack.poll());
+            TreeSpliterator split = new TreeSpliterator(head, prefix);
+            head = null;
+            estimate >>>= 1;
+            split.estimate = estimate;
+            return split;
+        }
+
+        /// The size is not known without walking the subtrees. As for [Spliterators.AbstractSpliterator], the root
+        /// reports an unknown size and every split halves the estimate, which makes streams split into a number of
+        /// tasks proportional to the parallelism rather than down to single nodes.
+        @Override
+        public long estimateSize() {
+            return (head == null && stack.isEmpty()) ? 0 : estimate;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | NONNULL;
+        }
+    }
 }
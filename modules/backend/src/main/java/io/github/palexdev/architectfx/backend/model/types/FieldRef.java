@@ -21,6 +21,8 @@ package io.github.palexdev.architectfx.backend.model.types;
 
 import java.util.Objects;
 
+import io.github.palexdev.architectfx.backend.utils.SymbolTable;
+
 /// This class represents the reference to a field in a class/object.
 /// Wraps two values:
 /// 1) The owner class as a [String] if the field is static
@@ -36,12 +38,13 @@ public class FieldRef {
     // Constructors
     //================================================================================
     public FieldRef(String name) {
-        this.name = name;
+        this(null, name);
     }
 
+    /// The owner and the name are interned, see [SymbolTable].
     public FieldRef(String owner, String name) {
-        this.owner = owner;
-        this.name = name;
+        this.owner = SymbolTable.symbol(owner);
+        this.name = SymbolTable.symbol(name);
     }
 
     //================================================================================
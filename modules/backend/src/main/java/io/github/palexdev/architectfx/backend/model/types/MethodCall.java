@@ -21,6 +21,8 @@ package io.github.palexdev.architectfx.backend.model.types;
 
 import java.util.Arrays;
 
+import io.github.palexdev.architectfx.backend.utils.SymbolTable;
+
 /// Represents the invocation to a method. Wraps three pieces of information:
 /// 1) The _owner_ as a [String], basically indicates that the method is static, the value is the name of the class
 /// (simple or fully-qualified)
@@ -41,9 +43,10 @@ public class MethodCall {
         this(null, name, args);
     }
 
+    /// The owner and the name are interned, see [SymbolTable].
     public MethodCall(String owner, String name, Value<?>[] args) {
-        this.owner = owner;
-        this.name = name;
+        this.owner = SymbolTable.symbol(owner);
+        this.name = SymbolTable.symbol(name);
         this.args = args;
     }
 
@@ -25,6 +25,7 @@ import io.github.palexdev.architectfx.backend.enums.CollectionType;
 import io.github.palexdev.architectfx.backend.enums.Keyword;
 import io.github.palexdev.architectfx.backend.enums.ValueType;
 import io.github.palexdev.architectfx.backend.model.UIObj;
+import io.github.palexdev.architectfx.backend.utils.SymbolTable;
 
 /// Represents any possible kind of value (see [ValueType]) in the UI document. Effectively, this is an intermediate
 /// product which allows and simplify the load and management of the UI. The document's text is parsed into this
@@ -119,7 +120,7 @@ public abstract class Value<T> {
 
         public ArrayValue(Value<?>[] value, String componentType) {
             super(ValueType.ARRAY, value);
-            this.componentType = componentType;
+            this.componentType = SymbolTable.symbol(componentType);
         }
 
         /// @return the component type/class of the wrapped array as a [String]
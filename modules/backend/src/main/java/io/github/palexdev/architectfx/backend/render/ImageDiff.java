@@ -0,0 +1,98 @@
+/*
+ * Copyright (C) 2025 Parisi Alessandro - alessandro.parisi406@gmail.com
+ * This file is part of ArchitectFX (https://github.com/palexdev/ArchitectFX)
+ *
+ * ArchitectFX is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License
+ * as published by the Free Software Foundation; either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * ArchitectFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ArchitectFX. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.palexdev.architectfx.backend.render;
+
+/// Pixel-level comparison of two images of the same size, meant for regression snapshots produced by the
+/// [OffscreenRenderer].
+///
+/// Images are given as arrays of ARGB pixels, row by row. Two pixels are considered different if any of their channels
+/// differ by more than the given tolerance, which allows ignoring the small variations caused by anti-aliasing.
+public class ImageDiff {
+
+    //================================================================================
+    // Constructors
+    //================================================================================
+    private ImageDiff() {}
+
+    //================================================================================
+    // Static Methods
+    //================================================================================
+
+    /// Compares the given images pixel by pixel.
+    ///
+    /// @param tolerance the maximum difference allowed per channel, from 0 (exact match) to 255
+    /// @throws IllegalArgumentException if the arrays don't match the given size
+    public static Result compare(int[] expected, int[] actual, int width, int height, int tolerance) {
+        int n = width * height;
+        if (width < 0 || height < 0 || expected.length != n || actual.length != n)
+            throw new IllegalArgumentException(
+                "Expected %dx%d pixels but found %d and %d".formatted(width, height, expected.length, actual.length)
+            );
+
+        int[] mask = new int[n];
+        int different = 0;
+        int maxDelta = 0;
+        for (int i = 0; i < n; i++) {
+            int a = expected[i];
+            int b = actual[i];
+            if (a == b) continue;
+            int delta = delta(a, b);
+            if (delta > maxDelta) maxDelta = delta;
+            if (delta > tolerance) {
+                mask[i] = Result.MASK_COLOR;
+                different++;
+            }
+        }
+        return new Result(width, height, different, maxDelta, mask);
+    }
+
+    /// @return the maximum difference among the four channels of the given ARGB pixels
+    public static int delta(int a, int b) {
+        int max = 0;
+        for (int shift = 0; shift < 32; shift += 8) {
+            int d = Math.abs(((a >>> shift) & 0xFF) - ((b >>> shift) & 0xFF));
+            if (d > max) max = d;
+        }
+        return max;
+    }
+
+    //================================================================================
+    // Inner Classes
+    //================================================================================
+
+    /// The outcome of [ImageDiff#compare(int\[\], int\[\], int, int, int)].
+    ///
+    /// @param different the number of pixels that differ by more than the tolerance
+    /// @param maxDelta  the biggest channel difference found, regardless of the tolerance
+    /// @param mask      an ARGB image of the same size in which the different pixels are [#MASK_COLOR] and the others
+    ///                  are transparent
+    public record Result(int width, int height, int different, int maxDelta, int[] mask) {
+        public static final int MASK_COLOR = 0xFFFF0000;
+
+        /// @return the fraction of pixels that differ, from 0 to 1
+        public double ratio() {
+            int n = width * height;
+            return (n == 0) ? 0.0 : (double) different / n;
+        }
+
+        public boolean isEqual() {
+            return different == 0;
+        }
+    }
+}
@@ -0,0 +1,277 @@
+/*
+ * Copyright (C) 2025 Parisi Alessandro - alessandro.parisi406@gmail.com
+ * This file is part of ArchitectFX (https://github.com/palexdev/ArchitectFX)
+ *
+ * ArchitectFX is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License
+ * as published by the Free Software Foundation; either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * ArchitectFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ArchitectFX. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.palexdev.architectfx.backend.render;
+
+import java.net.URI;
+import java.net.URL;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+import io.github.palexdev.architectfx.backend.enums.TaskPriority;
+import io.github.palexdev.architectfx.backend.loaders.UILoader;
+import io.github.palexdev.architectfx.backend.loaders.jui.JUIFXLoader;
+import io.github.palexdev.architectfx.backend.model.UIDocument;
+import io.github.palexdev.architectfx.backend.utils.Async;
+import javafx.application.Platform;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+import javafx.scene.layout.StackPane;
+import org.tinylog.Logger;
+
+/// Renders UI documents to images without showing them, which allows producing thumbnails and regression snapshots in
+/// bulk.
+///
+/// Every render goes through two steps:
+/// 1) The document is loaded by one of the workers of the [#EXECUTOR], each render uses its own loader, see
+/// [#setLoaderFactory(Supplier)]
+/// 2) The loaded root is attached to an offscreen [Scene] of fixed size, which is then laid out and snapshot on the
+/// JavaFX thread
+///
+/// Creating scenes is expensive (CSS setup, stylesheets parsing), so they are reused: idle scenes are kept in a pool of
+/// up to [#getPoolSize()] elements, along with the image they are rendered to. Workers wait for their render to
+/// complete before taking the next job, so that the JavaFX thread is never flooded with more than one pending render
+/// per worker.
+///
+/// The JavaFX toolkit must be running. To render on machines without a display (CI, servers), start it with
+/// [#startHeadless()], which requires Monocle on the module path.
+public class OffscreenRenderer {
+    //================================================================================
+    // Static Properties
+    //================================================================================
+    /// The name of the [Async] executor used to load the documents to render.
+    public static final String EXECUTOR = "render";
+
+    //================================================================================
+    // Properties
+    //================================================================================
+    private final int width;
+    private final int height;
+    private final Deque<Slot> pool = new ArrayDeque<>();
+    private int poolSize = 2;
+    private int scenesCreated = 0;
+    private Supplier<UILoader<Node>> loaderFactory = JUIFXLoader::new;
+    private List<String> stylesheets = List.of();
+
+    //================================================================================
+    // Constructors
+    //================================================================================
+    public OffscreenRenderer(int width, int height) {
+        if (width <= 0 || height <= 0)
+            throw new IllegalArgumentException("Invalid size: %dx%d".formatted(width, height));
+        this.width = width;
+        this.height = height;
+    }
+
+    //================================================================================
+    // Static Methods
+    //================================================================================
+
+    /// Starts the JavaFX toolkit with the headless Monocle platform and software rendering. Does nothing if the toolkit
+    /// is already running.
+    public static void startHeadless() {
+        System.setProperty("glass.platform", "Monocle");
+        System.setProperty("monocle.platform", "Headless");
+        System.setProperty("prism.order", "sw");
+        System.setProperty("prism.text", "t2k");
+        try {
+            Platform.startup(() -> {});
+            Platform.setImplicitExit(false);
+        } catch (IllegalStateException ex) {
+            Logger.debug("JavaFX toolkit already started");
+        }
+    }
+
+    //================================================================================
+    // Methods
+    //================================================================================
+
+    /// Loads the document at the given location and renders it.
+    public CompletableFuture<Snapshot> render(URL source) {
+        return render(source, TaskPriority.BACKGROUND);
+    }
+
+    public CompletableFuture<Snapshot> render(URL source, TaskPriority priority) {
+        return Async.call(EXECUTOR, priority, () -> {
+            UILoader.Loaded<Node> loaded = loaderFactory.get().load(source);
+            return snapshot(source.toURI(), loaded.root());
+        });
+    }
+
+    /// Resolves the given, already parsed, document and renders it.
+    public CompletableFuture<Snapshot> render(UIDocument document, TaskPriority priority) {
+        return Async.call(EXECUTOR, priority, () -> {
+            UILoader.Loaded<Node> loaded = loaderFactory.get().load(document);
+            return snapshot(document.getLocation(), loaded.root());
+        });
+    }
+
+    /// Queues all the given sources for rendering.
+    ///
+    /// @return the futures of the renders, in the same order of the given sources
+    public List<CompletableFuture<Snapshot>> renderAll(List<URL> sources) {
+        List<CompletableFuture<Snapshot>> res = new ArrayList<>(sources.size());
+        for (URL source : sources) res.add(render(source));
+        return res;
+    }
+
+    /// Renders the given node on the JavaFX thread, blocking the calling thread until done.
+    protected Snapshot snapshot(URI source, Node root) {
+        if (Platform.isFxApplicationThread()) return renderNow(source, root);
+
+        CompletableFuture<Snapshot> future = new CompletableFuture<>();
+        Platform.runLater(() -> {
+            try {
+                future.complete(renderNow(source, root));
+            } catch (Throwable ex) {
+                future.completeExceptionally(ex);
+            }
+        });
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException rex) throw rex;
+            throw ex;
+        }
+    }
+
+    /// Must be called on the JavaFX thread. [Scene#snapshot(WritableImage)] takes care of applying CSS and laying out the
+    /// scene before rendering.
+    protected Snapshot renderNow(URI source, Node root) {
+        Slot slot = acquire();
+        try {
+            slot.container.getChildren().setAll(root);
+            WritableImage img = slot.scene.snapshot(slot.image);
+            int w = (int) img.getWidth();
+            int h = (int) img.getHeight();
+            int[] pixels = new int[w * h];
+            img.getPixelReader().getPixels(0, 0, w, h, PixelFormat.getIntArgbInstance(), pixels, 0, w);
+            return new Snapshot(source, w, h, pixels);
+        } finally {
+            // Detach the graph so that it can be collected while the scene sits in the pool
+            slot.container.getChildren().clear();
+            release(slot);
+        }
+    }
+
+    /// Discards all the idle scenes. Must be called on the JavaFX thread.
+    public void clearPool() {
+        pool.clear();
+    }
+
+    private Slot acquire() {
+        Slot slot = pool.poll();
+        if (slot != null) return slot;
+        scenesCreated++;
+        return new Slot();
+    }
+
+    private void release(Slot slot) {
+        if (pool.size() < poolSize) pool.push(slot);
+    }
+
+    //================================================================================
+    // Getters/Setters
+    //================================================================================
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    /// @return the maximum number of idle scenes kept for reuse
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    public OffscreenRenderer setPoolSize(int poolSize) {
+        this.poolSize = Math.max(0, poolSize);
+        return this;
+    }
+
+    /// @return the number of scenes created so far, renders served by the pool are not counted
+    public int getScenesCreated() {
+        return scenesCreated;
+    }
+
+    public Supplier<UILoader<Node>> getLoaderFactory() {
+        return loaderFactory;
+    }
+
+    /// Sets the function that creates the loaders. Loaders are not thread-safe, so the factory is called for every
+    /// render, by default it creates a new [JUIFXLoader].
+    public OffscreenRenderer setLoaderFactory(Supplier<UILoader<Node>> loaderFactory) {
+        this.loaderFactory = loaderFactory;
+        return this;
+    }
+
+    public List<String> getStylesheets() {
+        return stylesheets;
+    }
+
+    /// Sets the stylesheets applied to the scenes. Since scenes are reused, this also empties the pool, which means it
+    /// should be called on the JavaFX thread or before the first render.
+    public OffscreenRenderer setStylesheets(List<String> stylesheets) {
+        this.stylesheets = List.copyOf(stylesheets);
+        pool.clear();
+        return this;
+    }
+
+    //================================================================================
+    // Inner Classes
+    //================================================================================
+
+    /// The result of a render.
+    ///
+    /// @param source the location of the rendered document
+    /// @param pixels the rendered ARGB pixels, row by row
+    public record Snapshot(URI source, int width, int height, int[] pixels) {
+
+        /// Compares this snapshot to the given reference, see [ImageDiff#compare(int\[\], int\[\], int, int, int)].
+        public ImageDiff.Result diff(Snapshot expected, int tolerance) {
+            return ImageDiff.compare(expected.pixels, pixels, width, height, tolerance);
+        }
+
+        /// @return a new JavaFX image with the pixels of this snapshot
+        public WritableImage toImage() {
+            WritableImage img = new WritableImage(width, height);
+            img.getPixelWriter().setPixels(0, 0, width, height, PixelFormat.getIntArgbInstance(), pixels, 0, width);
+            return img;
+        }
+    }
+
+    /// A reusable scene along with the image it is rendered to.
+    private class Slot {
+        private final StackPane container = new StackPane();
+        private final Scene scene = new Scene(container, width, height);
+        private final WritableImage image = new WritableImage(width, height);
+
+        private Slot() {
+            scene.getStylesheets().setAll(stylesheets);
+        }
+    }
+}
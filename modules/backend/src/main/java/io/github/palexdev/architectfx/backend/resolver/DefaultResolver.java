@@ -25,12 +25,15 @@ import io.github.palexdev.architectfx.backend.model.ObjProperty;
 import io.github.palexdev.architectfx.backend.model.UIObj;
 import io.github.palexdev.architectfx.backend.model.types.*;
 import io.github.palexdev.architectfx.backend.model.types.Value.*;
+import io.github.palexdev.architectfx.backend.utils.CancellationGroup;
 import io.github.palexdev.architectfx.backend.utils.CastUtils;
 import io.github.palexdev.architectfx.backend.utils.reflection.ArrayUtils;
 import io.github.palexdev.architectfx.backend.utils.reflection.Reflector;
 import java.net.URI;
 import java.net.URL;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -72,25 +75,72 @@ public class DefaultResolver implements Resolver {
     //================================================================================
     // Overridden Methods
     //================================================================================
+    /// Resolves the given object and its whole subtree. The tree is walked with an explicit stack rather than by
+    /// recursion, so that arbitrarily deep documents can't overflow the thread's stack. For each object, the order of
+    /// operations is the same as a depth-first recursive walk:
+    /// 1) the object is instantiated and initialized, see [#resolveShallow(UIObj)]
+    /// 2) its children are resolved, in order
+    /// 3) the children are attached to the instance and the object is popped from the [Context]'s stack
+    ///
+    /// Children that resolve to `null` are passed as such to the children handler, and their subtree is skipped.
     @Override
     public <T> T resolveObj(UIObj obj) {
+        Object instance = resolveShallow(obj);
+        if (instance == null) return null;
+
+        Deque<Frame> frames = new ArrayDeque<>();
+        frames.push(new Frame(obj, instance));
+        while (!frames.isEmpty()) {
+            Frame frame = frames.peek();
+            List<UIObj> children = frame.obj.getChildren();
+            if (frame.next < children.size()) {
+                UIObj cObj = children.get(frame.next++);
+                Object cInstance = resolveShallow(cObj);
+                if (frame.children == null) frame.children = new ArrayList<>(children.size());
+                frame.children.add(cInstance);
+                if (cInstance != null) frames.push(new Frame(cObj, cInstance));
+                continue;
+            }
+
+            if (frame.children != null) context.attachChildren(frame.instance, frame.children);
+            context.popNode();
+            frames.pop();
+        }
+        return CastUtils.unchecked(instance);
+    }
+
+    /// Instantiates the given object, then sets its properties and invokes its methods. Children are not handled here.
+    /// If the instance is not `null`, the object is also pushed on the [Context]'s stack, and it's up to the caller to
+    /// pop it once the children are done.
+    ///
+    /// Before resolving the object, calls [CancellationGroup#checkpoint()], so that loads can be aborted by
+    /// interrupting the loading thread or by cancelling its group.
+    ///
+    /// If the [Context] has a [NodeRecycler], an instance from the previous load is reused when possible.
+    protected Object resolveShallow(UIObj obj) {
+        CancellationGroup.checkpoint();
         Reflector reflector = context.getReflector();
-        // 1) Instantiate
+        // 1) Instantiate (or recycle)
         String type = obj.getType();
-        T instance = switch (obj.getConstructor()) {
-            case ObjConstructor.Simple s -> {
-                Object[] args = resolveArgs(s.args());
-                yield reflector.instantiate(type, args);
-            }
-            case ObjConstructor.Factory f -> resolveMethodsChain(f.methods());
-            case null, default -> reflector.instantiate(type);
-        };
+        NodeRecycler recycler = context.getRecycler();
+        Object instance = (recycler != null) ? recycler.take(obj) : null;
+        if (instance == null) {
+            instance = switch (obj.getConstructor()) {
+                case ObjConstructor.Simple s -> {
+                    Object[] args = resolveArgs(s.args());
+                    yield reflector.instantiate(type, args);
+                }
+                case ObjConstructor.Factory f -> resolveMethodsChain(f.methods());
+                case null, default -> reflector.instantiate(type);
+            };
+        }
         if (instance == null) return null;
-        context.getInstances().put(obj, instance);
+        context.putInstance(obj, instance);
         context.pushNode(obj);
 
         // 2) Initialize
-        for (ObjProperty prop : obj.getProperties().values()) {
+        for (int i = 0; i < obj.getPropertiesCount(); i++) {
+            ObjProperty prop = obj.getProperty(i);
             if (prop instanceof CollectionProperty cp) {
                 handleCollectionProperty(instance, cp);
                 continue;
@@ -104,18 +154,6 @@ public class DefaultResolver implements Resolver {
         for (MethodsChain chain : obj.getMethods()) {
             resolveMethodsChain(chain);
         }
-
-        // Handle children
-        if (!obj.getChildren().isEmpty()) {
-            List<T> children = new ArrayList<>();
-            for (UIObj cObj : obj.getChildren()) {
-                T cInstance = resolveObj(cObj);
-                children.add(cInstance);
-            }
-            context.attachChildren(instance, children);
-        }
-
-        context.popNode();
         return instance;
     }
 
@@ -242,4 +280,22 @@ public class DefaultResolver implements Resolver {
     public Context context() {
         return context;
     }
+
+    //================================================================================
+    // Inner Classes
+    //================================================================================
+
+    /// State of an object being resolved by [#resolveObj(UIObj)]: the index of the next child to resolve and the
+    /// instances of the ones already resolved.
+    private static class Frame {
+        private final UIObj obj;
+        private final Object instance;
+        private List<Object> children;
+        private int next = 0;
+
+        private Frame(UIObj obj, Object instance) {
+            this.obj = obj;
+            this.instance = instance;
+        }
+    }
 }
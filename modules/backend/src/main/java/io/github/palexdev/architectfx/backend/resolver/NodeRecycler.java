@@ -0,0 +1,217 @@
+/*
+ * Copyright (C) 2025 Parisi Alessandro - alessandro.parisi406@gmail.com
+ * This file is part of ArchitectFX (https://github.com/palexdev/ArchitectFX)
+ *
+ * ArchitectFX is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License
+ * as published by the Free Software Foundation; either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * ArchitectFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ArchitectFX. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.palexdev.architectfx.backend.resolver;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+import io.github.palexdev.architectfx.backend.enums.CollectionHandleStrategy;
+import io.github.palexdev.architectfx.backend.loaders.jui.JUIFXLoader;
+import io.github.palexdev.architectfx.backend.model.CollectionProperty;
+import io.github.palexdev.architectfx.backend.model.ObjProperty;
+import io.github.palexdev.architectfx.backend.model.UIObj;
+import io.github.palexdev.architectfx.backend.model.types.ObjConstructor;
+import io.github.palexdev.architectfx.backend.utils.CastUtils;
+import org.tinylog.Logger;
+
+/// Opt-in mechanism to reuse the instances created by a load in the next load of the same document, which greatly
+/// reduces the garbage produced by rapid reload cycles.
+///
+/// After a load, the recycler retains the instances of the UI tree (the root and its descendants, objects used as
+/// property values are never recycled) along with their position in the tree, see [#retain(UIObj, Map)]. During the
+/// next load, before instantiating a [UIObj], the resolver asks the recycler for an instance, see [#take(UIObj)]. One is
+/// given back only if:
+/// 1) an instance was retained at the same position, and the object there had the same type
+/// 2) both objects are built with the no-args constructor, as there's no way to tell what the arguments did
+/// 3) a [ResetPolicy] is registered for the instance's class (or one of its superclasses), and it succeeds in resetting
+/// the instance
+///
+/// In any other case, the resolver falls back to a new instance. Types without a policy are never recycled. Documents
+/// with a controller are never recycled either, as there's no telling what the controller did to the instances.
+///
+/// __Beware__: recycled instances are modified while loading. The previous graph must not be in use (e.g. attached to
+/// a live scene) by then, policies should refuse instances that still are, see [JUIFXLoader#recycler()].
+public class NodeRecycler {
+    //================================================================================
+    // Static Properties
+    //================================================================================
+
+    private static final ResetPolicy<Object> SAME_SHAPE = (instance, previous, next) -> {
+        if (!previous.getMethods().isEmpty()) return false;
+        for (int i = 0; i < next.getPropertiesCount(); i++) {
+            if (next.getProperty(i) instanceof CollectionProperty cp && cp.getStrategy() == CollectionHandleStrategy.ADD)
+                return false;
+        }
+        Map<String, ObjProperty> nextProperties = next.getProperties();
+        for (int i = 0; i < previous.getPropertiesCount(); i++) {
+            if (!nextProperties.containsKey(previous.getProperty(i).getName())) return false;
+        }
+        return true;
+    };
+
+    //================================================================================
+    // Properties
+    //================================================================================
+    private final Map<Class<?>, ResetPolicy<?>> policies = new HashMap<>();
+    private final Map<Class<?>, Optional<ResetPolicy<?>>> resolved = new HashMap<>();
+    private Map<String, Retained> retained = new HashMap<>();
+    private Map<UIObj, String> positions = new IdentityHashMap<>();
+    private int reused = 0;
+
+    //================================================================================
+    // Static Methods
+    //================================================================================
+
+    /// @return a policy which doesn't touch the instance, but accepts it only if the new object is going to overwrite
+    /// everything the previous object did: all the properties previously set are set again, no collection is added to
+    /// (only set) and no methods were invoked on the previous instance
+    public static <T> ResetPolicy<T> sameShape() {
+        return CastUtils.unchecked(SAME_SHAPE);
+    }
+
+    //================================================================================
+    // Methods
+    //================================================================================
+
+    /// Registers the given policy for the given type and its subclasses, unless they have a more specific one.
+    public synchronized <T> NodeRecycler register(Class<T> type, ResetPolicy<? super T> policy) {
+        policies.put(type, policy);
+        resolved.clear();
+        return this;
+    }
+
+    /// Must be called before a load begins, computes the positions of the objects in the tree about to be resolved.
+    public synchronized void begin(UIObj root) {
+        positions = positions(root);
+        reused = 0;
+    }
+
+    /// @return a reset instance retained from the previous load for the given object, or `null` if there's none or it
+    /// cannot be reused, see the class docs
+    public synchronized <T> T take(UIObj next) {
+        String position = positions.get(next);
+        if (position == null) return null;
+        Retained old = retained.remove(position);
+        if (old == null || !old.obj().getType().equals(next.getType())) return null;
+        if (!isPlain(old.obj().getConstructor()) || !isPlain(next.getConstructor())) return null;
+
+        Object instance = old.instance();
+        ResetPolicy<Object> policy = policyFor(instance.getClass());
+        if (policy == null) return null;
+        try {
+            if (!policy.reset(instance, old.obj(), next)) return null;
+        } catch (Exception ex) {
+            Logger.warn("Failed to reset instance of type {} because:\n{}", next.getType(), ex);
+            return null;
+        }
+        reused++;
+        return CastUtils.unchecked(instance);
+    }
+
+    /// Must be called after a load succeeds, retains the instances of the given tree for the next load. Whatever was
+    /// left from the previous load is released.
+    public synchronized void retain(UIObj root, Map<UIObj, Object> instances) {
+        Map<String, Retained> retained = new HashMap<>();
+        positions(root).forEach((obj, pos) -> {
+            Object instance = instances.get(obj);
+            if (instance != null) retained.put(pos, new Retained(obj, instance));
+        });
+        this.retained = retained;
+        this.positions = new IdentityHashMap<>();
+    }
+
+    /// Releases all the retained instances, e.g. when a load fails or the document changes.
+    public synchronized void clear() {
+        retained = new HashMap<>();
+        positions = new IdentityHashMap<>();
+    }
+
+    /// @return the number of instances reused by the current or last load
+    public synchronized int reused() {
+        return reused;
+    }
+
+    /// @return the number of instances currently retained
+    public synchronized int retained() {
+        return retained.size();
+    }
+
+    protected ResetPolicy<Object> policyFor(Class<?> type) {
+        Optional<ResetPolicy<?>> policy = resolved.computeIfAbsent(type, t -> {
+            for (Class<?> c = t; c != null; c = c.getSuperclass()) {
+                ResetPolicy<?> p = policies.get(c);
+                if (p != null) return Optional.of(p);
+            }
+            return Optional.empty();
+        });
+        return CastUtils.unchecked(policy.orElse(null));
+    }
+
+    /// Positions are expressed as the indices of the objects in their parents' children lists, joined by dots. The
+    /// root is `0`.
+    protected static Map<UIObj, String> positions(UIObj root) {
+        Map<UIObj, String> positions = new IdentityHashMap<>();
+        if (root == null) return positions;
+        Deque<UIObj> stack = new ArrayDeque<>();
+        positions.put(root, "0");
+        stack.push(root);
+        while (!stack.isEmpty()) {
+            UIObj obj = stack.pop();
+            String pos = positions.get(obj);
+            List<UIObj> children = obj.getChildren();
+            for (int i = 0; i < children.size(); i++) {
+                UIObj child = children.get(i);
+                positions.put(child, pos + "." + i);
+                stack.push(child);
+            }
+        }
+        return positions;
+    }
+
+    private static boolean isPlain(ObjConstructor constructor) {
+        return constructor == null || (constructor instanceof ObjConstructor.Simple s && s.args().length == 0);
+    }
+
+    //================================================================================
+    // Inner Classes
+    //================================================================================
+
+    /// Defines how to bring an instance of a certain type back to a state in which it can be initialized again.
+    ///
+    /// @param <T> the type of instances the policy works on
+    @FunctionalInterface
+    public interface ResetPolicy<T> {
+
+        /// @param previous the object from which the instance was resolved in the previous load
+        /// @param next     the object for which the instance is going to be reused
+        /// @return whether the instance was reset and can be reused, `false` makes the resolver create a new instance
+        boolean reset(T instance, UIObj previous, UIObj next);
+
+        /// @return a policy that runs the given action after this succeeds
+        default ResetPolicy<T> andThen(Consumer<? super T> action) {
+            return (instance, previous, next) -> {
+                if (!reset(instance, previous, next)) return false;
+                action.accept(instance);
+                return true;
+            };
+        }
+    }
+
+    private record Retained(UIObj obj, Object instance) {}
+}
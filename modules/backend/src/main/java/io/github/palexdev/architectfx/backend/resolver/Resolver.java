@@ -98,7 +98,10 @@ public interface Resolver {
     /// Once it is instantiated and initialized (including its children if any), it is popped from the stack
     /// 3) Nodes can be marked by ids, [UIObj#getControllerId()]. Those who are marked are stored in a map `[String -> UIObj]`
     /// (automatically handled by [#pushNode(UIObj)]).
-    /// By resolving this mapping, and the one in point 1, we can easily inject marked nodes into the controller (if present),
+    /// 4) The reverse of the first map, `[Object -> UIObj]`, is kept too, so that one can go from a resolved object
+    /// back to its model in constant time (e.g., to find what a clicked node corresponds to in the document). Both maps
+    /// compare keys by identity and are updated together, see [#putInstance(UIObj, Object)].
+    /// By resolving the mappings in points 3 and 1, we can easily inject marked nodes into the controller (if present),
     /// [#injectController(Object)].
     class Context {
         // Deps
@@ -108,6 +111,7 @@ public interface Resolver {
         private Reflector reflector;
         private final URI location;
         private final Map<String, Object> injections = new HashMap<>();
+        private NodeRecycler recycler;
 
         // Unfortunately since the Context doesn't know anything about the UI model
         // we have to use a raw BiConsumer here
@@ -117,6 +121,7 @@ public interface Resolver {
         // State
         private final Map<String, UIObj> byId = new HashMap<>();
         private final Map<UIObj, Object> instances = new IdentityHashMap<>();
+        private final Map<Object, UIObj> objs = new IdentityHashMap<>();
         private final Deque<UIObj> stack = new ArrayDeque<>();
 
         public Context(URI location) {
@@ -138,9 +143,11 @@ public interface Resolver {
             return imports;
         }
 
+        /// Replaces the imports, and hands them to the [Scanner], which compiles them (see [Scanner#setImports(Set)]).
         public Context setImports(Set<String> imports) {
             this.imports.clear();
             this.imports.addAll(imports);
+            if (scanner != null) scanner.setImports(this.imports);
             return this;
         }
 
@@ -159,6 +166,7 @@ public interface Resolver {
 
         public Context setScanner(Scanner scanner) {
             this.scanner = scanner;
+            if (scanner != null) scanner.setImports(imports);
             return this;
         }
 
@@ -194,6 +202,17 @@ public interface Resolver {
             return this;
         }
 
+        public NodeRecycler getRecycler() {
+            return recycler;
+        }
+
+        /// Sets the [NodeRecycler] from which the resolver takes instances before creating new ones, `null` disables
+        /// recycling.
+        public Context setRecycler(NodeRecycler recycler) {
+            this.recycler = recycler;
+            return this;
+        }
+
         protected Map<String, UIObj> getNodesById() {
             return byId;
         }
@@ -210,6 +229,22 @@ public interface Resolver {
             return Collections.unmodifiableMap(instances);
         }
 
+        /// Maps the given [UIObj] to the given instance, and vice versa.
+        protected void putInstance(UIObj obj, Object instance) {
+            Object old = instances.put(obj, instance);
+            if (old != null && old != instance) objs.remove(old);
+            objs.put(instance, obj);
+        }
+
+        public Map<Object, UIObj> getObjsUnmodifiable() {
+            return Collections.unmodifiableMap(objs);
+        }
+
+        /// @return the [UIObj] from which the given instance was resolved, `null` if none
+        public UIObj getObj(Object instance) {
+            return objs.get(instance);
+        }
+
         public Object getInstanceByNodeId(String id) {
             UIObj uiObj = byId.get(id);
             return instances.get(uiObj);
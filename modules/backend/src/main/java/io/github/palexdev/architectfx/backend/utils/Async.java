@@ -20,15 +20,27 @@ package io.github.palexdev.architectfx.backend.utils;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.*;
 import java.util.function.Supplier;
 
+import io.github.palexdev.architectfx.backend.enums.TaskPriority;
+
+/// Utilities for running tasks asynchronously.
+///
+/// The basic methods use a shared, unbounded [ExecutorService] which uses virtual threads. For work that needs to be
+/// bounded or prioritized, there are named [PriorityExecutor]s, see [#executor(String)],
+/// [#run(String, TaskPriority, Runnable)] and [#call(String, TaskPriority, Callable)].
+///
+/// Any task submitted here while a [CancellationGroup] is active is tracked by that group.
 public class Async {
     //================================================================================
     // Static Properties
     //================================================================================
     private static final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private static final Map<String, PriorityExecutor> executors = new ConcurrentHashMap<>();
     public static final CompletableFuture<Object> EMPTY_FUTURE = CompletableFuture.completedFuture(null);
+    public static final int DEFAULT_PARALLELISM = Math.max(2, Runtime.getRuntime().availableProcessors());
 
     //================================================================================
     // Constructors
@@ -40,20 +52,51 @@ public class Async {
     //================================================================================
 
     /// Executes the given action in an [ExecutorService] which uses virtual threads.
+    ///
+    /// Cancelling the returned future also cancels (and interrupts) the task.
     public static CompletableFuture<Void> run(Runnable action) {
-        return CompletableFuture.runAsync(action, executor);
+        return call(Executors.callable(action, null));
     }
 
     /// Executes the given action in an [ExecutorService] which uses virtual threads and returns the result of the
     /// action once finished.
+    ///
+    /// Cancelling the returned future also cancels (and interrupts) the task.
     public static <T> CompletableFuture<T> call(Callable<T> action) {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                return action.call();
-            } catch (Exception ex) {
-                throw new CompletionException(ex);
+        CompletableFuture<T> future = new CompletableFuture<>();
+        FutureTask<T> task = new FutureTask<>(action) {
+            @Override
+            protected void done() {
+                complete(this, future);
             }
-        }, executor);
+        };
+        bind(task, future);
+        executor.execute(task);
+        return track(future);
+    }
+
+    /// Executes the given action in the [PriorityExecutor] with the given name, with the given priority.
+    ///
+    /// Cancelling the returned future also cancels (and interrupts) the task.
+    public static CompletableFuture<Void> run(String executor, TaskPriority priority, Runnable action) {
+        return call(executor, priority, Executors.callable(action, null));
+    }
+
+    /// Executes the given action in the [PriorityExecutor] with the given name, with the given priority, and returns
+    /// the result of the action once finished.
+    ///
+    /// Cancelling the returned future also cancels (and interrupts) the task.
+    public static <T> CompletableFuture<T> call(String executor, TaskPriority priority, Callable<T> action) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        PriorityExecutor.PriorityTask<T> task = new PriorityExecutor.PriorityTask<>(action, priority, CancellationGroup.current()) {
+            @Override
+            protected void done() {
+                complete(this, future);
+            }
+        };
+        bind(task, future);
+        executor(executor).execute(task);
+        return future;
     }
 
     /// Uses [CompletableFuture#delayedExecutor(long, TimeUnit, Executor)] and [CompletableFuture#runAsync(Runnable, Executor)].
@@ -101,4 +144,51 @@ public class Async {
     public static ExecutorService executor() {
         return executor;
     }
+
+    /// @return the [PriorityExecutor] with the given name, created with [#DEFAULT_PARALLELISM] if it does not exist yet
+    public static PriorityExecutor executor(String name) {
+        return executor(name, DEFAULT_PARALLELISM);
+    }
+
+    /// @return the [PriorityExecutor] with the given name, created with the given parallelism if it does not exist yet
+    public static PriorityExecutor executor(String name, int parallelism) {
+        return executors.computeIfAbsent(name, n -> new PriorityExecutor(n, parallelism));
+    }
+
+    /// @return the metrics of all the [PriorityExecutor]s created so far
+    public static List<PriorityExecutor.Metrics> metrics() {
+        return executors.values().stream()
+            .map(PriorityExecutor::metrics)
+            .toList();
+    }
+
+    /// A [CompletableFuture] is never bound to the thread computing it, so cancelling it can't interrupt anything. For
+    /// this reason, tasks run as [FutureTask]s and the futures returned to the callers are bound to them: cancelling a
+    /// future cancels and interrupts its task.
+    private static <T> void bind(FutureTask<T> task, CompletableFuture<T> future) {
+        future.whenComplete((r, ex) -> {
+            if (future.isCancelled()) task.cancel(true);
+        });
+    }
+
+    /// Completes the given future with the outcome of the given task, which must be done.
+    private static <T> void complete(FutureTask<T> task, CompletableFuture<T> future) {
+        if (task.isCancelled()) {
+            future.cancel(false);
+            return;
+        }
+        try {
+            future.complete(task.get());
+        } catch (ExecutionException ex) {
+            future.completeExceptionally(ex.getCause());
+        } catch (Exception ex) {
+            future.completeExceptionally(ex);
+        }
+    }
+
+    private static <T> CompletableFuture<T> track(CompletableFuture<T> future) {
+        CancellationGroup group = CancellationGroup.current();
+        if (group != null) group.track(future);
+        return future;
+    }
 }
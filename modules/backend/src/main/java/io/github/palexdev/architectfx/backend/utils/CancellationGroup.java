@@ -0,0 +1,148 @@
+/*
+ * Copyright (C) 2025 Parisi Alessandro - alessandro.parisi406@gmail.com
+ * This file is part of ArchitectFX (https://github.com/palexdev/ArchitectFX)
+ *
+ * ArchitectFX is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License
+ * as published by the Free Software Foundation; either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * ArchitectFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ArchitectFX. If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.palexdev.architectfx.backend.utils;
+
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+
+/// Groups a set of tasks so that they can be cancelled all at once, for example all the sub-tasks of a load operation
+/// when a new one starts.
+///
+/// Tasks can be added explicitly with [#track(Future)], or implicitly: while a group is active on a thread (see
+/// [#run(Runnable)], [#call(Callable)]), everything submitted through [Async] and [PriorityExecutor] is tracked by it.
+/// Tasks run by a [PriorityExecutor] inherit the group of their submitter, so nested submissions are tracked too.
+///
+/// Once cancelled, a group stays cancelled, and any task added afterward is cancelled immediately.
+public class CancellationGroup {
+    //================================================================================
+    // Static Properties
+    //================================================================================
+    private static final ThreadLocal<CancellationGroup> CURRENT = new ThreadLocal<>();
+    private static final int PURGE_THRESHOLD = 64;
+
+    //================================================================================
+    // Properties
+    //================================================================================
+    private final String name;
+    private final Set<Future<?>> futures = ConcurrentHashMap.newKeySet();
+    private volatile boolean cancelled = false;
+
+    //================================================================================
+    // Constructors
+    //================================================================================
+    public CancellationGroup(String name) {
+        this.name = name;
+    }
+
+    //================================================================================
+    // Static Methods
+    //================================================================================
+
+    /// @return the group active on the current thread, `null` if none
+    public static CancellationGroup current() {
+        return CURRENT.get();
+    }
+
+    /// Cooperative cancellation point for long-running operations.
+    ///
+    /// @throws CancellationException if the current thread was interrupted or the active group (if any) was cancelled
+    public static void checkpoint() {
+        if (Thread.currentThread().isInterrupted())
+            throw new CancellationException("Thread %s was interrupted".formatted(Thread.currentThread().getName()));
+        CancellationGroup group = CURRENT.get();
+        if (group != null && group.cancelled)
+            throw new CancellationException("Group %s was cancelled".formatted(group.name));
+    }
+
+    static void enter(CancellationGroup group) {
+        CURRENT.set(group);
+    }
+
+    static void exit() {
+        CURRENT.remove();
+    }
+
+    //================================================================================
+    // Methods
+    //================================================================================
+
+    /// Adds the given task to this group, or cancels it if the group was already cancelled.
+    public <F extends Future<?>> F track(F future) {
+        if (cancelled) {
+            future.cancel(true);
+            return future;
+        }
+        if (futures.size() >= PURGE_THRESHOLD) futures.removeIf(Future::isDone);
+        futures.add(future);
+        // The group may have been cancelled concurrently
+        if (cancelled) future.cancel(true);
+        return future;
+    }
+
+    /// Runs the given action on the current thread, with this group active.
+    public void run(Runnable action) {
+        CancellationGroup prev = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            action.run();
+        } finally {
+            CURRENT.set(prev);
+        }
+    }
+
+    /// Calls the given action on the current thread, with this group active.
+    public <T> T call(Callable<T> action) throws Exception {
+        CancellationGroup prev = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            return action.call();
+        } finally {
+            CURRENT.set(prev);
+        }
+    }
+
+    /// Cancels all the tasks in this group, interrupting them if running.
+    ///
+    /// Interruption requires the futures to be bound to their threads: [FutureTask]s are, and so are the futures
+    /// returned by [Async], while a plain [java.util.concurrent.CompletableFuture] can only be marked as cancelled.
+    public void cancel() {
+        cancelled = true;
+        for (Future<?> future : futures) future.cancel(true);
+        futures.clear();
+    }
+
+    /// @return the number of tasks in this group which are not done yet
+    public int pending() {
+        return (int) futures.stream().filter(f -> !f.isDone()).count();
+    }
+
+    //================================================================================
+    // Getters
+    //================================================================================
+    public String getName() {
+        return name;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+}
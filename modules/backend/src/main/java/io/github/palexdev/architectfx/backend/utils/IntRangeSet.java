@@ -0,0 +1,258 @@
+/*
+ * Copyright (C) 2025 Parisi Alessandro - alessandro.parisi406@gmail.com
+ * This file is part of ArchitectFX (https://github.com/palexdev/ArchitectFX)
+ *
+ * ArchitectFX is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License
+ * as published by the Free Software Foundation; either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * ArchitectFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ArchitectFX. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.palexdev.architectfx.backend.utils;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/// Set of non-negative ints stored as a sorted list of disjoint, non-adjacent runs `[start, end)`.
+///
+/// Contiguous selections, like the ones made with shift-click, take a single run no matter how many indexes they
+/// include. Queries are `O(log r)`, where `r` is the number of runs; range updates and shifts are `O(r)` in the worst
+/// case (array copies), and they never allocate per index.
+///
+/// Every operation which actually modifies the set increments its [#version()], which allows callers to tell whether a
+/// series of operations changed anything without comparing the contents.
+public class IntRangeSet {
+    //================================================================================
+    // Properties
+    //================================================================================
+    private int[] starts = new int[4];
+    private int[] ends = new int[4];
+    private int runs = 0;
+    private int size = 0;
+    private int version = 0;
+
+    //================================================================================
+    // Methods
+    //================================================================================
+
+    /// @return whether the given int is in the set
+    public boolean contains(int value) {
+        int i = runOf(value);
+        return i >= 0 && value < ends[i];
+    }
+
+    /// Adds all the ints in `[from, to)`.
+    public void add(int from, int to) {
+        if (from >= to) return;
+        // First run which ends at or after from (touching runs are merged), last run starting at or before to
+        int first = firstEndingAtOrAfter(from);
+        int last = runOf(to);
+        if (first > last) {
+            insertRun(first, from, to);
+            size += to - from;
+            return;
+        }
+
+        int start = Math.min(from, starts[first]);
+        int end = Math.max(to, ends[last]);
+        if (first == last && start == starts[first] && end == ends[first]) return;
+        version++;
+        int removed = 0;
+        for (int i = first; i <= last; i++) removed += ends[i] - starts[i];
+        starts[first] = start;
+        ends[first] = end;
+        deleteRuns(first + 1, last + 1);
+        size += (end - start) - removed;
+    }
+
+    /// Removes all the ints in `[from, to)`.
+    public void remove(int from, int to) {
+        if (from >= to || runs == 0) return;
+        int first = firstEndingAfter(from);
+        int last = runOf(to - 1);
+        if (first > last) return;
+
+        int headEnd = Math.min(from, ends[first]);
+        boolean keepHead = starts[first] < from;
+        boolean keepTail = ends[last] > to;
+        int tailEnd = ends[last];
+        int removed = 0;
+        for (int i = first; i <= last; i++) removed += ends[i] - starts[i];
+        int headStart = starts[first];
+
+        deleteRuns(first, last + 1);
+        int at = first;
+        if (keepHead) {
+            insertRun(at++, headStart, headEnd);
+            removed -= headEnd - headStart;
+        }
+        if (keepTail) {
+            insertRun(at, to, tailEnd);
+            removed -= tailEnd - to;
+        }
+        size -= removed;
+    }
+
+    /// To be called when `count` elements are inserted at the given position of the underlying list. Every int
+    /// greater or equal to `at` is shifted up by `count`.
+    public void insertShift(int at, int count) {
+        if (count <= 0 || runs == 0) return;
+        int i = firstEndingAfter(at);
+        if (i == runs) return;
+        if (starts[i] < at) {
+            // Split the run containing the position
+            int end = ends[i];
+            ends[i] = at;
+            insertRun(++i, at, end);
+        }
+        for (int j = i; j < runs; j++) {
+            starts[j] += count;
+            ends[j] += count;
+        }
+        version++;
+    }
+
+    /// To be called when `count` elements are removed starting from the given position of the underlying list. The
+    /// ints in `[at, at + count)` are removed, the ones after are shifted down by `count`.
+    public void removeShift(int at, int count) {
+        if (count <= 0 || runs == 0) return;
+        remove(at, at + count);
+        int i = firstEndingAfter(at);
+        if (i < runs) version++;
+        for (int j = i; j < runs; j++) {
+            starts[j] -= count;
+            ends[j] -= count;
+        }
+        // The runs before and after the removed range may now be adjacent
+        if (i > 0 && i < runs && ends[i - 1] == starts[i]) {
+            ends[i - 1] = ends[i];
+            deleteRuns(i, i + 1);
+        }
+    }
+
+    public void clear() {
+        if (runs > 0) version++;
+        runs = 0;
+        size = 0;
+    }
+
+    /// Calls the given action for every int in the set, in ascending order.
+    public void forEach(IntConsumer action) {
+        for (int i = 0; i < runs; i++) {
+            for (int v = starts[i]; v < ends[i]; v++) action.accept(v);
+        }
+    }
+
+    /// @return the ints in the set, in ascending order
+    public int[] toArray() {
+        int[] res = new int[size];
+        int k = 0;
+        for (int i = 0; i < runs; i++) {
+            for (int v = starts[i]; v < ends[i]; v++) res[k++] = v;
+        }
+        return res;
+    }
+
+    /// @return the smallest int in the set, `-1` if empty
+    public int first() {
+        return (runs == 0) ? -1 : starts[0];
+    }
+
+    /// @return the greatest int in the set, `-1` if empty
+    public int last() {
+        return (runs == 0) ? -1 : ends[runs - 1] - 1;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /// @return the number of runs in the set
+    public int runs() {
+        return runs;
+    }
+
+    /// @return a counter incremented every time the set is modified
+    public int version() {
+        return version;
+    }
+
+    /// @return the index of the last run starting at or before the given value, `-1` if none
+    private int runOf(int value) {
+        int lo = 0, hi = runs - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            if (starts[mid] <= value) {
+                lo = mid + 1;
+            } else {
+                hi = mid - 1;
+            }
+        }
+        return hi;
+    }
+
+    /// @return the index of the first run whose end is greater or equal to the given value, `runs` if none
+    private int firstEndingAtOrAfter(int value) {
+        int lo = 0, hi = runs;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (ends[mid] < value) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /// @return the index of the first run whose end is greater than the given value, `runs` if none
+    private int firstEndingAfter(int value) {
+        return firstEndingAtOrAfter(value + 1);
+    }
+
+    private void insertRun(int at, int start, int end) {
+        if (runs == starts.length) {
+            starts = Arrays.copyOf(starts, runs * 2);
+            ends = Arrays.copyOf(ends, runs * 2);
+        }
+        System.arraycopy(starts, at, starts, at + 1, runs - at);
+        System.arraycopy(ends, at, ends, at + 1, runs - at);
+        starts[at] = start;
+        ends[at] = end;
+        runs++;
+        version++;
+    }
+
+    private void deleteRuns(int from, int to) {
+        if (from >= to) return;
+        System.arraycopy(starts, to, starts, from, runs - to);
+        System.arraycopy(ends, to, ends, from, runs - to);
+        runs -= to - from;
+        version++;
+    }
+
+    //================================================================================
+    // Overridden Methods
+    //================================================================================
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < runs; i++) {
+            if (i > 0) sb.append(", ");
+            sb.append(starts[i]).append("..").append(ends[i] - 1);
+        }
+        return sb.append("]").toString();
+    }
+}
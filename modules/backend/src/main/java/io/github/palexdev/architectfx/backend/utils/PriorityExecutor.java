@@ -0,0 +1,198 @@
+/*
+ * Copyright (C) 2025 Parisi Alessandro - alessandro.parisi406@gmail.com
+ * This file is part of ArchitectFX (https://github.com/palexdev/ArchitectFX)
+ *
+ * ArchitectFX is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License
+ * as published by the Free Software Foundation; either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * ArchitectFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ArchitectFX. If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.palexdev.architectfx.backend.utils;
+
+import java.util.Arrays;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.github.palexdev.architectfx.backend.enums.TaskPriority;
+
+/// A bounded [ThreadPoolExecutor] which runs at most `parallelism` tasks at once on virtual threads. Queued tasks are
+/// ordered by [TaskPriority], so that interactive work jumps ahead of background work submitted earlier.
+///
+/// Every task submitted here is wrapped in a [PriorityTask]. Tasks submitted through the standard [ExecutorService]
+/// methods get [TaskPriority#NORMAL], use [#submit(TaskPriority, Callable)] or [#withPriority(TaskPriority)] otherwise.
+///
+/// The executor also collects some metrics, see [#metrics()].
+///
+/// Instances are usually obtained through [Async#executor(String)].
+public class PriorityExecutor extends ThreadPoolExecutor {
+    //================================================================================
+    // Static Properties
+    //================================================================================
+    public static final int LATENCY_SAMPLES = 1024;
+
+    //================================================================================
+    // Properties
+    //================================================================================
+    private final String name;
+    private final long[] latencies = new long[LATENCY_SAMPLES];
+    private long samples = 0;
+
+    //================================================================================
+    // Constructors
+    //================================================================================
+    public PriorityExecutor(String name, int parallelism) {
+        super(
+            parallelism, parallelism,
+            30, TimeUnit.SECONDS,
+            new PriorityBlockingQueue<>(),
+            Thread.ofVirtual().name(name + "-", 0).factory()
+        );
+        this.name = name;
+        allowCoreThreadTimeOut(true);
+    }
+
+    //================================================================================
+    // Methods
+    //================================================================================
+
+    /// Submits the given action with the given priority.
+    public <T> PriorityTask<T> submit(TaskPriority priority, Callable<T> action) {
+        PriorityTask<T> task = new PriorityTask<>(action, priority, CancellationGroup.current());
+        execute(task);
+        return task;
+    }
+
+    /// @return an [Executor] view of this which submits tasks with the given priority. Useful for APIs like
+    /// [CompletableFuture#runAsync(Runnable, Executor)]
+    public Executor withPriority(TaskPriority priority) {
+        return r -> execute(new PriorityTask<>(Executors.callable(r, null), priority, CancellationGroup.current()));
+    }
+
+    /// @return a snapshot of this executor's state. Latency is measured from submission to completion and computed
+    /// over the last [#LATENCY_SAMPLES] tasks
+    public Metrics metrics() {
+        long[] sorted;
+        synchronized (latencies) {
+            sorted = Arrays.copyOf(latencies, (int) Math.min(samples, LATENCY_SAMPLES));
+        }
+        Arrays.sort(sorted);
+        return new Metrics(
+            name,
+            getQueue().size(),
+            getActiveCount(),
+            getCompletedTaskCount(),
+            percentile(sorted, 0.5),
+            percentile(sorted, 0.95),
+            percentile(sorted, 0.99)
+        );
+    }
+
+    protected void record(long nanos) {
+        synchronized (latencies) {
+            latencies[(int) (samples++ % LATENCY_SAMPLES)] = nanos;
+        }
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        if (sorted.length == 0) return 0.0;
+        int idx = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.clamp(idx, 0, sorted.length - 1)] / 1_000_000.0;
+    }
+
+    //================================================================================
+    // Overridden Methods
+    //================================================================================
+    @Override
+    public void execute(Runnable command) {
+        if (!(command instanceof PriorityTask<?>))
+            command = new PriorityTask<>(Executors.callable(command, null), TaskPriority.NORMAL, CancellationGroup.current());
+        super.execute(command);
+    }
+
+    @Override
+    protected <T> RunnableFuture<T> newTaskFor(Callable<T> callable) {
+        return new PriorityTask<>(callable, TaskPriority.NORMAL, CancellationGroup.current());
+    }
+
+    @Override
+    protected <T> RunnableFuture<T> newTaskFor(Runnable runnable, T value) {
+        return new PriorityTask<>(Executors.callable(runnable, value), TaskPriority.NORMAL, CancellationGroup.current());
+    }
+
+    @Override
+    protected void beforeExecute(Thread t, Runnable r) {
+        if (r instanceof PriorityTask<?> task) CancellationGroup.enter(task.getGroup());
+    }
+
+    @Override
+    protected void afterExecute(Runnable r, Throwable t) {
+        CancellationGroup.exit();
+        if (r instanceof PriorityTask<?> task && !task.isCancelled())
+            record(System.nanoTime() - task.getSubmitted());
+    }
+
+    //================================================================================
+    // Getters
+    //================================================================================
+    public String getName() {
+        return name;
+    }
+
+    //================================================================================
+    // Inner Classes
+    //================================================================================
+
+    /// A [FutureTask] which is ordered by priority and then by creation order. If created while a [CancellationGroup]
+    /// is active, the task is tracked by the group, and it also becomes the active group for the task's code, so that
+    /// nested submissions are tracked as well.
+    public static class PriorityTask<T> extends FutureTask<T> implements Comparable<PriorityTask<?>> {
+        private static final AtomicLong SEQUENCE = new AtomicLong();
+
+        private final TaskPriority priority;
+        private final CancellationGroup group;
+        private final long seq = SEQUENCE.getAndIncrement();
+        private final long submitted = System.nanoTime();
+
+        public PriorityTask(Callable<T> callable, TaskPriority priority, CancellationGroup group) {
+            super(callable);
+            this.priority = priority;
+            this.group = group;
+            if (group != null) group.track(this);
+        }
+
+        @Override
+        public int compareTo(PriorityTask<?> o) {
+            int cmp = priority.compareTo(o.priority);
+            return (cmp != 0) ? cmp : Long.compare(seq, o.seq);
+        }
+
+        public TaskPriority getPriority() {
+            return priority;
+        }
+
+        public CancellationGroup getGroup() {
+            return group;
+        }
+
+        public long getSubmitted() {
+            return submitted;
+        }
+    }
+
+    /// Snapshot of the state of a [PriorityExecutor], latencies are expressed in milliseconds.
+    public record Metrics(String name, int queued, int active, long completed, double p50, double p95, double p99) {
+        @Override
+        public String toString() {
+            return "%s: queued=%d, active=%d, completed=%d, latency p50/p95/p99=%.2f/%.2f/%.2f ms"
+                .formatted(name, queued, active, completed, p50, p95, p99);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (C) 2025 Parisi Alessandro - alessandro.parisi406@gmail.com
+ * This file is part of ArchitectFX (https://github.com/palexdev/ArchitectFX)
+ *
+ * ArchitectFX is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License
+ * as published by the Free Software Foundation; either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * ArchitectFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ArchitectFX. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.palexdev.architectfx.backend.utils;
+
+import java.lang.ref.WeakReference;
+import java.util.WeakHashMap;
+
+/// A table of canonical strings, used while parsing documents to store the names of types, properties and methods only
+/// once, no matter how many times they appear.
+///
+/// Unlike [String#intern()], symbols are only weakly referenced: once no model refers to them anymore, they can be
+/// collected. Canonical strings also make lookups in caches keyed by names faster, since [String#equals(Object)]
+/// succeeds on identity and the hash code is computed only once per symbol.
+///
+/// The table is split in stripes, each guarded by its own lock, so that documents can be parsed concurrently
+/// (see [io.github.palexdev.architectfx.backend.loaders.BatchParser]) without contending on a single lock.
+public class SymbolTable {
+    //================================================================================
+    // Static Properties
+    //================================================================================
+    private static final SymbolTable GLOBAL = new SymbolTable(16);
+
+    //================================================================================
+    // Properties
+    //================================================================================
+    private final Stripe[] stripes;
+
+    //================================================================================
+    // Constructors
+    //================================================================================
+
+    /// @param stripes the number of stripes, rounded up to a power of two
+    public SymbolTable(int stripes) {
+        int n = 1;
+        while (n < stripes) n <<= 1;
+        this.stripes = new Stripe[n];
+        for (int i = 0; i < this.stripes.length; i++) this.stripes[i] = new Stripe();
+    }
+
+    //================================================================================
+    // Static Methods
+    //================================================================================
+
+    /// @return the canonical instance of the given string from the global table
+    public static String symbol(String s) {
+        return GLOBAL.intern(s);
+    }
+
+    /// @return the table shared by all the parsers
+    public static SymbolTable global() {
+        return GLOBAL;
+    }
+
+    //================================================================================
+    // Methods
+    //================================================================================
+
+    /// @return the canonical instance of the given string, which is the given string itself if it is the first time
+    /// it's seen (or if the previous one was collected). `null` is returned as is
+    public String intern(String s) {
+        if (s == null) return null;
+        Stripe stripe = stripes[spread(s.hashCode()) & (stripes.length - 1)];
+        synchronized (stripe) {
+            WeakReference<String> ref = stripe.symbols.get(s);
+            String symbol = (ref != null) ? ref.get() : null;
+            if (symbol == null) {
+                symbol = s;
+                stripe.symbols.put(symbol, new WeakReference<>(symbol));
+            }
+            return symbol;
+        }
+    }
+
+    /// @return the number of symbols currently in the table, including the ones not yet purged after being collected
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.symbols.size();
+            }
+        }
+        return size;
+    }
+
+    private static int spread(int h) {
+        return h ^ (h >>> 16);
+    }
+
+    //================================================================================
+    // Inner Classes
+    //================================================================================
+    private static class Stripe {
+        private final WeakHashMap<String, WeakReference<String>> symbols = new WeakHashMap<>();
+    }
+}
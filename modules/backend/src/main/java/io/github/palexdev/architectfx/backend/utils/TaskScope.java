@@ -0,0 +1,126 @@
+/*
+ * Copyright (C) 2025 Parisi Alessandro - alessandro.parisi406@gmail.com
+ * This file is part of ArchitectFX (https://github.com/palexdev/ArchitectFX)
+ *
+ * ArchitectFX is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License
+ * as published by the Free Software Foundation; either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * ArchitectFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ArchitectFX. If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.palexdev.architectfx.backend.utils;
+
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicReference;
+
+/// A minimal take on structured concurrency, modeled after the `StructuredTaskScope.ShutdownOnFailure` API (still
+/// a preview feature in Java 21).
+///
+/// Sub-tasks are started with [#fork(Callable)] on virtual threads, and the owner waits for them with [#join()].
+/// The scope guarantees that:
+/// - if a sub-task fails, all the others are cancelled, and the first failure is reported by [#throwIfFailed()]
+/// - if the owner is interrupted while joining, all the sub-tasks are cancelled
+/// - when the scope is closed, any sub-task still running is cancelled
+///
+/// Sub-tasks run with the [CancellationGroup] of the owner thread (if any), so that cancelling the group also reaches
+/// the sub-tasks, and [CancellationGroup#checkpoint()] works inside them too.
+///
+/// Typical usage:
+/// ```java
+/// try (TaskScope scope = new TaskScope("name")) {
+///     Future<A> a = scope.fork(...);
+///     Future<B> b = scope.fork(...);
+///     scope.join().throwIfFailed();
+///     return combine(a.resultNow(), b.resultNow());
+/// }
+/// ```
+public class TaskScope implements AutoCloseable {
+    //================================================================================
+    // Properties
+    //================================================================================
+    private final String name;
+    private final CancellationGroup group = CancellationGroup.current();
+    private final List<Future<?>> forks = new CopyOnWriteArrayList<>();
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+    private volatile boolean closed = false;
+
+    //================================================================================
+    // Constructors
+    //================================================================================
+    public TaskScope(String name) {
+        this.name = name;
+    }
+
+    //================================================================================
+    // Methods
+    //================================================================================
+
+    /// Starts the given action on a new virtual thread.
+    ///
+    /// @throws IllegalStateException if the scope is closed
+    public <T> Future<T> fork(Callable<T> action) {
+        if (closed) throw new IllegalStateException("Scope %s is closed".formatted(name));
+        FutureTask<T> task = new FutureTask<>(() -> {
+            try {
+                return (group != null) ? group.call(action) : action.call();
+            } catch (Throwable ex) {
+                if (failure.compareAndSet(null, ex)) cancelAll();
+                throw ex;
+            }
+        });
+        forks.add(task);
+        if (group != null) group.track(task);
+        Thread.ofVirtual().name(name + "-", forks.size()).start(task);
+        return task;
+    }
+
+    /// Waits for all the sub-tasks to finish, fail or be cancelled.
+    ///
+    /// @throws InterruptedException if the owner is interrupted while waiting, all the sub-tasks are cancelled
+    public TaskScope join() throws InterruptedException {
+        for (Future<?> fork : forks) {
+            try {
+                fork.get();
+            } catch (InterruptedException ex) {
+                cancelAll();
+                throw ex;
+            } catch (ExecutionException | CancellationException ignored) {
+                // Failures are collected by the sub-tasks themselves
+            }
+        }
+        return this;
+    }
+
+    /// @throws ExecutionException if any of the sub-tasks failed, the cause is the first failure
+    public void throwIfFailed() throws ExecutionException {
+        Throwable ex = failure.get();
+        if (ex != null) throw new ExecutionException(ex);
+    }
+
+    /// Cancels all the sub-tasks, interrupting the ones running.
+    public void cancelAll() {
+        for (Future<?> fork : forks) fork.cancel(true);
+    }
+
+    /// Cancels all the sub-tasks still running and prevents new forks.
+    @Override
+    public void close() {
+        closed = true;
+        cancelAll();
+    }
+
+    //================================================================================
+    // Getters
+    //================================================================================
+    public String getName() {
+        return name;
+    }
+}
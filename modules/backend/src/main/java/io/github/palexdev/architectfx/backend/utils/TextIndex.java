@@ -0,0 +1,342 @@
+/*
+ * Copyright (C) 2025 Parisi Alessandro - alessandro.parisi406@gmail.com
+ * This file is part of ArchitectFX (https://github.com/palexdev/ArchitectFX)
+ *
+ * ArchitectFX is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License
+ * as published by the Free Software Foundation; either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * ArchitectFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ArchitectFX. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.palexdev.architectfx.backend.utils;
+
+import java.util.*;
+
+/// Case-insensitive full-text index mapping items to the terms that describe them, meant to answer substring and prefix
+/// queries on big collections without scanning them.
+///
+/// Items usually share most of their terms (type names, property names...), so the index works on the distinct terms:
+/// each term has a postings list of the items containing it, and queries are resolved against the dictionary of terms
+/// rather than the items.
+/// - Prefix queries use the sorted dictionary, see [#searchPrefix(String)].
+/// - Substring queries use a trigram index over the dictionary. The terms containing all the trigrams of the query
+/// are then checked for an actual match, see [#search(String)]. Queries shorter than three characters scan the
+/// dictionary.
+///
+/// [#rank(String)] also finds fuzzy matches (terms containing the query's characters in order, not necessarily
+/// adjacent), and sorts the results by how well they match. When the candidates are already known (e.g. the results of
+/// a shorter query), [#rank(String, Collection)] only looks at their terms.
+///
+/// Items are identified by [Object#equals(Object)] and are numbered in insertion order, which is also the order of the
+/// results. Removals just mark the item as dead; the index is compacted when dead items outnumber the live ones.
+///
+/// This class is not thread-safe.
+public class TextIndex<T> {
+    //================================================================================
+    // Static Properties
+    //================================================================================
+    public static final int EXACT = 4;
+    public static final int PREFIX = 3;
+    public static final int SUBSTRING = 2;
+    public static final int FUZZY = 1;
+
+    //================================================================================
+    // Properties
+    //================================================================================
+    private final List<T> items = new ArrayList<>();
+    private final List<int[]> itemTerms = new ArrayList<>();
+    private final Map<T, Integer> ordinals = new HashMap<>();
+    private final BitSet dead = new BitSet();
+
+    private final NavigableMap<String, Integer> dictionary = new TreeMap<>();
+    private final List<String> terms = new ArrayList<>();
+    private final List<Postings> postings = new ArrayList<>();
+    private final Map<Long, Postings> trigrams = new HashMap<>();
+
+    //================================================================================
+    // Methods
+    //================================================================================
+
+    /// Adds the given item to the index with the given terms. If the item is already present, its terms are replaced.
+    /// Terms are lower-cased, `null` and blank ones are ignored.
+    public void add(T item, Collection<String> itemTerms) {
+        remove(item);
+        int ordinal = items.size();
+        items.add(item);
+        ordinals.put(item, ordinal);
+
+        int[] ids = itemTerms.stream()
+            .filter(t -> t != null && !t.isBlank())
+            .mapToInt(t -> termId(normalize(t)))
+            .distinct()
+            .toArray();
+        for (int id : ids) postings.get(id).add(ordinal);
+        this.itemTerms.add(ids);
+    }
+
+    /// Removes the given item from the index.
+    ///
+    /// @return whether the item was in the index
+    public boolean remove(T item) {
+        Integer ordinal = ordinals.remove(item);
+        if (ordinal == null) return false;
+        dead.set(ordinal);
+        items.set(ordinal, null);
+        itemTerms.set(ordinal, null);
+        if (dead.cardinality() > ordinals.size() && dead.cardinality() > 64) compact();
+        return true;
+    }
+
+    public void clear() {
+        items.clear();
+        itemTerms.clear();
+        ordinals.clear();
+        dead.clear();
+        dictionary.clear();
+        terms.clear();
+        postings.clear();
+        trigrams.clear();
+    }
+
+    public boolean contains(T item) {
+        return ordinals.containsKey(item);
+    }
+
+    public int size() {
+        return ordinals.size();
+    }
+
+    /// @return the items having at least one term which contains the given query, ignoring case. A blank query
+    /// matches everything.
+    public List<T> search(String query) {
+        String q = normalize(query);
+        if (q.isBlank()) return all();
+
+        BitSet matches = new BitSet();
+        if (q.length() < 3) {
+            for (int i = 0; i < terms.size(); i++) {
+                if (terms.get(i).contains(q)) postings.get(i).addTo(matches);
+            }
+        } else {
+            for (int id : candidates(q)) {
+                if (terms.get(id).contains(q)) postings.get(id).addTo(matches);
+            }
+        }
+        return collect(matches);
+    }
+
+    /// @return the items having at least one term which starts with the given query, ignoring case. A blank query
+    /// matches everything.
+    public List<T> searchPrefix(String query) {
+        String q = normalize(query);
+        if (q.isBlank()) return all();
+
+        BitSet matches = new BitSet();
+        for (int id : dictionary.subMap(q, true, q + Character.MAX_VALUE, false).values()) {
+            postings.get(id).addTo(matches);
+        }
+        return collect(matches);
+    }
+
+    /// Searches the given query like [#search(String)], and also considers fuzzy matches (queries of at least two
+    /// characters). Each item is scored by its best matching term: [#EXACT], [#PREFIX], [#SUBSTRING] or [#FUZZY].
+    ///
+    /// @return the matching items, the best matches first, then in insertion order. A blank query matches everything
+    /// with a score of `0`.
+    public List<Match<T>> rank(String query) {
+        String q = normalize(query);
+        if (q.isBlank()) return all().stream().map(t -> new Match<>(t, 0)).toList();
+
+        int[] scores = new int[items.size()];
+        BitSet matched = new BitSet(terms.size());
+        int[] ids = (q.length() < 3) ? null : candidates(q);
+        int n = (ids == null) ? terms.size() : ids.length;
+        for (int k = 0; k < n; k++) {
+            int id = (ids == null) ? k : ids[k];
+            int score = score(q, terms.get(id), false);
+            if (score == 0) continue;
+            matched.set(id);
+            postings.get(id).score(scores, score);
+        }
+        if (q.length() >= 2) {
+            for (int id = matched.nextClearBit(0); id < terms.size(); id = matched.nextClearBit(id + 1)) {
+                if (isSubsequence(q, terms.get(id))) postings.get(id).score(scores, FUZZY);
+            }
+        }
+
+        List<Match<T>> res = new ArrayList<>();
+        for (int i = 0; i < scores.length; i++) {
+            if (scores[i] > 0 && !dead.get(i)) res.add(new Match<>(items.get(i), scores[i]));
+        }
+        res.sort(Comparator.comparingInt(Match<T>::score).reversed());
+        return res;
+    }
+
+    /// Ranks the given query like [#rank(String)], considering only the given items. Their terms are checked directly,
+    /// so the cost depends on the number of candidates rather than on the size of the dictionary. Items which are not
+    /// in the index are ignored.
+    ///
+    /// @return the matching items among the given ones, the best matches first, then in insertion order
+    public List<Match<T>> rank(String query, Collection<T> candidates) {
+        String q = normalize(query);
+        int[] ordinals = candidates.stream()
+            .map(this.ordinals::get)
+            .filter(Objects::nonNull)
+            .mapToInt(Integer::intValue)
+            .sorted()
+            .toArray();
+        List<Match<T>> res = new ArrayList<>();
+        for (int ordinal : ordinals) {
+            int best = 0;
+            if (!q.isBlank()) {
+                for (int id : itemTerms.get(ordinal)) {
+                    best = Math.max(best, score(q, terms.get(id), q.length() >= 2));
+                    if (best == EXACT) break;
+                }
+                if (best == 0) continue;
+            }
+            res.add(new Match<>(items.get(ordinal), best));
+        }
+        res.sort(Comparator.comparingInt(Match<T>::score).reversed());
+        return res;
+    }
+
+    /// @return all the items in the index, in insertion order
+    public List<T> all() {
+        List<T> res = new ArrayList<>(size());
+        for (T item : items) {
+            if (item != null) res.add(item);
+        }
+        return res;
+    }
+
+    /// @return the ids of the terms which contain all the trigrams of the given query (at least three characters)
+    protected int[] candidates(String q) {
+        Postings smallest = null;
+        List<Postings> lists = new ArrayList<>();
+        for (int i = 0; i + 3 <= q.length(); i++) {
+            Postings p = trigrams.get(trigram(q, i));
+            if (p == null) return new int[0];
+            lists.add(p);
+            if (smallest == null || p.size < smallest.size) smallest = p;
+        }
+
+        int[] res = Arrays.copyOf(smallest.data, smallest.size);
+        int n = res.length;
+        for (Postings p : lists) {
+            if (p == smallest) continue;
+            int k = 0;
+            for (int i = 0; i < n; i++) {
+                if (p.contains(res[i])) res[k++] = res[i];
+            }
+            n = k;
+        }
+        return Arrays.copyOf(res, n);
+    }
+
+    /// Rebuilds the index without the dead items, and without the terms no longer referenced by any item.
+    protected void compact() {
+        List<T> liveItems = new ArrayList<>(ordinals.size());
+        List<List<String>> liveTerms = new ArrayList<>(ordinals.size());
+        for (int i = 0; i < items.size(); i++) {
+            T item = items.get(i);
+            if (item == null) continue;
+            liveItems.add(item);
+            List<String> tTerms = new ArrayList<>();
+            for (int id : itemTerms.get(i)) tTerms.add(terms.get(id));
+            liveTerms.add(tTerms);
+        }
+        clear();
+        for (int i = 0; i < liveItems.size(); i++) add(liveItems.get(i), liveTerms.get(i));
+    }
+
+    private int termId(String term) {
+        Integer id = dictionary.get(term);
+        if (id != null) return id;
+
+        int newId = terms.size();
+        dictionary.put(term, newId);
+        terms.add(term);
+        postings.add(new Postings());
+        for (int i = 0; i + 3 <= term.length(); i++) {
+            Postings p = trigrams.computeIfAbsent(trigram(term, i), k -> new Postings());
+            // A term may contain the same trigram more than once
+            if (p.size == 0 || p.data[p.size - 1] != newId) p.add(newId);
+        }
+        return newId;
+    }
+
+    private List<T> collect(BitSet matches) {
+        matches.andNot(dead);
+        List<T> res = new ArrayList<>(matches.cardinality());
+        for (int i = matches.nextSetBit(0); i >= 0; i = matches.nextSetBit(i + 1)) {
+            res.add(items.get(i));
+        }
+        return res;
+    }
+
+    /// @return the score of the given term for the given (normalized) query, `0` if it doesn't match
+    private static int score(String q, String term, boolean fuzzy) {
+        if (term.equals(q)) return EXACT;
+        if (term.startsWith(q)) return PREFIX;
+        if (term.contains(q)) return SUBSTRING;
+        return (fuzzy && isSubsequence(q, term)) ? FUZZY : 0;
+    }
+
+    private static boolean isSubsequence(String q, String term) {
+        int j = 0;
+        for (int i = 0; i < term.length() && j < q.length(); i++) {
+            if (term.charAt(i) == q.charAt(j)) j++;
+        }
+        return j == q.length();
+    }
+
+    private static long trigram(String s, int i) {
+        return ((long) s.charAt(i) << 32) | ((long) s.charAt(i + 1) << 16) | s.charAt(i + 2);
+    }
+
+    private static String normalize(String s) {
+        return (s == null) ? "" : s.toLowerCase(Locale.ROOT);
+    }
+
+    //================================================================================
+    // Inner Classes
+    //================================================================================
+
+    /// An item found by [#rank(String)], with its score.
+    public record Match<T>(T item, int score) {}
+
+    /// Growable, sorted list of ints.
+    private static class Postings {
+        private int[] data = new int[4];
+        private int size = 0;
+
+        void add(int value) {
+            if (size == data.length) data = Arrays.copyOf(data, size * 2);
+            data[size++] = value;
+        }
+
+        boolean contains(int value) {
+            return Arrays.binarySearch(data, 0, size, value) >= 0;
+        }
+
+        void addTo(BitSet bits) {
+            for (int i = 0; i < size; i++) bits.set(data[i]);
+        }
+
+        void score(int[] scores, int score) {
+            for (int i = 0; i < size; i++) {
+                int item = data[i];
+                if (scores[item] < score) scores[item] = score;
+            }
+        }
+    }
+}
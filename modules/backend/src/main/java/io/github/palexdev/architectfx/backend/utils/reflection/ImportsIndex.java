@@ -0,0 +1,95 @@
+/*
+ * Copyright (C) 2025 Parisi Alessandro - alessandro.parisi406@gmail.com
+ * This file is part of ArchitectFX (https://github.com/palexdev/ArchitectFX)
+ *
+ * ArchitectFX is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License
+ * as published by the Free Software Foundation; either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * ArchitectFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ArchitectFX. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.palexdev.architectfx.backend.utils.reflection;
+
+import java.util.*;
+
+import io.github.palexdev.architectfx.backend.deps.DependencyManager;
+
+/// Compiled form of a set of imports, used by the [Scanner] to resolve simple class names.
+///
+/// - Explicit imports are mapped by their simple name (the part after the last dot). For nested classes, the name
+/// after the last `$` is mapped too, as long as it does not clash with other imports.
+/// - Star imports are kept as an ordered list of packages, the order is the same of the source set.
+///
+/// Resolution never loads classes nor throws. Explicit imports are found in constant time. Star-imported packages are
+/// checked through [DependencyManager#containsClass(String, String)], which relies on the JARs' contents listing.
+public class ImportsIndex {
+    //================================================================================
+    // Static Properties
+    //================================================================================
+    public static final ImportsIndex EMPTY = new ImportsIndex(Set.of());
+
+    //================================================================================
+    // Properties
+    //================================================================================
+    private final Map<String, String> explicit = new HashMap<>();
+    private final List<String> packages = new ArrayList<>();
+
+    //================================================================================
+    // Constructors
+    //================================================================================
+    public ImportsIndex(Collection<String> imports) {
+        Map<String, String> nested = new HashMap<>();
+        for (String imp : imports) {
+            int dot = imp.lastIndexOf('.');
+            if (imp.endsWith(".*")) {
+                packages.add(imp.substring(0, dot));
+                continue;
+            }
+
+            String simpleName = imp.substring(dot + 1);
+            explicit.putIfAbsent(simpleName, imp);
+            int dollar = simpleName.lastIndexOf('$');
+            if (dollar >= 0) nested.putIfAbsent(simpleName.substring(dollar + 1), imp);
+        }
+        nested.forEach(explicit::putIfAbsent);
+    }
+
+    //================================================================================
+    // Methods
+    //================================================================================
+
+    /// @return the fully qualified name of the explicit import matching the given simple name, `null` if none
+    public String explicit(String simpleName) {
+        return explicit.get(simpleName);
+    }
+
+    /// @return the fully qualified name of the class with the given simple name found in the first star-imported
+    /// package containing it, `null` if none
+    public String fromPackages(String simpleName, DependencyManager dm) {
+        for (String pkg : packages) {
+            if (dm.containsClass(pkg, simpleName)) return pkg + "." + simpleName;
+        }
+        return null;
+    }
+
+    /// @return the position of the first star-imported package containing the given simple name, `-1` if none
+    public int indexOfPackage(String simpleName, DependencyManager dm) {
+        for (int i = 0; i < packages.size(); i++) {
+            if (dm.containsClass(packages.get(i), simpleName)) return i;
+        }
+        return -1;
+    }
+
+    /// @return the star-imported packages, in order
+    public List<String> packages() {
+        return Collections.unmodifiableList(packages);
+    }
+}
@@ -1,5 +1,11 @@
 package io.github.palexdev.architectfx.backend.utils.reflection;
 
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 import io.github.palexdev.architectfx.backend.enums.CollectionType;
@@ -184,4 +190,82 @@ public class Reflector {
 
         return CastUtils.unchecked(obj);
     }
+
+    /// Checks, without instantiating anything, whether [Getter#read(Object, String)] would be able to read the given
+    /// name from an instance of the given class, or from the class itself if `statics` is `true`.
+    ///
+    /// Follows the same conventions: first the getter given by [Getter#getterFor(String)], then direct access to the
+    /// field. Members that the reflection library would need to make accessible are only accepted if their package is
+    /// open to it, see [#isAccessible(Member)].
+    public static boolean canRead(Class<?> klass, String name, boolean statics) {
+        if (hasMethod(klass, Getter.getterFor(name), 0, statics)) return true;
+        Field field = findField(klass, name);
+        return field != null && Modifier.isStatic(field.getModifiers()) == statics;
+    }
+
+    /// Checks, without instantiating anything, whether [Setter#write(Object, String, Object)] would be able to set the
+    /// given name on an instance of the given class, or on the class itself if `statics` is `true`.
+    ///
+    /// Follows the same conventions: first the setter given by [Setter#setterFor(String)], then direct access to the
+    /// field, which must not be `final`.
+    ///
+    /// @see #canRead(Class, String, boolean)
+    public static boolean canWrite(Class<?> klass, String name, boolean statics) {
+        if (hasMethod(klass, Setter.setterFor(name), 1, statics)) return true;
+        Field field = findField(klass, name);
+        return field != null &&
+               Modifier.isStatic(field.getModifiers()) == statics &&
+               !Modifier.isFinal(field.getModifiers());
+    }
+
+    /// @return all the methods with the given name that can be invoked on the given class, public ones first, then the
+    /// declared ones of the class and its superclasses that pass [#isAccessible(Member)]
+    public static List<Method> methods(Class<?> klass, String name) {
+        List<Method> methods = new ArrayList<>();
+        try {
+            for (Method m : klass.getMethods()) {
+                if (m.getName().equals(name)) methods.add(m);
+            }
+            for (Class<?> c = klass; c != null; c = c.getSuperclass()) {
+                for (Method m : c.getDeclaredMethods()) {
+                    if (m.getName().equals(name) && !Modifier.isPublic(m.getModifiers()) && isAccessible(m))
+                        methods.add(m);
+                }
+            }
+        } catch (LinkageError ignored) {}
+        return methods;
+    }
+
+    /// Members that are public and declared by a public class are always accessible. Others must be made accessible by
+    /// the reflection library, which can only succeed if the declaring package is open to its module.
+    public static boolean isAccessible(Member member) {
+        Class<?> owner = member.getDeclaringClass();
+        if (Modifier.isPublic(member.getModifiers()) && Modifier.isPublic(owner.getModifiers())) return true;
+        return owner.getModule().isOpen(owner.getPackageName(), Reflect.class.getModule());
+    }
+
+    /// Looks up a field the same way the reflection library does: public fields first, then the declared ones walking
+    /// up the hierarchy. Fields that are not accessible are discarded.
+    private static Field findField(Class<?> klass, String name) {
+        try {
+            try {
+                Field field = klass.getField(name);
+                return isAccessible(field) ? field : null;
+            } catch (NoSuchFieldException ignored) {}
+            for (Class<?> c = klass; c != null; c = c.getSuperclass()) {
+                try {
+                    Field field = c.getDeclaredField(name);
+                    return isAccessible(field) ? field : null;
+                } catch (NoSuchFieldException ignored) {}
+            }
+        } catch (LinkageError ignored) {}
+        return null;
+    }
+
+    private static boolean hasMethod(Class<?> klass, String name, int params, boolean statics) {
+        for (Method m : methods(klass, name)) {
+            if (m.getParameterCount() == params && Modifier.isStatic(m.getModifiers()) == statics) return true;
+        }
+        return false;
+    }
 }
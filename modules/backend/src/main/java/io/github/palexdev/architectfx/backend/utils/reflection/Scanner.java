@@ -5,10 +5,16 @@ import io.github.classgraph.ClassInfoList;
 import io.github.classgraph.ScanResult;
 import io.github.palexdev.architectfx.backend.deps.DependencyManager;
 import io.github.palexdev.architectfx.backend.deps.DynamicClassLoader;
+import io.github.palexdev.architectfx.backend.deps.JarIndex;
+import io.github.palexdev.architectfx.backend.utils.CancellationGroup;
 import io.github.palexdev.architectfx.backend.utils.ImportsSet;
+import java.io.File;
+import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
 import org.tinylog.Logger;
 
 /// This class offers core functionalities to the loading process. Thanks to the third-party library
@@ -79,13 +85,29 @@ public class Scanner {
         Set.class
     };
 
+    /// Maximum number of entries in the negative cache, see [#findClass(String)].
+    public static final int NEGATIVE_CACHE_SIZE = 512;
+
     private static String[] JAVAFX_MODULES = new String[0];
+    private static String[] CLASSPATH_JARS = new String[0];
+    private static List<JarIndex> javafxIndices;
+    private static List<JarIndex> classpathIndices;
+    private static DynamicClassLoader javafxLoader;
 
     static {
         try {
-            JAVAFX_MODULES = Arrays.stream(System.getProperty("jdk.module.path").split(";"))
+            List<String> entries = Stream.of("jdk.module.path", "java.class.path")
+                .map(System::getProperty)
+                .filter(Objects::nonNull)
+                .flatMap(p -> Arrays.stream(p.split(File.pathSeparator)))
+                .distinct()
+                .toList();
+            JAVAFX_MODULES = entries.stream()
                 .filter(s -> s.contains("javafx-"))
                 .toArray(String[]::new);
+            CLASSPATH_JARS = entries.stream()
+                .filter(s -> !s.contains("javafx-") && s.endsWith(".jar"))
+                .toArray(String[]::new);
         } catch (Exception ex) {
             Logger.error("JavaFX modules were not found on the classpath because:\n{}", ex);
         }
@@ -96,7 +118,17 @@ public class Scanner {
     //================================================================================
     private final DependencyManager dm;
     private Set<String> imports;
-    private final Map<String, Class<?>> classCache = new HashMap<>();
+    private ImportsIndex importsIndex;
+    private int importsFingerprint;
+    private final Map<String, Class<?>> classCache = new ConcurrentHashMap<>();
+    /// Access-ordered, even lookups modify it. Guarded by its own lock, since a scanner may be shared by concurrent loads.
+    private final Set<String> negativeCache = Collections.synchronizedSet(Collections.newSetFromMap(new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+            return size() > NEGATIVE_CACHE_SIZE;
+        }
+    }));
+    private long negativeFingerprint;
 
     //================================================================================
     // Constructors
@@ -107,7 +139,7 @@ public class Scanner {
 
     public Scanner(DependencyManager dm, Set<String> imports) {
         this.dm = dm;
-        this.imports = imports;
+        setImports(imports);
         addToScanCache(CORE_CLASS_CACHE);
     }
 
@@ -121,16 +153,48 @@ public class Scanner {
     ///
     /// In case it's already been found by a previous scan, returns from cache.
     ///
-    /// Next thing to check are imports. If the class in either allowed by a specific import or a star import, caches
-    /// the scan and returns the class loaded by [DependencyManager#loadClass(String)]
+    /// Next thing to check are imports, which are compiled into an [ImportsIndex]. Explicit imports are looked up by
+    /// simple name, while star-imported packages are checked against the JARs' contents through
+    /// [DependencyManager#containsClass(String, String)]. This way, only the class which is known to exist is loaded
+    /// by [DependencyManager#loadClass(String)], and no exception is thrown for every package that does not contain it.
+    /// If a class is found, the result is cached.
+    ///
+    /// Then the [JarIndex]es of the dependencies, the JavaFX modules and the JARs on the app's classpath are queried
+    /// through [#lookup(String, ScanScope)]. This does not scan nor load anything, indices are built once per JAR and
+    /// cached. Since the app's JARs are part of the lookup, a name found both in them and in the dependencies is still
+    /// reported as a conflict, as it would be by a scan. The only exception are classes in directories on the
+    /// classpath (e.g. build outputs), which are not indexed: if a name is found in the JARs, it's not checked against
+    /// such directories.
     ///
     /// The last resort is to use [ClassGraph] to scan the classpath and the dependencies, delegates to
-    /// [#searchClasses(String, ScanScope)]. At this point three things can happen:
-    /// 1) The scan results are empty, throws a [ClassNotFoundException]
+    /// [#searchClasses(String, ScanScope)]. This is needed only for classes which are not in a JAR (e.g. the app's
+    /// build output directories). For both the index lookup and the scan, three things can happen:
+    /// 1) The results are empty, throws a [ClassNotFoundException]
     /// 2) There are more than one result, throws a [IllegalArgumentException]. The user is expected to fix the conflicts
     /// in some way
     /// 3) The single result is loaded by [DependencyManager#loadClass(String)], cached and returned.
+    ///
+    /// Names which could not be found are remembered in a bounded negative cache, so that subsequent requests fail
+    /// immediately, without repeating the imports lookup and the scan. Entries are keyed by name and by a fingerprint
+    /// of the dependencies ([DependencyManager#fingerprint()]) and of the imports. The cache is cleared as soon as the
+    /// fingerprint changes, for example when the [DependencyManager] adds JARs.
     public Class<?> findClass(String className) throws ClassNotFoundException {
+        Class<?> cached = classCache.get(className);
+        if (cached != null) return cached;
+
+        String missKey = missKey(className);
+        if (negativeCache.contains(missKey))
+            throw new ClassNotFoundException("Class not found (cached): " + className);
+
+        try {
+            return findClassUncached(className);
+        } catch (ClassNotFoundException ex) {
+            negativeCache.add(missKey);
+            throw ex;
+        }
+    }
+
+    protected Class<?> findClassUncached(String className) throws ClassNotFoundException {
         // Check if it's a fully qualified name
         // (naive approach, contains dot)
         // In such case no need to classCache
@@ -146,33 +210,32 @@ public class Scanner {
             return classCache.get(className);
 
         // Then try with imports and add to classCache
-        for (String imp : imports) {
+        String fqName = importsIndex.explicit(className);
+        if (fqName == null) fqName = importsIndex.fromPackages(className, dm);
+        if (fqName != null) {
             try {
-                Class<?> klass = switch (imp) {
-                    case String s when s.endsWith(className) -> dm.loadClass(s);
-                    case String s when s.endsWith("*") -> {
-                        String pkg = s.substring(0, s.lastIndexOf('.'));
-                        yield dm.loadClass(pkg + "." + className);
-                    }
-                    default -> null;
-                };
-
-                if (klass != null) {
-                    classCache.put(className, klass);
-                    return klass;
-                }
-            } catch (ClassNotFoundException ignored) {}
+                Class<?> klass = dm.loadClass(fqName);
+                classCache.put(className, klass);
+                return klass;
+            } catch (ClassNotFoundException ex) {
+                Logger.warn("Import {} could not be loaded, falling back to scan...", fqName);
+            }
         }
 
-        // Last resort, use ClassGraph
-        Logger.warn("Resorting to ClassGraph to find class {}, this may take a while for the first scan...", className);
-        ClassInfoList results = searchClasses(className, ScanScope.DEPS);
+        // Then use the JARs' indices
+        List<String> results = lookup(className, ScanScope.DEPS);
+        if (results.isEmpty()) {
+            // Last resort, use ClassGraph
+            CancellationGroup.checkpoint();
+            Logger.warn("Resorting to ClassGraph to find class {}, this may take a while for the first scan...", className);
+            results = searchClasses(className, ScanScope.DEPS).getNames();
+        }
         if (results.isEmpty()) throw new ClassNotFoundException("Class not found: " + className);
         if (results.size() > 1) throw new IllegalArgumentException(
-            "More than one class for name %s have been found: %s".formatted(className, Arrays.toString(results.toArray()))
+            "More than one class for name %s have been found: %s".formatted(className, results)
         );
 
-        String fqName = results.getFirst().getName();
+        fqName = results.getFirst();
         Class<?> klass = dm.loadClass(fqName);
         if (klass == null)
             throw new ClassNotFoundException("Failed to load class: " + fqName);
@@ -181,9 +244,44 @@ public class Scanner {
         return klass;
     }
 
+    /// Builds the key for the negative cache. Also clears it if the dependencies or the imports changed since the last
+    /// lookup.
+    protected String missKey(String className) {
+        long fingerprint = dm.fingerprint() * 31 + importsFingerprint;
+        synchronized (negativeCache) {
+            if (fingerprint != negativeFingerprint) {
+                negativeCache.clear();
+                negativeFingerprint = fingerprint;
+            }
+        }
+        return className + "@" + fingerprint;
+    }
+
+    /// Searches the [JarIndex]es of the given scope for all classes with the given `className`, which can be either
+    /// simple or fully qualified. Unlike [#searchClasses(String, ScanScope)], this does not scan anything.
+    ///
+    /// @return the fully qualified names of the classes found, without duplicates
+    public List<String> lookup(String className, ScanScope scope) {
+        int dot = className.lastIndexOf('.');
+        String pkg = (dot < 0) ? null : className.substring(0, dot);
+        String simpleName = className.substring(dot + 1);
+
+        Set<String> results = new LinkedHashSet<>();
+        for (JarIndex index : scope.indices(dm)) {
+            if (pkg == null) {
+                results.addAll(index.find(simpleName));
+            } else if (index.containsClass(pkg, simpleName)) {
+                results.add(className);
+            }
+        }
+        return List.copyOf(results);
+    }
+
     /// Uses [ClassGraph] to search for all classes with the given `className`.
     /// If the results are not empty, also caches the search for faster subsequent calls.
     ///
+    /// Throws a [CancellationException] if the scan is interrupted, see [CancellationGroup#checkpoint()].
+    ///
     /// @see ScanScope
     public ClassInfoList searchClasses(String className, ScanScope scope) {
         // Determine if the className is simple or fully qualified and set the query accordingly
@@ -197,8 +295,13 @@ public class Scanner {
             .acceptClasses(query);
         try (ScanResult res = cg.scan()) {
             Logger.trace("ClassGraph scan terminated...");
+            CancellationGroup.checkpoint();
             return res.getAllClasses();
+        } catch (CancellationException ex) {
+            throw ex;
         } catch (Exception ex) {
+            // Scans fail when interrupted, don't mistake that for an empty result
+            CancellationGroup.checkpoint();
             Logger.error("Error occurred during ClassGraph scan: {}", ex.getMessage());
             return ClassInfoList.emptyList();
         }
@@ -216,18 +319,69 @@ public class Scanner {
         return imports;
     }
 
+    /// Sets the imports to use for resolving simple names and compiles them into an [ImportsIndex].
+    ///
+    /// Since the index is built here, changes made to the given set afterward are not seen until this is called again.
     public void setImports(Set<String> imports) {
         if (imports == null) imports = new ImportsSet();
         this.imports = imports;
+        this.importsIndex = new ImportsIndex(imports);
+        this.importsFingerprint = imports.hashCode();
+    }
+
+    /// @return the compiled form of the current imports
+    public ImportsIndex getImportsIndex() {
+        return importsIndex;
+    }
+
+    //================================================================================
+    // Static Methods
+    //================================================================================
+
+    /// @return the [JarIndex]es of the JARs on the app's classpath (or module path), JavaFX modules excluded, built on
+    /// first request
+    protected static synchronized List<JarIndex> classpathIndices() {
+        if (classpathIndices == null) {
+            classpathIndices = Arrays.stream(CLASSPATH_JARS)
+                .map(Path::of)
+                .filter(Files::isRegularFile)
+                .map(JarIndex::of)
+                .toList();
+        }
+        return classpathIndices;
+    }
+
+    /// @return the [JarIndex]es of the JavaFX modules, built on first request
+    protected static synchronized List<JarIndex> javafxIndices() {
+        if (javafxIndices == null) {
+            javafxIndices = Arrays.stream(JAVAFX_MODULES)
+                .map(Path::of)
+                .map(JarIndex::of)
+                .toList();
+        }
+        return javafxIndices;
+    }
+
+    /// @return a [DynamicClassLoader] for the JavaFX modules, built on first request and shared by all scans
+    protected static synchronized DynamicClassLoader javafxLoader() {
+        if (javafxLoader == null) {
+            javafxLoader = new DynamicClassLoader()
+                .addJars(Arrays.stream(JAVAFX_MODULES)
+                    .map(Path::of)
+                    .toArray(Path[]::new)
+                );
+        }
+        return javafxLoader;
     }
 
     //================================================================================
     // Inner Classes
     //================================================================================
 
-    /// An enum factory which builds a [ClassGraph] instance based on how many things we want to scan.
+    /// An enum factory which determines how many things we want to search. It can build a [ClassGraph] instance for
+    /// scans, or give the [JarIndex]es to query for lookups. Neither modifies the [DependencyManager].
     ///
-    /// For a targeted scan, which only includes the dependencies specified by the [DependencyManager] and the
+    /// For a targeted search, which only includes the dependencies specified by the [DependencyManager] and the
     /// classpath, use [#DEPS]. Otherwise, use [#ALL]
 
     public enum ScanScope {
@@ -235,12 +389,14 @@ public class Scanner {
             @Override
             public ClassGraph build(DependencyManager dm) {
                 return new ClassGraph()
-                    .addClassLoader(new DynamicClassLoader()
-                        .addJars(Arrays.stream(JAVAFX_MODULES)
-                            .map(Path::of)
-                            .toArray(Path[]::new)
-                        )
-                    );
+                    .addClassLoader(javafxLoader());
+            }
+
+            @Override
+            public List<JarIndex> indices(DependencyManager dm) {
+                List<JarIndex> indices = new ArrayList<>(javafxIndices());
+                indices.addAll(classpathIndices());
+                return indices;
             }
         },
         DEPS {
@@ -252,23 +408,30 @@ public class Scanner {
                     return ALL.build(dm);
                 }
 
-                for (String jfx : JAVAFX_MODULES) {
-                    try {
-                        dm.dependencies().add(Paths.get(jfx));
-                    } catch (Exception ex) {
-                        Logger.error("Failed to add module {} because:\n{}", jfx, ex);
-                    }
-                }
-
                 return new ClassGraph()
                     .overrideClassLoaders(
                         ClassLoader.getSystemClassLoader(),
-                        dm.loader()
+                        dm.loader(),
+                        javafxLoader()
                     );
             }
+
+            @Override
+            public List<JarIndex> indices(DependencyManager dm) {
+                Set<Path> deps = dm.dependencies();
+                if (deps.isEmpty()) return ALL.indices(dm);
+
+                List<JarIndex> indices = new ArrayList<>(deps.size() + JAVAFX_MODULES.length + CLASSPATH_JARS.length);
+                for (Path dep : deps) indices.add(dm.index(dep));
+                indices.addAll(javafxIndices());
+                indices.addAll(classpathIndices());
+                return indices;
+            }
         },
         ;
 
         public abstract ClassGraph build(DependencyManager dm);
+
+        public abstract List<JarIndex> indices(DependencyManager dm);
     }
 }
@@ -23,6 +23,9 @@ module afx.backend {
     requires org.tinylog.api;
 
     //***** Exports *****//
+    // CLI Package
+    exports io.github.palexdev.architectfx.backend.cli;
+
     // Deps Package
     exports io.github.palexdev.architectfx.backend.deps;
 
@@ -32,6 +35,9 @@ module afx.backend {
     // JUI package
     exports io.github.palexdev.architectfx.backend.jui;
 
+    // Lint Package
+    exports io.github.palexdev.architectfx.backend.lint;
+
     // Loaders Package
     exports io.github.palexdev.architectfx.backend.loaders;
     exports io.github.palexdev.architectfx.backend.loaders.jui;
@@ -40,6 +46,9 @@ module afx.backend {
     exports io.github.palexdev.architectfx.backend.model;
     exports io.github.palexdev.architectfx.backend.model.types;
 
+    // Render Package
+    exports io.github.palexdev.architectfx.backend.render;
+
     // Resolver Package
     exports io.github.palexdev.architectfx.backend.resolver;
 
@@ -110,4 +110,28 @@ public class InjectionTest {
         assertEquals(Double.NEGATIVE_INFINITY, root.aDouble);
         assertNull(root.nested);
     }
+
+    @Test
+    void testReverseMapping() throws IOException {
+        String doc = """
+            InjectTestClass {
+              .cid: 'obj'
+            }
+            """;
+        Resolver.Context[] context = new Resolver.Context[1];
+        JUIBaseLoader.Loaded<InjectTestClass> loaded = new DummyLoader<InjectTestClass>()
+            .setConfig(() -> new UILoader.Config()
+                .setResolverFactory(uri -> {
+                    Resolver resolver = new DefaultResolver(uri);
+                    context[0] = resolver.context();
+                    return resolver;
+                })
+            )
+            .load(new ByteArrayInputStream(doc.getBytes()), null);
+
+        InjectTestClass root = loaded.root();
+        assertSame(loaded.document().getRoot(), context[0].getObj(root));
+        assertSame(root, context[0].getInstancesUnmodifiable().get(context[0].getObj(root)));
+        assertNull(context[0].getObj(new Object()));
+    }
 }
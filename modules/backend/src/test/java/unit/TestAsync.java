@@ -0,0 +1,136 @@
+package unit;
+
+import java.util.List;
+import java.util.concurrent.*;
+
+import io.github.palexdev.architectfx.backend.enums.TaskPriority;
+import io.github.palexdev.architectfx.backend.utils.Async;
+import io.github.palexdev.architectfx.backend.utils.CancellationGroup;
+import io.github.palexdev.architectfx.backend.utils.PriorityExecutor;
+import io.github.palexdev.architectfx.backend.utils.TaskScope;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestAsync {
+
+    @Test
+    void testPriorities() throws Exception {
+        PriorityExecutor executor = new PriorityExecutor("test", 1);
+        try {
+            CountDownLatch gate = new CountDownLatch(1);
+            executor.submit(TaskPriority.NORMAL, () -> gate.await(5, TimeUnit.SECONDS));
+
+            List<String> order = new CopyOnWriteArrayList<>();
+            Future<?> bg = executor.submit(TaskPriority.BACKGROUND, () -> order.add("background"));
+            Future<?> n = executor.submit(TaskPriority.NORMAL, () -> order.add("normal"));
+            Future<?> in = executor.submit(TaskPriority.INTERACTIVE, () -> order.add("interactive"));
+            assertEquals(3, executor.metrics().queued());
+
+            gate.countDown();
+            bg.get(5, TimeUnit.SECONDS);
+            n.get(5, TimeUnit.SECONDS);
+            in.get(5, TimeUnit.SECONDS);
+            assertEquals(List.of("interactive", "normal", "background"), order);
+
+            PriorityExecutor.Metrics metrics = executor.metrics();
+            assertEquals(0, metrics.queued());
+            assertTrue(metrics.p99() >= metrics.p50());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testCancellationGroup() throws Exception {
+        CancellationGroup group = new CancellationGroup("test");
+        CountDownLatch started = new CountDownLatch(2);
+        CompletableFuture<CompletableFuture<Void>> nested = new CompletableFuture<>();
+
+        CompletableFuture<Void> task = group.call(() -> Async.run("test-group", TaskPriority.NORMAL, () -> {
+            // Sub-tasks submitted while running inherit the group
+            nested.complete(Async.run("test-group", TaskPriority.NORMAL, () -> {
+                started.countDown();
+                sleep();
+            }));
+            started.countDown();
+            sleep();
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        assertEquals(2, group.pending());
+
+        group.cancel();
+        assertTrue(group.isCancelled());
+        assertTrue(task.isCancelled());
+        assertTrue(nested.get().isCancelled());
+
+        // Tasks added after cancellation are cancelled immediately
+        CompletableFuture<Void> late = group.call(() -> Async.run("test-group", TaskPriority.NORMAL, () -> {}));
+        assertTrue(late.isCancelled());
+    }
+
+    @Test
+    void testInterrupt() throws Exception {
+        CancellationGroup group = new CancellationGroup("test");
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        CompletableFuture<Void> task = group.call(() -> Async.run(() -> {
+            started.countDown();
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException ex) {
+                interrupted.countDown();
+            }
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        // Futures of the virtual threads executor interrupt their task too
+        group.cancel();
+        assertTrue(task.isCancelled());
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testTaskScope() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        Future<?> slow;
+        try (TaskScope scope = new TaskScope("test")) {
+            slow = scope.fork(() -> {
+                started.countDown();
+                sleep();
+                return null;
+            });
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            scope.fork(() -> {
+                throw new IllegalStateException("Boom");
+            });
+            scope.join();
+            ExecutionException ex = assertThrows(ExecutionException.class, scope::throwIfFailed);
+            assertInstanceOf(IllegalStateException.class, ex.getCause());
+        }
+        // A failure cancels the siblings
+        assertTrue(slow.isCancelled());
+    }
+
+    @Test
+    void testCheckpoint() {
+        CancellationGroup group = new CancellationGroup("test");
+        group.run(CancellationGroup::checkpoint);
+        group.cancel();
+        assertThrows(CancellationException.class, () -> group.run(CancellationGroup::checkpoint));
+
+        Thread.currentThread().interrupt();
+        try {
+            assertThrows(CancellationException.class, CancellationGroup::checkpoint);
+        } finally {
+            assertTrue(Thread.interrupted());
+        }
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(10_000);
+        } catch (InterruptedException ignored) {}
+    }
+}
@@ -0,0 +1,93 @@
+package unit;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeUnit;
+
+import io.github.palexdev.architectfx.backend.loaders.BatchParser;
+import io.github.palexdev.architectfx.backend.model.UIDocument;
+import misc.DummyLoader;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestBatchParser {
+    @TempDir
+    Path dir;
+
+    @Test
+    void testParseInOrder() throws Exception {
+        List<Path> files = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            Path file = dir.resolve("Doc" + i + ".jui");
+            Files.writeString(file, """
+                .imports {
+                  'javafx.scene.layout.*'
+                }
+
+                StackPane {
+                  .cid: 'root%d'
+                  Pane {}
+                }
+                """.formatted(i));
+            files.add(file);
+        }
+
+        try (BatchParser<UIDocument> parser = new BatchParser<>(new DummyLoader<>()::parse, 4, 8)) {
+            List<BatchParser.Result<UIDocument>> results = parser.parseFiles(files).await(30, TimeUnit.SECONDS);
+            assertEquals(files.size(), results.size());
+            for (int i = 0; i < results.size(); i++) {
+                BatchParser.Result<UIDocument> res = results.get(i);
+                assertTrue(res.isSuccess());
+                assertEquals(files.get(i).toUri().toURL(), res.location());
+                assertEquals("StackPane", res.result().getRoot().getType());
+                assertEquals("'root" + i + "'", res.result().getRoot().getControllerId());
+                assertEquals(1, res.result().getRoot().getChildren().size());
+            }
+        }
+    }
+
+    @Test
+    void testErrorsAreIsolated() throws Exception {
+        Path good = Files.writeString(dir.resolve("Good.jui"), "StackPane {}");
+        Path missing = dir.resolve("Missing.jui");
+        try (BatchParser<UIDocument> parser = new BatchParser<>(new DummyLoader<>()::parse, 2)) {
+            List<BatchParser.Result<UIDocument>> results = parser.parseFiles(List.of(good, missing, good)).await();
+            assertTrue(results.get(0).isSuccess());
+            assertInstanceOf(IOException.class, results.get(1).error());
+            assertTrue(results.get(2).isSuccess());
+        }
+    }
+
+    @Test
+    void testCancel() throws Exception {
+        Path file = Files.writeString(dir.resolve("Doc.jui"), "StackPane {}");
+        List<URL> sources = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            sources.add(file.toUri().toURL());
+        }
+
+        BatchParser.Parser<String> slow = (is, location) -> {
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException ex) {
+                throw new CancellationException();
+            }
+            return "done";
+        };
+        try (BatchParser<String> parser = new BatchParser<>(slow, 2, 2)) {
+            BatchParser<String>.Batch batch = parser.parse(sources);
+            batch.cancel();
+            List<BatchParser.Result<String>> results = batch.await(10, TimeUnit.SECONDS);
+            assertTrue(batch.isCancelled());
+            assertEquals(sources.size(), results.size());
+            assertTrue(results.stream().noneMatch(BatchParser.Result::isSuccess));
+        }
+    }
+}
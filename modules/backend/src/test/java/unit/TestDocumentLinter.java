@@ -0,0 +1,84 @@
+package unit;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+
+import io.github.palexdev.architectfx.backend.deps.DependencyManager;
+import io.github.palexdev.architectfx.backend.enums.LintRule;
+import io.github.palexdev.architectfx.backend.lint.DocumentLinter;
+import io.github.palexdev.architectfx.backend.lint.LintFinding;
+import io.github.palexdev.architectfx.backend.model.UIDocument;
+import misc.DummyLoader;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestDocumentLinter {
+
+    @Test
+    void testNames() throws IOException {
+        UIDocument document = parse("""
+            .imports {
+              'javafx.scene.shape.*',
+              'javafx.scene.layout.*',
+              'javafx.scene.control.Label'
+            }
+
+            StackPane {
+              Label {}
+              Rectangle {}
+              NotImported {}
+            }
+            """);
+
+        List<LintFinding> findings = new DocumentLinter(new DependencyManager()).lint(document);
+        // Label is explicit, StackPane is in the first star package (imports are sorted)
+        assertEquals(2, findings.size(), findings.toString());
+        assertEquals(LintRule.UNRESOLVED_NAME, findings.get(0).rule());
+        assertTrue(findings.get(0).message().contains("NotImported"));
+        assertEquals(LintRule.STAR_IMPORT, findings.get(1).rule());
+        assertTrue(findings.get(1).message().contains("Rectangle"));
+        assertTrue(findings.get(0).cost() > findings.get(1).cost());
+    }
+
+    @Test
+    void testRepeatedAndLarge() throws IOException {
+        String path = "M0 0 L10 10 ".repeat(500);
+        UIDocument document = parse("""
+            .imports {
+              'javafx.geometry.Insets',
+              'javafx.scene.layout.StackPane',
+              'javafx.scene.shape.SVGPath'
+            }
+
+            StackPane {
+              padding: Insets::(10.0){}
+              StackPane {
+                padding: Insets::(10.0){}
+              }
+              SVGPath {
+                content: '%s'
+              }
+            }
+            """.formatted(path));
+
+        List<LintFinding> findings = new DocumentLinter().lint(document);
+        assertTrue(findings.stream().anyMatch(f -> f.rule() == LintRule.REPEATED_CONSTRUCTOR), findings.toString());
+        assertTrue(findings.stream().anyMatch(f -> f.rule() == LintRule.LARGE_STRING), findings.toString());
+        assertTrue(findings.stream().noneMatch(f -> f.rule() == LintRule.UNRESOLVED_NAME), findings.toString());
+    }
+
+    @Test
+    void testDeepNesting() throws IOException {
+        int depth = DocumentLinter.MAX_DEPTH + 5;
+        String doc = "javafx.scene.layout.Pane {\n".repeat(depth + 1) + "}\n".repeat(depth + 1);
+        List<LintFinding> findings = new DocumentLinter().lint(parse(doc));
+        assertEquals(1, findings.size(), findings.toString());
+        assertEquals(LintRule.DEEP_NESTING, findings.getFirst().rule());
+    }
+
+    private UIDocument parse(String doc) throws IOException {
+        return new DummyLoader<>().parse(new ByteArrayInputStream(doc.getBytes()), null);
+    }
+}
@@ -0,0 +1,37 @@
+package unit;
+
+import io.github.palexdev.architectfx.backend.render.ImageDiff;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestImageDiff {
+
+    @Test
+    void testCompare() {
+        int[] expected = {0xFF000000, 0xFFFFFFFF, 0xFF808080, 0x00000000};
+        ImageDiff.Result same = ImageDiff.compare(expected, expected.clone(), 2, 2, 0);
+        assertTrue(same.isEqual());
+        assertEquals(0, same.maxDelta());
+        assertEquals(0.0, same.ratio());
+
+        int[] actual = {0xFF000000, 0xFFFFFFFE, 0xFF80A080, 0xFF000000};
+        ImageDiff.Result strict = ImageDiff.compare(expected, actual, 2, 2, 0);
+        assertEquals(3, strict.different());
+        assertEquals(255, strict.maxDelta());
+        assertEquals(0.75, strict.ratio());
+        assertArrayEquals(new int[]{0, ImageDiff.Result.MASK_COLOR, ImageDiff.Result.MASK_COLOR, ImageDiff.Result.MASK_COLOR}, strict.mask());
+
+        // Small differences are tolerated, alpha is compared as well
+        ImageDiff.Result tolerant = ImageDiff.compare(expected, actual, 2, 2, 0x20);
+        assertEquals(1, tolerant.different());
+        assertEquals(0, tolerant.mask()[1]);
+        assertEquals(ImageDiff.Result.MASK_COLOR, tolerant.mask()[3]);
+    }
+
+    @Test
+    void testSizeMismatch() {
+        assertThrows(IllegalArgumentException.class, () -> ImageDiff.compare(new int[4], new int[3], 2, 2, 0));
+        assertThrows(IllegalArgumentException.class, () -> ImageDiff.compare(new int[4], new int[4], 3, 1, 0));
+    }
+}
@@ -0,0 +1,133 @@
+package unit;
+
+import io.github.palexdev.architectfx.backend.utils.IntRangeSet;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestIntRangeSet {
+
+    @Test
+    void testAdd() {
+        IntRangeSet set = new IntRangeSet();
+        set.add(5, 10);
+        set.add(12, 15);
+        assertEquals("[5..9, 12..14]", set.toString());
+
+        // Touching runs are merged, on both sides
+        set.add(10, 12);
+        assertEquals("[5..14]", set.toString());
+        set.add(3, 5);
+        set.add(15, 16);
+        assertEquals("[3..15]", set.toString());
+        assertEquals(1, set.runs());
+        assertEquals(13, set.size());
+
+        // Overlapping several runs
+        set.add(20, 22);
+        set.add(25, 27);
+        set.add(14, 26);
+        assertEquals("[3..26]", set.toString());
+        assertEquals(24, set.size());
+
+        // Already contained, nothing changes
+        int version = set.version();
+        set.add(4, 10);
+        set.add(10, 10);
+        assertEquals(version, set.version());
+    }
+
+    @Test
+    void testRemove() {
+        IntRangeSet set = new IntRangeSet();
+        set.add(0, 10);
+
+        // Split in the middle
+        set.remove(4, 6);
+        assertEquals("[0..3, 6..9]", set.toString());
+        assertEquals(8, set.size());
+
+        // Exactly at the runs' boundaries
+        set.remove(0, 1);
+        set.remove(9, 10);
+        assertEquals("[1..3, 6..8]", set.toString());
+
+        // Across the gap, trimming both runs
+        set.remove(3, 7);
+        assertEquals("[1..2, 7..8]", set.toString());
+        assertEquals(4, set.size());
+
+        // In the gap or past the end, nothing changes
+        int version = set.version();
+        set.remove(3, 7);
+        set.remove(9, 20);
+        assertEquals(version, set.version());
+
+        set.remove(0, 20);
+        assertTrue(set.isEmpty());
+        assertEquals(-1, set.first());
+        assertEquals(-1, set.last());
+    }
+
+    @Test
+    void testInsertShift() {
+        IntRangeSet set = new IntRangeSet();
+        set.add(2, 5);
+        set.add(8, 10);
+
+        // At a run's start, the whole run shifts
+        set.insertShift(8, 2);
+        assertEquals("[2..4, 10..11]", set.toString());
+
+        // At a run's end, the run stays
+        set.insertShift(5, 1);
+        assertEquals("[2..4, 11..12]", set.toString());
+
+        // Inside a run, the run is split
+        set.insertShift(3, 2);
+        assertEquals("[2..2, 5..6, 13..14]", set.toString());
+        assertEquals(5, set.size());
+
+        // After the last run, nothing changes
+        int version = set.version();
+        set.insertShift(15, 3);
+        assertEquals(version, set.version());
+    }
+
+    @Test
+    void testRemoveShift() {
+        IntRangeSet set = new IntRangeSet();
+        set.add(2, 5);
+        set.add(8, 10);
+
+        // Removing the gap merges the runs
+        set.removeShift(5, 3);
+        assertEquals("[2..6]", set.toString());
+        assertEquals(1, set.runs());
+
+        set.add(9, 11);
+        // Removing the run's head, the rest shifts down
+        set.removeShift(2, 2);
+        assertEquals("[2..4, 7..8]", set.toString());
+
+        // Across both runs' boundaries
+        set.removeShift(4, 4);
+        assertEquals("[2..4]", set.toString());
+        assertEquals(3, set.size());
+
+        // After the last run, nothing changes
+        int version = set.version();
+        set.removeShift(10, 5);
+        assertEquals(version, set.version());
+    }
+
+    @Test
+    void testToArray() {
+        IntRangeSet set = new IntRangeSet();
+        for (int i = 0; i < 20; i += 3) set.add(i, i + 2);
+        int[] expected = {0, 1, 3, 4, 6, 7, 9, 10, 12, 13, 15, 16, 18, 19};
+        assertArrayEquals(expected, set.toArray());
+        assertEquals(expected.length, set.size());
+        for (int i = 0; i < 21; i++) assertEquals(i % 3 != 2 && i < 20, set.contains(i));
+    }
+}
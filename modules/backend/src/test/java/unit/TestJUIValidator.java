@@ -0,0 +1,85 @@
+package unit;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import io.github.palexdev.architectfx.backend.cli.JUIValidator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestJUIValidator {
+    @TempDir
+    Path dir;
+
+    @Test
+    void testValidDocuments() throws Exception {
+        Files.writeString(dir.resolve("Valid.jui"), """
+            .imports {
+              'javafx.scene.layout.StackPane',
+              'javafx.scene.control.Label'
+            }
+
+            StackPane {
+              prefWidth: 100.0
+              Label {
+                text: 'Hello'
+              }
+            }
+            """);
+
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        JUIValidator.Summary summary = new JUIValidator(dir, 2, null, true, new PrintStream(bos)).run();
+        assertEquals(1, summary.files());
+        assertEquals(0, summary.errors(), bos.toString());
+        assertTrue(summary.tokens() > 0);
+    }
+
+    @Test
+    void testErrorsPositions() throws Exception {
+        Files.writeString(dir.resolve("Invalid.jui"), """
+            .imports {
+              'javafx.scene.layout.StackPane'
+            }
+
+            StackPane {
+              notAProperty: 100.0
+            }
+            """);
+        Files.createDirectories(dir.resolve("nested"));
+        Files.writeString(dir.resolve("nested/Syntax.jui"), """
+            StackPane {
+              prefWidth: : 100.0
+            }
+            """);
+
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        JUIValidator.Summary summary = new JUIValidator(dir, 2, null, true, new PrintStream(bos)).run();
+        String out = bos.toString();
+        assertEquals(2, summary.files());
+        assertEquals(2, summary.errors(), out);
+        assertTrue(out.contains("Invalid.jui:6:3: error: Unresolved property 'notAProperty'"), out);
+        assertTrue(out.contains("Syntax.jui:2:"), out);
+    }
+
+    @Test
+    void testEmit() throws Exception {
+        Files.writeString(dir.resolve("Doc.jui"), """
+            .imports {
+              'javafx.scene.layout.*'
+            }
+
+            StackPane {}
+            """);
+
+        Path out = dir.resolve("out");
+        JUIValidator.Summary summary = new JUIValidator(dir, 1, out, true, new PrintStream(new ByteArrayOutputStream())).run();
+        assertEquals(0, summary.errors());
+        String emitted = Files.readString(out.resolve("Doc.jui"));
+        assertTrue(emitted.contains("'javafx.scene.layout.StackPane'"), emitted);
+        assertTrue(emitted.contains("StackPane {}"), emitted);
+    }
+}
@@ -0,0 +1,92 @@
+package unit;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import io.github.palexdev.architectfx.backend.deps.DependencyManager;
+import io.github.palexdev.architectfx.backend.deps.JarIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestJarIndex {
+    private final Path defaultCacheDir = JarIndex.getCacheDir();
+
+    @TempDir
+    Path tmp;
+
+    @AfterEach
+    void restore() {
+        JarIndex.setCacheDir(defaultCacheDir);
+    }
+
+    @Test
+    void testBuild() throws IOException {
+        Path jar = jar(tmp.resolve("test.jar"), "a/b/Foo.class", "a/b/Foo$Bar.class", "a/c/Foo.class", "a/b/package-info.class", "META-INF/versions/9/a/b/Baz.class");
+        JarIndex index = JarIndex.build(jar);
+        assertTrue(index.containsClass("a.b", "Foo"));
+        assertTrue(index.containsClass("a.b", "Foo$Bar"));
+        assertFalse(index.containsClass("a.b", "package-info"));
+        assertFalse(index.containsClass("a.b", "Baz"));
+        assertEquals(List.of("a.b.Foo", "a.c.Foo"), index.find("Foo").stream().sorted().toList());
+        assertTrue(index.find("Baz").isEmpty());
+    }
+
+    @Test
+    void testDiskCache() throws IOException {
+        Path cache = tmp.resolve("cache");
+        JarIndex.setCacheDir(cache);
+
+        Path jar = jar(tmp.resolve("first.jar"), "x/y/One.class", "x/y/Two.class", "z/Three.class");
+        JarIndex built = JarIndex.load(jar);
+        try (var files = Files.list(cache)) {
+            assertEquals(1, files.count());
+        }
+
+        // Same content at another path, the index is shared and read back from disk
+        Path copy = Files.copy(jar, tmp.resolve("copy.jar"));
+        JarIndex loaded = JarIndex.load(copy);
+        try (var files = Files.list(cache)) {
+            assertEquals(1, files.count());
+        }
+        assertEquals(built.packages(), loaded.packages());
+        assertEquals(built.classes("x.y"), loaded.classes("x.y"));
+        assertEquals(List.of("z.Three"), loaded.find("Three"));
+
+        // A corrupted file is rebuilt
+        try (var files = Files.list(cache)) {
+            Files.write(files.findFirst().orElseThrow(), new byte[]{1, 2, 3});
+        }
+        assertEquals(built.packages(), JarIndex.load(jar).packages());
+    }
+
+    @Test
+    void testSplitPackage() throws IOException {
+        JarIndex.setCacheDir(tmp.resolve("cache"));
+        Path jar = jar(tmp.resolve("split.jar"), "java/util/Fake.class");
+        DependencyManager dm = new DependencyManager().addDeps(jar);
+
+        // The dependency owns the package, but it's not the only one
+        assertTrue(dm.containsClass("java.util", "Fake"));
+        assertTrue(dm.containsClass("java.util", "ArrayList"));
+        assertFalse(dm.containsClass("java.util", "Nope"));
+    }
+
+    private Path jar(Path path, String... entries) throws IOException {
+        try (OutputStream os = Files.newOutputStream(path); ZipOutputStream zos = new ZipOutputStream(os)) {
+            for (String entry : entries) {
+                zos.putNextEntry(new ZipEntry(entry));
+                zos.write(new byte[]{(byte) 0xCA, (byte) 0xFE});
+                zos.closeEntry();
+            }
+        }
+        return path;
+    }
+}
@@ -0,0 +1,79 @@
+package unit;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+import io.github.palexdev.architectfx.backend.loaders.UILoader;
+import io.github.palexdev.architectfx.backend.resolver.NodeRecycler;
+import misc.DummyLoader;
+import misc.InjectTestClass;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestNodeRecycler {
+
+    @Test
+    void testReuse() throws IOException {
+        NodeRecycler recycler = new NodeRecycler()
+            .register(InjectTestClass.class, NodeRecycler.sameShape());
+        DummyLoader<InjectTestClass> loader = new DummyLoader<>();
+        loader.setConfig(() -> new UILoader.Config().setRecycler(recycler));
+
+        InjectTestClass first = load(loader, "InjectTestClass { aString: 'a' }");
+        assertEquals(1, recycler.retained());
+
+        // Same type and position, the property is set again
+        InjectTestClass second = load(loader, "InjectTestClass { aString: 'b' anInt: 2 }");
+        assertSame(first, second);
+        assertEquals("b", second.aString);
+        assertEquals(1, recycler.reused());
+
+        // anInt would keep the old value, so a new instance is created
+        InjectTestClass third = load(loader, "InjectTestClass { aString: 'c' }");
+        assertNotSame(second, third);
+        assertEquals(0, third.anInt);
+        assertEquals(0, recycler.reused());
+    }
+
+    @Test
+    void testNoPolicy() throws IOException {
+        NodeRecycler recycler = new NodeRecycler();
+        DummyLoader<InjectTestClass> loader = new DummyLoader<>();
+        loader.setConfig(() -> new UILoader.Config().setRecycler(recycler));
+
+        InjectTestClass first = load(loader, "InjectTestClass { aString: 'a' }");
+        InjectTestClass second = load(loader, "InjectTestClass { aString: 'a' }");
+        assertNotSame(first, second);
+        assertEquals(0, recycler.reused());
+    }
+
+    @Test
+    void testController() throws IOException {
+        NodeRecycler recycler = new NodeRecycler()
+            .register(InjectTestClass.class, NodeRecycler.sameShape());
+        DummyLoader<InjectTestClass> loader = new DummyLoader<>();
+        loader.setConfig(() -> new UILoader.Config().setRecycler(recycler));
+
+        load(loader, "InjectTestClass { aString: 'a' }");
+        assertEquals(1, recycler.retained());
+
+        // The controller may modify the instances, nothing is reused nor retained
+        String doc = """
+            .controller: misc.InjectTestClass$Controller {}
+
+            InjectTestClass { aString: 'b' }
+            """;
+        InjectTestClass first = load(loader, doc);
+        assertEquals(0, recycler.reused());
+        assertEquals(0, recycler.retained());
+
+        InjectTestClass second = load(loader, "InjectTestClass { aString: 'c' }");
+        assertNotSame(first, second);
+        assertEquals(0, recycler.reused());
+    }
+
+    private InjectTestClass load(DummyLoader<InjectTestClass> loader, String doc) throws IOException {
+        return loader.load(new ByteArrayInputStream(doc.getBytes()), null).root();
+    }
+}
@@ -0,0 +1,82 @@
+package unit;
+
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import io.github.palexdev.architectfx.backend.render.OffscreenRenderer;
+import io.github.palexdev.architectfx.backend.render.OffscreenRenderer.Snapshot;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestOffscreenRenderer {
+    private static final int RED = 0xFFFF0000;
+    private static final int BLUE = 0xFF0000FF;
+    private static final int WHITE = 0xFFFFFFFF;
+
+    @TempDir
+    Path dir;
+
+    @BeforeAll
+    static void startToolkit() {
+        OffscreenRenderer.startHeadless();
+    }
+
+    @Test
+    void testRender() throws Exception {
+        OffscreenRenderer renderer = new OffscreenRenderer(64, 48);
+        Snapshot snap = renderer.render(document("Red.jui", "RED")).get(30, TimeUnit.SECONDS);
+        assertEquals(64, snap.width());
+        assertEquals(48, snap.height());
+        assertEquals(64 * 48, snap.pixels().length);
+
+        // The 40x30 rectangle is centered by the container, the rest is the scene's fill
+        assertEquals(RED, pixel(snap, 32, 24));
+        assertEquals(RED, pixel(snap, 14, 11));
+        assertEquals(WHITE, pixel(snap, 0, 0));
+        assertEquals(WHITE, pixel(snap, 63, 47));
+    }
+
+    @Test
+    void testPoolReuse() throws Exception {
+        OffscreenRenderer renderer = new OffscreenRenderer(64, 48).setPoolSize(1);
+        Snapshot red = renderer.render(document("Red.jui", "RED")).get(30, TimeUnit.SECONDS);
+        Snapshot blue = renderer.render(document("Blue.jui", "BLUE")).get(30, TimeUnit.SECONDS);
+        assertEquals(1, renderer.getScenesCreated());
+
+        // The reused scene does not retain the previous graph
+        assertEquals(RED, pixel(red, 32, 24));
+        assertEquals(BLUE, pixel(blue, 32, 24));
+        assertTrue(blue.diff(red, 0).different() > 0);
+
+        // Without pool, every render needs a new scene
+        OffscreenRenderer noPool = new OffscreenRenderer(64, 48).setPoolSize(0);
+        noPool.render(document("Red.jui", "RED")).get(30, TimeUnit.SECONDS);
+        noPool.render(document("Blue.jui", "BLUE")).get(30, TimeUnit.SECONDS);
+        assertEquals(2, noPool.getScenesCreated());
+    }
+
+    private URL document(String name, String color) throws Exception {
+        Path file = Files.writeString(dir.resolve(name), """
+            .imports {
+              'javafx.scene.paint.Color',
+              'javafx.scene.shape.Rectangle'
+            }
+
+            Rectangle {
+              width: 40.0
+              height: 30.0
+              fill: Color.%s
+            }
+            """.formatted(color));
+        return file.toUri().toURL();
+    }
+
+    private int pixel(Snapshot snap, int x, int y) {
+        return snap.pixels()[y * snap.width() + x];
+    }
+}
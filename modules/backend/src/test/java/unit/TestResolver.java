@@ -0,0 +1,59 @@
+package unit;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.github.palexdev.architectfx.backend.model.UIObj;
+import io.github.palexdev.architectfx.backend.resolver.DefaultResolver;
+import misc.InjectTestClass;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestResolver {
+
+    @Test
+    void testDeepTree() {
+        int depth = 50_000;
+        UIObj root = new UIObj("misc.InjectTestClass");
+        UIObj curr = root;
+        for (int i = 0; i < depth; i++) {
+            UIObj child = new UIObj("misc.InjectTestClass");
+            curr.addChildren(child);
+            curr = child;
+        }
+
+        DefaultResolver resolver = new DefaultResolver();
+        List<Object> parents = new ArrayList<>();
+        resolver.context().setChildrenHandler((Object parent, List<Object> children) -> {
+            assertEquals(1, children.size());
+            parents.add(parent);
+        });
+        InjectTestClass instance = resolver.resolveObj(root);
+
+        // Children are attached once their subtree is done, so the deepest parent comes first
+        assertEquals(depth, parents.size());
+        assertSame(instance, parents.getLast());
+        assertSame(root, resolver.context().getObj(instance));
+        assertEquals(depth + 1, resolver.context().getInstancesUnmodifiable().size());
+        assertNull(resolver.context().getCurrentNode());
+    }
+
+    @Test
+    void testSiblingsOrder() {
+        UIObj root = new UIObj("misc.InjectTestClass");
+        UIObj a = new UIObj("misc.InjectTestClass");
+        UIObj b = new UIObj("misc.InjectTestClass");
+        UIObj c = new UIObj("misc.InjectTestClass");
+        root.addChildren(a, c);
+        a.addChildren(b);
+
+        DefaultResolver resolver = new DefaultResolver();
+        List<List<Object>> attached = new ArrayList<>();
+        resolver.context().setChildrenHandler((Object parent, List<Object> children) -> attached.add(children));
+        resolver.resolveObj(root);
+
+        var instances = resolver.context().getInstancesUnmodifiable();
+        assertEquals(List.of(List.of(instances.get(b)), List.of(instances.get(a), instances.get(c))), attached);
+    }
+}
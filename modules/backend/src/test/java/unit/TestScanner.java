@@ -1,14 +1,27 @@
 package unit;
 
+import java.io.ByteArrayInputStream;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
 import io.github.classgraph.ClassInfoList;
 import io.github.palexdev.architectfx.backend.deps.DependencyManager;
+import io.github.palexdev.architectfx.backend.render.OffscreenRenderer;
+import io.github.palexdev.architectfx.backend.resolver.Resolver;
+import io.github.palexdev.architectfx.backend.utils.ImportsSet;
+import io.github.palexdev.architectfx.backend.utils.reflection.ImportsIndex;
 import io.github.palexdev.architectfx.backend.utils.reflection.Scanner;
 import io.github.palexdev.architectfx.backend.utils.reflection.Scanner.ScanScope;
 import javafx.scene.Node;
+import javafx.scene.control.ButtonBar;
+import javafx.scene.control.Label;
+import javafx.scene.shape.Rectangle;
+import misc.DummyLoader;
 import org.junit.jupiter.api.Test;
 
 import static io.github.palexdev.architectfx.backend.deps.MavenHelper.artifact;
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
 
 public class TestScanner {
 
@@ -50,4 +63,107 @@ public class TestScanner {
         assertEquals("io.github.palexdev.mfxcore.controls.Label", l.getFirst().getName());
         assertEquals("javafx.scene.control.Label", l.get(1).getName());
     }
+
+    @Test
+    void testImportsIndex() throws ClassNotFoundException {
+        DependencyManager dm = new DependencyManager();
+        ImportsSet imports = new ImportsSet();
+        imports.addAll(List.of(
+            "javafx.scene.shape.*",
+            "javafx.scene.layout.*",
+            "javafx.scene.control.Label",
+            "javafx.scene.control.ButtonBar$ButtonData"
+        ));
+        ImportsIndex index = new ImportsIndex(imports);
+        assertEquals("javafx.scene.control.Label", index.explicit("Label"));
+        assertEquals("javafx.scene.control.ButtonBar$ButtonData", index.explicit("ButtonData"));
+        assertNull(index.explicit("Pane"));
+        assertEquals("javafx.scene.layout.Pane", index.fromPackages("Pane", dm));
+        assertEquals(1, index.indexOfPackage("Rectangle", dm));
+        assertNull(index.fromPackages("NotAClass", dm));
+
+        Scanner scanner = new Scanner(dm, imports);
+        assertEquals(Rectangle.class, scanner.findClass("Rectangle"));
+        assertEquals(Label.class, scanner.findClass("Label"));
+    }
+
+    @Test
+    void testDocumentImports() {
+        // Controls need the toolkit
+        OffscreenRenderer.startHeadless();
+        String doc = """
+            .deps {
+              'io.github.palexdev:materialfx:11.17.0'
+            }
+
+            .imports {
+              %s
+            }
+
+            Label {}
+            """;
+
+        // Label is both in JavaFX and in MFXCore, the imports decide
+        for (String fqn : List.of("io.github.palexdev.mfxcore.controls.Label", "javafx.scene.control.Label")) {
+            Object root = assertDoesNotThrow(() -> load(doc.formatted("'" + fqn + "'")));
+            assertEquals(fqn, root.getClass().getName());
+        }
+        assertThrows(Exception.class, () -> load(doc.formatted("")));
+    }
+
+    @Test
+    void testNegativeCache() {
+        DependencyManager dm = new DependencyManager();
+        Scanner scanner = new Scanner(dm);
+        String name = "io.github.palexdev.mfxcore.base.beans.Size";
+        ClassNotFoundException first = assertThrows(ClassNotFoundException.class, () -> scanner.findClass(name));
+        assertFalse(first.getMessage().contains("cached"));
+        ClassNotFoundException second = assertThrows(ClassNotFoundException.class, () -> scanner.findClass(name));
+        assertTrue(second.getMessage().contains("cached"));
+
+        // Adding jars changes the fingerprint and invalidates the misses
+        long fingerprint = dm.fingerprint();
+        dm.addDeps(artifact("io.github.palexdev", "materialfx", "11.17.0"));
+        assertNotEquals(fingerprint, dm.fingerprint());
+        assertDoesNotThrow(() -> scanner.findClass(name));
+    }
+
+    @Test
+    void testNegativeCacheImports() throws ClassNotFoundException {
+        Resolver.Context context = new Resolver.Context(null);
+        Scanner scanner = context.getScanner();
+
+        // Nested classes cannot be found by simple name without imports
+        assertThrows(ClassNotFoundException.class, () -> scanner.findClass("ButtonData"));
+        ClassNotFoundException cached = assertThrows(ClassNotFoundException.class, () -> scanner.findClass("ButtonData"));
+        assertTrue(cached.getMessage().contains("cached"));
+
+        // Changing the imports invalidates the misses
+        context.setImports(Set.of("javafx.scene.control.ButtonBar$ButtonData"));
+        assertEquals(ButtonBar.ButtonData.class, scanner.findClass("ButtonData"));
+    }
+
+    @Test
+    void testLookup() {
+        DependencyManager dm = new DependencyManager().addDeps(
+            artifact("io.github.palexdev", "materialfx", "11.17.0"),
+            artifact("io.github.palexdev", "virtualizedfx", "21.6.0")
+        );
+        Set<Path> deps = Set.copyOf(dm.dependencies());
+        Scanner scanner = new Scanner(dm);
+        assertEquals(List.of("javafx.scene.layout.GridPane"), scanner.lookup("GridPane", ScanScope.ALL));
+        assertEquals(List.of("io.github.palexdev.mfxcore.base.beans.Size"), scanner.lookup("io.github.palexdev.mfxcore.base.beans.Size", ScanScope.DEPS));
+        assertTrue(scanner.lookup("io.github.palexdev.mfxcore.base.beans.Size", ScanScope.ALL).isEmpty());
+
+        List<String> labels = scanner.lookup("Label", ScanScope.DEPS);
+        assertTrue(labels.contains("io.github.palexdev.mfxcore.controls.Label"));
+        assertTrue(labels.contains("javafx.scene.control.Label"));
+
+        // Scopes must not alter the dependencies
+        assertEquals(deps, dm.dependencies());
+    }
+
+    private Object load(String doc) throws Exception {
+        return new DummyLoader<>().load(new ByteArrayInputStream(doc.getBytes()), null).root();
+    }
 }
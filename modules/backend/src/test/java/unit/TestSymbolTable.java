@@ -0,0 +1,32 @@
+package unit;
+
+import io.github.palexdev.architectfx.backend.model.ObjProperty;
+import io.github.palexdev.architectfx.backend.model.UIObj;
+import io.github.palexdev.architectfx.backend.utils.SymbolTable;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestSymbolTable {
+
+    @Test
+    void testIntern() {
+        SymbolTable table = new SymbolTable(4);
+        String first = new String("javafx.scene.layout.StackPane");
+        String second = new String("javafx.scene.layout.StackPane");
+        assertNotSame(first, second);
+        assertSame(first, table.intern(first));
+        assertSame(first, table.intern(second));
+        assertSame(first, table.intern("javafx.scene.layout." + "StackPane".trim()));
+        assertEquals(1, table.size());
+        assertNull(table.intern(null));
+    }
+
+    @Test
+    void testModel() {
+        UIObj a = new UIObj(new String("Label"));
+        UIObj b = new UIObj(new String("Label"));
+        assertSame(a.getType(), b.getType());
+        assertSame(new ObjProperty(new String("prefWidth")).getName(), new ObjProperty(new String("prefWidth")).getName());
+    }
+}
@@ -0,0 +1,77 @@
+package unit;
+
+import java.util.List;
+
+import io.github.palexdev.architectfx.backend.utils.TextIndex;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestTextIndex {
+
+    @Test
+    void testSearch() {
+        TextIndex<String> index = new TextIndex<>();
+        index.add("a", List.of("StackPane", "root"));
+        index.add("b", List.of("Label", "prefWidth", "title"));
+        index.add("c", List.of("Button", "prefHeight"));
+
+        assertEquals(List.of("b", "c"), index.search("PREF"));
+        assertEquals(List.of("a"), index.search("ckp"));
+        assertEquals(List.of("b"), index.search("it"));
+        assertEquals(List.of("a", "b", "c"), index.search(""));
+        assertTrue(index.search("xyz").isEmpty());
+
+        assertEquals(List.of("b", "c"), index.searchPrefix("pref"));
+        assertTrue(index.searchPrefix("ane").isEmpty());
+    }
+
+    @Test
+    void testUpdate() {
+        TextIndex<Integer> index = new TextIndex<>();
+        for (int i = 0; i < 1000; i++) {
+            index.add(i, List.of("item" + i, (i % 2 == 0) ? "even" : "odd"));
+        }
+        assertEquals(500, index.search("even").size());
+
+        // Replace terms
+        index.add(0, List.of("zero"));
+        assertEquals(List.of(0), index.search("zero"));
+        assertFalse(index.search("item0").contains(0));
+
+        // Removals, with compaction
+        for (int i = 1; i < 1000; i += 2) index.remove(i);
+        for (int i = 2; i < 900; i += 2) index.remove(i);
+        assertEquals(51, index.size());
+        assertEquals(50, index.search("even").size());
+        assertTrue(index.search("odd").isEmpty());
+        assertEquals(List.of(0), index.search("zero"));
+        assertEquals(List.of(900, 902, 904, 906, 908), index.search("item90"));
+        // Re-added items go last
+        assertEquals(0, index.all().getLast());
+    }
+
+    @Test
+    void testRank() {
+        TextIndex<String> index = new TextIndex<>();
+        index.add("fuzzy", List.of("VisualEditorWidget"));
+        index.add("substring", List.of("MyView"));
+        index.add("prefix", List.of("ViewModel"));
+        index.add("exact", List.of("view", "MyView"));
+        index.add("none", List.of("Label"));
+
+        List<TextIndex.Match<String>> res = index.rank("view");
+        assertEquals(List.of("exact", "prefix", "substring", "fuzzy"), res.stream().map(TextIndex.Match::item).toList());
+        assertEquals(List.of(TextIndex.EXACT, TextIndex.PREFIX, TextIndex.SUBSTRING, TextIndex.FUZZY), res.stream().map(TextIndex.Match::score).toList());
+
+        // Short queries scan the whole dictionary
+        assertEquals("prefix", index.rank("vm").getFirst().item());
+        assertEquals(5, index.rank("").size());
+
+        // Ranking among candidates gives the same results as the full ranking, restricted to them
+        List<TextIndex.Match<String>> among = index.rank("view", List.of("none", "fuzzy", "exact", "missing"));
+        assertEquals(List.of("exact", "fuzzy"), among.stream().map(TextIndex.Match::item).toList());
+        assertEquals(List.of(TextIndex.EXACT, TextIndex.FUZZY), among.stream().map(TextIndex.Match::score).toList());
+        assertEquals(List.of("substring", "prefix"), index.rank("", List.of("prefix", "substring")).stream().map(TextIndex.Match::item).toList());
+    }
+}
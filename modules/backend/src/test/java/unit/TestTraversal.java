@@ -0,0 +1,71 @@
+package unit;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import io.github.palexdev.architectfx.backend.model.UIObj;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestTraversal {
+
+    @Test
+    void testOrders() {
+        UIObj r = new UIObj("R");
+        UIObj a = new UIObj("A");
+        UIObj b = new UIObj("B");
+        UIObj c = new UIObj("C");
+        UIObj d = new UIObj("D");
+        r.addChildren(a, c);
+        a.addChildren(b);
+        c.addChildren(d);
+
+        assertEquals("RABCD", types(r.preOrder()));
+        assertEquals("RABCD", types(r));
+        assertEquals("BADCR", types(r.postOrder()));
+        assertEquals("RACBD", types(r.breadthFirst()));
+        assertEquals("RABCD", r.stream().map(UIObj::getType).collect(Collectors.joining()));
+    }
+
+    @Test
+    void testParallel() {
+        Random random = new Random(7);
+        List<UIObj> all = new ArrayList<>();
+        UIObj root = new UIObj("0");
+        all.add(root);
+        for (int i = 1; i < 50_000; i++) {
+            UIObj obj = new UIObj(String.valueOf(i));
+            all.get(random.nextInt(all.size())).addChildren(obj);
+            all.add(obj);
+        }
+
+        List<UIObj> sequential = new ArrayList<>();
+        root.forEach(sequential::add);
+        assertEquals(all.size(), sequential.size());
+        assertEquals(sequential, root.parallelStream().toList());
+    }
+
+    @Test
+    void testDeep() {
+        UIObj root = new UIObj("D");
+        UIObj curr = root;
+        for (int i = 0; i < 100_000; i++) {
+            UIObj child = new UIObj("D");
+            curr.addChildren(child);
+            curr = child;
+        }
+        int count = 0;
+        for (UIObj ignored : root.postOrder()) count++;
+        assertEquals(100_001, count);
+        assertSame(curr, root.postOrder().iterator().next());
+    }
+
+    private String types(Iterable<UIObj> objs) {
+        StringBuilder sb = new StringBuilder();
+        for (UIObj obj : objs) sb.append(obj.getType());
+        return sb.toString();
+    }
+}
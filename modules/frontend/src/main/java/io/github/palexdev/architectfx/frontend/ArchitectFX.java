@@ -56,6 +56,9 @@ public class ArchitectFX extends Application {
     //================================================================================
     public static final String APP_TITLE = "ArchitectFX";
     public static final String GIT = "https://github.com/palexdev/ArchitectFX";
+    /// The name of the [io.github.palexdev.architectfx.backend.utils.Async] executor shared by all the work related to
+    /// previews: loading, analyzing, inspecting and thumbnails.
+    public static final String PREVIEW_EXECUTOR = "preview";
     public static final StringProperty windowTitle = new SimpleStringProperty(APP_TITLE);
 
     // Extra beans
@@ -19,17 +19,20 @@
 package io.github.palexdev.architectfx.frontend.components;
 
 
-import java.security.SecureRandom;
 import java.util.*;
 import java.util.concurrent.Future;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
+import io.github.palexdev.architectfx.backend.enums.TaskPriority;
 import io.github.palexdev.architectfx.backend.model.UIObj;
+import io.github.palexdev.architectfx.backend.utils.Async;
+import io.github.palexdev.architectfx.frontend.ArchitectFX;
+import io.github.palexdev.architectfx.frontend.components.ObjTreeModel.TreeItem;
 import io.github.palexdev.architectfx.frontend.components.layout.Box;
-import io.github.palexdev.architectfx.frontend.components.selection.SelectionModel;
+import io.github.palexdev.architectfx.frontend.components.selection.ISelectionModel;
+import io.github.palexdev.architectfx.frontend.components.selection.RangeSelectionModel;
 import io.github.palexdev.architectfx.frontend.utils.ui.UIUtils;
-import io.github.palexdev.imcache.utils.AsyncUtils;
 import io.github.palexdev.mfxcomponents.controls.buttons.MFXIconButton;
 import io.github.palexdev.mfxcomponents.controls.progress.MFXProgressIndicator;
 import io.github.palexdev.mfxcomponents.controls.progress.ProgressDisplayMode;
@@ -43,6 +46,7 @@ import io.github.palexdev.mfxcore.observables.When;
 import io.github.palexdev.mfxcore.utils.converters.FunctionalStringConverter;
 import io.github.palexdev.mfxcore.utils.fx.LayoutUtils;
 import io.github.palexdev.mfxcore.utils.fx.TextUtils;
+import io.github.palexdev.mfxresources.fonts.MFXFontIcon;
 import io.github.palexdev.rectcut.Rect;
 import io.github.palexdev.virtualizedfx.base.VFXContainer;
 import io.github.palexdev.virtualizedfx.cells.CellBaseBehavior;
@@ -53,10 +57,9 @@ import io.github.palexdev.virtualizedfx.events.VFXContainerEvent;
 import io.github.palexdev.virtualizedfx.list.VFXList;
 import io.github.palexdev.virtualizedfx.list.VFXListHelper;
 import javafx.application.Platform;
-import javafx.beans.InvalidationListener;
 import javafx.beans.property.*;
-import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import javafx.css.PseudoClass;
 import javafx.event.Event;
 import javafx.event.EventType;
 import javafx.geometry.HPos;
@@ -82,16 +85,18 @@ public class ObjInspector extends Box {
         }
     };
 
-    private final ObservableList<TreeItem> flattenedTree = FXCollections.observableArrayList();
+    private final ObjTreeModel model = new ObjTreeModel();
+    private final SelectableVFXList<TreeItem, TreeItemCell> vfxList;
+    private final TextField search;
     private final ReadOnlyBooleanWrapper updating = new ReadOnlyBooleanWrapper(false);
     private Future<?> updateTask;
 
     private boolean showDetails = false;
     private final Function<TreeItem, String> converter = t -> {
         if (t == null) return "null";
-        UIObj obj = t.obj;
+        UIObj obj = t.obj();
         return showDetails ?
-            "%s@%s".formatted(obj.getType(), t.id) :
+            "%s@%s".formatted(obj.getType(), t.id()) :
             "%s".formatted(obj.getType());
     };
 
@@ -108,10 +113,21 @@ public class ObjInspector extends Box {
         header.getStyleClass().add("header");
         getContainerChildren().add(header);
 
+        /* Search */
+        model.setExtraTerms(o -> Optional.ofNullable(nodeResolver.apply(o))
+            .map(n -> (Collection<String>) n.getStyleClass())
+            .orElse(List.of())
+        );
+        search = new TextField("", new MFXFontIcon(), null);
+        search.setPromptText("Search");
+        search.getStyleClass().add("search");
+        getContainerChildren().add(search);
+
         /* Tree View */
-        SelectableVFXList<TreeItem, TreeItemCell> vfxList = new SelectableVFXList<>(
-            flattenedTree,
+        vfxList = new SelectableVFXList<>(
+            model.getItems(),
             t -> new TreeItemCell(t)
+                .setModel(model)
                 .setConverter(converter)
                 .setNodeResolver(nodeResolver)
                 .setShowDetailsChecker(() -> showDetails)
@@ -119,13 +135,24 @@ public class ObjInspector extends Box {
         vfxList.setHelperFactory(o -> new TreeHelper(vfxList));
         vfxList.setFitToViewport(false);
         VFXScrollPane vsp = vfxList.makeScrollable();
-        vsp.visibleProperty().bind(updatingProperty().not());
+        vsp.visibleProperty().bind(BooleanBindingBuilder.build()
+            .setMapper(() -> !isUpdating() || !model.getItems().isEmpty())
+            .addSources(updating, model.getItems())
+            .get()
+        );
         setGrow(vsp, Priority.ALWAYS);
         getContainerChildren().add(vsp);
-
-        SelectionModel<TreeItem> sm = vfxList.getSelectionModel();
+        When.onInvalidated(search.textProperty())
+            .then(t -> {
+                model.setFilter(t);
+                vfxList.update();
+            })
+            .listen();
+
+        vfxList.setSelectionModel(new RangeSelectionModel<>(vfxList.itemsProperty()));
+        ISelectionModel<TreeItem> sm = vfxList.getSelectionModel();
         sm.setAllowsMultipleSelection(false);
-        sm.selection().addListener((InvalidationListener) i -> {
+        sm.changes().addListener(i -> {
             UIObj obj = sm.getSelectedItemOpt().map(TreeItem::obj).orElse(null);
             Node node = nodeResolver.apply(obj);
             fireEvent(new InspectorEvents(InspectorEvents.SHOW_BOUNDS_OVERLAY, node));
@@ -143,7 +170,11 @@ public class ObjInspector extends Box {
 
         MFXIconButton dtspBtn = new MFXIconButton();
         /* TODO implement */
-        dtspBtn.disableProperty().bind(sm.selection().emptyProperty());
+        dtspBtn.disableProperty().bind(BooleanBindingBuilder.build()
+            .setMapper(sm::isEmpty)
+            .addSources(sm.changes())
+            .get()
+        );
         dtspBtn.getStyleClass().add("details");
         UIUtils.installTooltip(dtspBtn, "Deep-inspect UIObj");
 
@@ -170,44 +201,50 @@ public class ObjInspector extends Box {
     // Methods
     //================================================================================
 
+    /// Builds the [TreeItem]s for the current root in background, then hands them to the [ObjTreeModel] which updates
+    /// the list incrementally. The list is kept on screen during the update, the progress indicator is shown only when
+    /// there's nothing to display yet.
     protected void flattenTree() {
         setUpdating(true);
         if (updateTask != null) {
             updateTask.cancel(true);
         }
 
-        flattenedTree.clear();
-
         UIObj root = getRoot();
         if (root == null) {
+            model.setRoot(null);
             setUpdating(false);
             return;
         }
 
-        updateTask = AsyncUtils.runAsync(() -> {
-            List<TreeItem> res = new ArrayList<>();
-            Stack<TreeItem> stack = new Stack<>();
-            stack.push(new TreeItem(null, root, 0));
-
-            while (!stack.isEmpty()) {
-                TreeItem item = stack.pop();
-                UIObj curr = item.obj();
-                int depth = item.depth();
-
-                res.add(item);
-                List<UIObj> children = curr.getChildren();
-                for (int i = children.size() - 1; i >= 0; i--) {
-                    stack.push(new TreeItem(item, children.get(i), depth + 1));
-                }
-            }
-
+        // Nodes are live in the scene, their style classes must be read here, on the JavaFX thread
+        Function<UIObj, Collection<String>> extraTerms = model.snapshotExtraTerms(root);
+        updateTask = Async.run(ArchitectFX.PREVIEW_EXECUTOR, TaskPriority.INTERACTIVE, () -> {
+            TreeItem tree = ObjTreeModel.build(root, extraTerms);
             Platform.runLater(() -> {
-                flattenedTree.setAll(res);
+                if (getRoot() != root) return;
+                model.setRoot(tree);
                 setUpdating(false);
+                // Reused items may now wrap a different UIObj
+                vfxList.update();
             });
         });
     }
 
+    /// Selects the row of the given object and scrolls to it. Collapsed ancestors are expanded, and if the object is
+    /// hidden by the search filter, the filter is cleared.
+    public void select(UIObj obj) {
+        TreeItem item = model.getItem(obj);
+        if (item == null) return;
+        int index = model.reveal(item);
+        if (index < 0) {
+            search.clear();
+            index = model.reveal(item);
+        }
+        vfxList.getSelectionModel().replaceSelection(index);
+        vfxList.scrollToIndex(index);
+    }
+
     //================================================================================
     // Overridden Methods
     //================================================================================
@@ -228,6 +265,10 @@ public class ObjInspector extends Box {
     //================================================================================
     // Getters/Setters
     //================================================================================
+    public ObjTreeModel getModel() {
+        return model;
+    }
+
     public UIObj getRoot() {
         return root.get();
     }
@@ -283,14 +324,6 @@ public class ObjInspector extends Box {
         }
     }
 
-    public record TreeItem(long id, TreeItem parent, UIObj obj, int depth) {
-        private static final SecureRandom ID_GENERATOR = new SecureRandom();
-
-        public TreeItem(TreeItem parent, UIObj obj, int depth) {
-            this(ID_GENERATOR.nextLong(1_000_000), parent, obj, depth);
-        }
-    }
-
     public static class TreeItemCell extends VFXCellBase<TreeItem> {
         private final ReadOnlyBooleanWrapper selected = new ReadOnlyBooleanWrapper() {
             @Override
@@ -299,6 +332,7 @@ public class ObjInspector extends Box {
             }
         };
         private StringConverter<TreeItem> converter;
+        private ObjTreeModel model;
         private Function<UIObj, Node> nodeResolver;
         private Supplier<Boolean> showDetailsChecker;
 
@@ -311,10 +345,10 @@ public class ObjInspector extends Box {
         public void onCreated(VFXContainer<TreeItem> container) {
             super.onCreated(container);
             if (container instanceof SelectableVFXList<TreeItem, ?> sList) {
-                SelectionModel<TreeItem> sm = sList.getSelectionModel();
+                ISelectionModel<TreeItem> sm = sList.getSelectionModel();
                 selected.bind(BooleanBindingBuilder.build()
                     .setMapper(() -> sm.contains(getIndex()))
-                    .addSources(sm.selection(), indexProperty())
+                    .addSources(sm.changes(), indexProperty())
                     .get()
                 );
             }
@@ -356,6 +390,15 @@ public class ObjInspector extends Box {
             return setConverter(FunctionalStringConverter.to(fn));
         }
 
+        public ObjTreeModel getModel() {
+            return model;
+        }
+
+        public TreeItemCell setModel(ObjTreeModel model) {
+            this.model = model;
+            return this;
+        }
+
         public Function<UIObj, Node> getNodeResolver() {
             return nodeResolver;
         }
@@ -378,6 +421,9 @@ public class ObjInspector extends Box {
     }
 
     private static class TreeItemCellSkin extends SkinBase<VFXCellBase<TreeItem>, CellBaseBehavior<TreeItem>> {
+        private static final PseudoClass COLLAPSED = PseudoClass.getPseudoClass("collapsed");
+        private static final PseudoClass MATCH = PseudoClass.getPseudoClass("match");
+
         private final Label typeLabel;
         private final Label classesLabel;
         private final Path line;
@@ -442,7 +488,11 @@ public class ObjInspector extends Box {
         protected void update() {
             TreeItemCell cell = getCell();
             TreeItem item = cell.getItem();
+            boolean collapsed = cell.getModel() != null && cell.getModel().isCollapsed(item);
             String typeText = cell.getConverter().toString(item);
+            if (collapsed) typeText += " [+%d]".formatted(item.children().size());
+            cell.pseudoClassStateChanged(COLLAPSED, collapsed);
+            cell.pseudoClassStateChanged(MATCH, cell.getModel() != null && cell.getModel().isMatch(item));
             String classesText = Optional.ofNullable(cell.getNodeResolver().apply(item.obj()))
                 .filter(n -> cell.isShowDetails() && !n.getStyleClass().isEmpty())
                 .map(n -> Arrays.toString(n.getStyleClass().toArray()))
@@ -474,9 +524,14 @@ public class ObjInspector extends Box {
                 WhenEvent.intercept(cell, MouseEvent.MOUSE_CLICKED)
                     .process(e -> {
                         if (e.getButton() == MouseButton.SECONDARY) return;
+                        if (e.getClickCount() == 2 && cell.getModel() != null) {
+                            cell.getModel().toggle(cell.getIndex());
+                            update();
+                            return;
+                        }
                         VFXContainer<TreeItem> container = cell.getContainer();
                         if (container instanceof SelectableVFXList<TreeItem, ?> sList) {
-                            SelectionModel<TreeItem> sm = sList.getSelectionModel();
+                            ISelectionModel<TreeItem> sm = sList.getSelectionModel();
                             int index = cell.getIndex();
                             boolean selected = sm.contains(index);
                             if (selected) {
@@ -0,0 +1,444 @@
+/*
+ * Copyright (C) 2025 Parisi Alessandro - alessandro.parisi406@gmail.com
+ * This file is part of ArchitectFX (https://github.com/palexdev/ArchitectFX)
+ *
+ * ArchitectFX is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License
+ * as published by the Free Software Foundation; either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * ArchitectFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ArchitectFX. If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.palexdev.architectfx.frontend.components;
+
+import java.util.*;
+import java.util.function.Function;
+
+import io.github.palexdev.architectfx.backend.model.ObjProperty;
+import io.github.palexdev.architectfx.backend.model.UIObj;
+import io.github.palexdev.architectfx.backend.model.types.FieldRef;
+import io.github.palexdev.architectfx.backend.model.types.Value.*;
+import io.github.palexdev.architectfx.backend.utils.CancellationGroup;
+import io.github.palexdev.architectfx.backend.utils.TextIndex;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+/// Persistent model behind the [ObjInspector]'s tree.
+///
+/// The [UIObj] tree is converted to a tree of [TreeItem]s by [#build(UIObj)], which can be called on any thread. Each
+/// item has an id derived from its position in the document (the indexes of the children along the path from the root,
+/// e.g. `0.2.1`), so that the same node gets the same id across reloads.
+///
+/// [#setRoot(TreeItem)] must be called on the JavaFX thread. Items whose id and type did not change are kept (their
+/// [UIObj] is swapped with the new one), and the visible list is only modified in the range between the common prefix
+/// and suffix. This way, cells and selection are preserved for the parts of the document that did not change.
+///
+/// Items can be collapsed and expanded, see [#toggle(int)]. Only the affected range is spliced in/out of the visible
+/// list. The collapsed state is stored by id, which means that it survives reloads. The rows of the visible items are
+/// cached and invalidated from the first modified index onward, so that [#reveal(TreeItem)] doesn't have to search the
+/// whole list every time.
+///
+/// Items are also indexed for search in a [TextIndex], which is updated along with the tree: only the items which are
+/// new, or whose terms changed, are (re)indexed. Terms are computed by [#build(UIObj, Function)], in background. See
+/// [#terms(UIObj)] for what is indexed, and [#setFilter(String)].
+public class ObjTreeModel {
+    //================================================================================
+    // Properties
+    //================================================================================
+    private final ObservableList<TreeItem> items = FXCollections.observableArrayList();
+    private final Set<String> collapsed = new HashSet<>();
+    private Map<String, TreeItem> byId = Map.of();
+    private Map<UIObj, TreeItem> byObj = Map.of();
+    private TreeItem root;
+    private final Map<TreeItem, Integer> rows = new IdentityHashMap<>();
+    private int rowsValid = 0;
+
+    private final TextIndex<TreeItem> index = new TextIndex<>();
+    private Function<UIObj, Collection<String>> extraTerms;
+    private String filter = "";
+
+    //================================================================================
+    // Static Methods
+    //================================================================================
+
+    /// Converts the given [UIObj] tree to a tree of [TreeItem]s, without extra terms.
+    ///
+    /// @see #build(UIObj, Function)
+    public static TreeItem build(UIObj root) {
+        return build(root, null);
+    }
+
+    /// Converts the given [UIObj] tree to a tree of [TreeItem]s, iteratively, so that deep documents cannot overflow
+    /// the stack. Calls [CancellationGroup#checkpoint()] for every node, which allows aborting the build of big
+    /// documents when a newer one comes in.
+    ///
+    /// The searchable terms of each item are computed here too, [#terms(UIObj)] plus the given extra terms (can be
+    /// `null`), so that the work left to [#setRoot(TreeItem)] is just updating the index.
+    ///
+    /// @return the root item, `null` if the given root is `null`
+    public static TreeItem build(UIObj root, Function<UIObj, Collection<String>> extraTerms) {
+        if (root == null) return null;
+        TreeItem rItem = new TreeItem("0", null, root, 0);
+        Deque<TreeItem> stack = new ArrayDeque<>();
+        stack.push(rItem);
+        while (!stack.isEmpty()) {
+            CancellationGroup.checkpoint();
+            TreeItem item = stack.pop();
+            List<String> terms = terms(item.obj);
+            if (extraTerms != null) terms.addAll(extraTerms.apply(item.obj));
+            terms.removeIf(Objects::isNull);
+            item.terms = terms;
+
+            List<UIObj> children = item.obj.getChildren();
+            if (children.isEmpty()) continue;
+
+            TreeItem[] cItems = new TreeItem[children.size()];
+            for (int i = 0; i < cItems.length; i++) {
+                cItems[i] = new TreeItem(item.id + "." + i, item, children.get(i), item.depth + 1);
+            }
+            item.children = Arrays.asList(cItems);
+            for (int i = cItems.length - 1; i >= 0; i--) stack.push(cItems[i]);
+        }
+        return rItem;
+    }
+
+    /// @return the searchable terms of the given object: its type, controller id, property names and the values of
+    /// simple properties (strings, numbers, booleans, chars, URLs and field names)
+    public static List<String> terms(UIObj obj) {
+        List<String> terms = new ArrayList<>();
+        terms.add(obj.getType());
+        if (obj.getControllerId() != null) terms.add(obj.getControllerId());
+        for (ObjProperty property : obj.getProperties().values()) {
+            terms.add(property.getName());
+            switch (property.getValue()) {
+                case BooleanValue v -> terms.add(String.valueOf(v.getValue()));
+                case CharValue v -> terms.add(String.valueOf(v.getValue()));
+                case NumberValue v -> terms.add(String.valueOf(v.getValue()));
+                case StringValue v -> terms.add(v.getValue());
+                case URLValue v -> terms.add(v.getValue());
+                case FieldValue v -> {
+                    FieldRef ref = v.getValue();
+                    if (ref != null) terms.add(ref.getName());
+                }
+                case null, default -> {}
+            }
+        }
+        return terms;
+    }
+
+    //================================================================================
+    // Methods
+    //================================================================================
+
+    /// Sets the new tree, reusing the items of the old one where possible, see the class docs.
+    public void setRoot(TreeItem newRoot) {
+        if (newRoot == null) {
+            root = null;
+            byId = Map.of();
+            byObj = Map.of();
+            index.clear();
+            items.clear();
+            invalidateRows(0);
+            return;
+        }
+
+        // Swap new items with the old ones at the same position and with the same type
+        Map<String, TreeItem> oldById = byId;
+        Map<String, TreeItem> newById = HashMap.newHashMap(Math.max(16, oldById.size()));
+        Map<UIObj, TreeItem> newByObj = new IdentityHashMap<>(oldById.size());
+        Deque<TreeItem> stack = new ArrayDeque<>();
+        root = canonical(newRoot, null, oldById);
+        stack.push(root);
+        while (!stack.isEmpty()) {
+            TreeItem item = stack.pop();
+            newById.put(item.id, item);
+            newByObj.put(item.obj, item);
+            if (item.children.isEmpty()) continue;
+
+            List<TreeItem> children = item.children;
+            TreeItem[] cItems = new TreeItem[children.size()];
+            for (int i = 0; i < cItems.length; i++) {
+                cItems[i] = canonical(children.get(i), item, oldById);
+            }
+            item.children = Arrays.asList(cItems);
+            for (int i = cItems.length - 1; i >= 0; i--) stack.push(cItems[i]);
+        }
+        for (TreeItem old : oldById.values()) {
+            if (newById.get(old.id) != old) index.remove(old);
+        }
+        byId = newById;
+        byObj = newByObj;
+        collapsed.retainAll(newById.keySet());
+        apply(visible());
+    }
+
+    /// Filters the visible items to the ones matching the given query, plus their ancestors. A blank query removes the
+    /// filter. While filtering, the collapsed state of the items is ignored.
+    public void setFilter(String filter) {
+        this.filter = (filter == null) ? "" : filter.strip();
+        if (root != null) apply(visible());
+    }
+
+    /// Computes the extra terms (see [#setExtraTerms(Function)]) of the given object and its descendants. Must be called
+    /// on the JavaFX thread.
+    ///
+    /// @return an immutable snapshot of the terms, which can be safely passed to [#build(UIObj, Function)] on another
+    /// thread, `null` if there's no extra terms function
+    public Function<UIObj, Collection<String>> snapshotExtraTerms(UIObj root) {
+        if (extraTerms == null || root == null) return null;
+        Map<UIObj, Collection<String>> snapshot = new IdentityHashMap<>();
+        for (UIObj obj : root.preOrder()) {
+            snapshot.put(obj, Collections.unmodifiableList(new ArrayList<>(extraTerms.apply(obj))));
+        }
+        return o -> snapshot.getOrDefault(o, List.of());
+    }
+
+    /// @return whether the given item matches the current filter, `false` if there's no filter
+    public boolean isMatch(TreeItem item) {
+        if (item == null || filter.isEmpty()) return false;
+        String q = filter.toLowerCase(Locale.ROOT);
+        for (String term : item.terms) {
+            if (term.toLowerCase(Locale.ROOT).contains(q)) return true;
+        }
+        return false;
+    }
+
+    /// @return the items that should be visible, according to the collapsed state and the filter
+    protected List<TreeItem> visible() {
+        List<TreeItem> visible = new ArrayList<>();
+        if (root == null) return visible;
+        if (filter.isEmpty()) {
+            visible.add(root);
+            if (!collapsed.contains(root.id)) flatten(root, visible);
+            return visible;
+        }
+
+        Set<TreeItem> keep = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (TreeItem match : index.search(filter)) {
+            TreeItem curr = match;
+            while (curr != null && keep.add(curr)) curr = curr.parent;
+        }
+        if (!keep.contains(root)) return visible;
+        Deque<TreeItem> stack = new ArrayDeque<>();
+        stack.push(root);
+        while (!stack.isEmpty()) {
+            TreeItem curr = stack.pop();
+            visible.add(curr);
+            List<TreeItem> children = curr.children;
+            for (int i = children.size() - 1; i >= 0; i--) {
+                TreeItem child = children.get(i);
+                if (keep.contains(child)) stack.push(child);
+            }
+        }
+        return visible;
+    }
+
+    /// Updates the visible list to the given one, replacing only the range between the common prefix and suffix.
+    protected void apply(List<TreeItem> visible) {
+        int oldSize = items.size();
+        int newSize = visible.size();
+        int prefix = 0;
+        int max = Math.min(oldSize, newSize);
+        while (prefix < max && items.get(prefix) == visible.get(prefix)) prefix++;
+        int suffix = 0;
+        while (suffix < max - prefix && items.get(oldSize - suffix - 1) == visible.get(newSize - suffix - 1)) suffix++;
+
+        if (prefix < oldSize - suffix) items.subList(prefix, oldSize - suffix).clear();
+        if (prefix < newSize - suffix) items.addAll(prefix, visible.subList(prefix, newSize - suffix));
+        invalidateRows(prefix);
+    }
+
+    /// Collapses the item at the given index of the visible list if it is expanded, expands it otherwise.
+    ///
+    /// Does nothing while filtering, see [#setFilter(String)].
+    ///
+    /// @return whether the item is now collapsed
+    public boolean toggle(int index) {
+        TreeItem item = items.get(index);
+        if (!filter.isEmpty()) return isCollapsed(item);
+        if (collapsed.remove(item.id)) {
+            List<TreeItem> descendants = new ArrayList<>();
+            flatten(item, descendants);
+            items.addAll(index + 1, descendants);
+            invalidateRows(index + 1);
+            return false;
+        }
+
+        if (item.children.isEmpty()) return false;
+        collapsed.add(item.id);
+        int end = index + 1;
+        while (end < items.size() && items.get(end).depth > item.depth) end++;
+        items.subList(index + 1, end).clear();
+        invalidateRows(index + 1);
+        return true;
+    }
+
+    /// Expands the collapsed ancestors of the given item, so that it becomes visible.
+    ///
+    /// @return the index of the item in the visible list, `-1` if it's not visible because of the filter
+    public int reveal(TreeItem item) {
+        if (filter.isEmpty()) {
+            boolean expanded = false;
+            for (TreeItem curr = item.parent; curr != null; curr = curr.parent) {
+                expanded |= collapsed.remove(curr.id);
+            }
+            if (expanded) apply(visible());
+        }
+        return rowOf(item);
+    }
+
+    /// @return the index of the given item in the visible list, `-1` if it's not visible. Rows before the first
+    /// modified index are cached, the others are computed by scanning forward from there, and cached too.
+    public int rowOf(TreeItem item) {
+        Integer row = rows.get(item);
+        if (row != null && row < rowsValid) return row;
+        if (rows.size() > items.size() * 2) {
+            // Drop the rows of removed items
+            rows.clear();
+            rowsValid = 0;
+        }
+        while (rowsValid < items.size()) {
+            TreeItem curr = items.get(rowsValid);
+            rows.put(curr, rowsValid);
+            if (curr == item) return rowsValid++;
+            rowsValid++;
+        }
+        return -1;
+    }
+
+    public boolean isCollapsed(TreeItem item) {
+        return item != null && collapsed.contains(item.id);
+    }
+
+    /// @return the item with the given id, `null` if none. Collapsed items are included.
+    public TreeItem getItem(String id) {
+        return byId.get(id);
+    }
+
+    /// @return the item wrapping the given object, `null` if none. Collapsed items are included.
+    public TreeItem getItem(UIObj obj) {
+        return byObj.get(obj);
+    }
+
+    /// Marks the cached rows from the given index onward as stale, see [#rowOf(TreeItem)].
+    protected void invalidateRows(int from) {
+        rowsValid = Math.min(rowsValid, from);
+        if (rowsValid == 0) rows.clear();
+    }
+
+    /// Adds the visible descendants of the given item to the given list, in depth-first order.
+    protected void flatten(TreeItem item, List<TreeItem> out) {
+        Deque<TreeItem> stack = new ArrayDeque<>();
+        List<TreeItem> children = item.children;
+        for (int i = children.size() - 1; i >= 0; i--) stack.push(children.get(i));
+        while (!stack.isEmpty()) {
+            TreeItem curr = stack.pop();
+            out.add(curr);
+            if (collapsed.contains(curr.id)) continue;
+            children = curr.children;
+            for (int i = children.size() - 1; i >= 0; i--) stack.push(children.get(i));
+        }
+    }
+
+    /// @return the old item with the same id and type of the given one, updated with the new data, or the given item
+    /// if there is no such old item. New items are added to the search index, old ones are re-indexed only if their
+    /// terms changed
+    private TreeItem canonical(TreeItem item, TreeItem parent, Map<String, TreeItem> oldById) {
+        TreeItem old = oldById.get(item.id);
+        if (old == null || !Objects.equals(old.obj.getType(), item.obj.getType())) {
+            item.parent = parent;
+            index.add(item, item.terms);
+            return item;
+        }
+        old.obj = item.obj;
+        old.parent = parent;
+        old.children = item.children;
+        if (!old.terms.equals(item.terms)) {
+            old.terms = item.terms;
+            index.add(old, old.terms);
+        }
+        return old;
+    }
+
+    //================================================================================
+    // Getters
+    //================================================================================
+
+    /// @return the visible items, in depth-first order
+    public ObservableList<TreeItem> getItems() {
+        return items;
+    }
+
+    public TreeItem getRoot() {
+        return root;
+    }
+
+    public String getFilter() {
+        return filter;
+    }
+
+    public Function<UIObj, Collection<String>> getExtraTerms() {
+        return extraTerms;
+    }
+
+    /// Sets the function used to add more searchable terms for an object, besides the ones given by [#terms(UIObj)].
+    /// For example, the style classes of the node built from it. The function may read the live scene graph, so it's
+    /// only called on the JavaFX thread, see [#snapshotExtraTerms(UIObj)].
+    public ObjTreeModel setExtraTerms(Function<UIObj, Collection<String>> extraTerms) {
+        this.extraTerms = extraTerms;
+        return this;
+    }
+
+    //================================================================================
+    // Inner Classes
+    //================================================================================
+
+    /// A node of the inspector's tree. The id, the depth and the type of the wrapped [UIObj] never change, the other
+    /// fields are updated when the document is reloaded, see [ObjTreeModel#setRoot(TreeItem)].
+    public static final class TreeItem {
+        private final String id;
+        private final int depth;
+        private TreeItem parent;
+        private UIObj obj;
+        private List<TreeItem> children = List.of();
+        private List<String> terms = List.of();
+
+        TreeItem(String id, TreeItem parent, UIObj obj, int depth) {
+            this.id = id;
+            this.parent = parent;
+            this.obj = obj;
+            this.depth = depth;
+        }
+
+        public String id() {
+            return id;
+        }
+
+        public TreeItem parent() {
+            return parent;
+        }
+
+        public UIObj obj() {
+            return obj;
+        }
+
+        public int depth() {
+            return depth;
+        }
+
+        public List<TreeItem> children() {
+            return Collections.unmodifiableList(children);
+        }
+
+        @Override
+        public String toString() {
+            return "TreeItem{id=%s, type=%s}".formatted(id, obj.getType());
+        }
+    }
+}
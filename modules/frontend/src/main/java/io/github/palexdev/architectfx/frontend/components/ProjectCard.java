@@ -21,8 +21,6 @@ package io.github.palexdev.architectfx.frontend.components;
 import io.github.palexdev.architectfx.frontend.components.ProjectCardOverlay.OverlayEvents;
 import io.github.palexdev.architectfx.frontend.model.Project;
 import io.github.palexdev.architectfx.frontend.utils.DateTimeUtils;
-import io.github.palexdev.architectfx.frontend.utils.ui.UIUtils;
-import io.github.palexdev.imcache.transforms.CenterCrop;
 import io.github.palexdev.mfxcore.base.properties.styleable.StyleableDoubleProperty;
 import io.github.palexdev.mfxcore.controls.SkinBase;
 import io.github.palexdev.mfxcore.controls.Text;
@@ -37,7 +35,7 @@ import java.util.List;
 import javafx.css.CssMetaData;
 import javafx.css.Styleable;
 import javafx.css.StyleablePropertyFactory;
-import javafx.scene.image.Image;
+import javafx.geometry.Rectangle2D;
 import javafx.scene.image.ImageView;
 import javafx.scene.input.MouseButton;
 import javafx.scene.input.MouseEvent;
@@ -45,17 +43,51 @@ import javafx.scene.layout.StackPane;
 import javafx.scene.shape.Rectangle;
 
 public class ProjectCard extends VFXCellBase<Project> {
+    //================================================================================
+    // Properties
+    //================================================================================
+    private Project attached;
 
     //================================================================================
     // Constructors
     //================================================================================
     public ProjectCard(Project item) {
         super(item);
+        attach(item);
+        itemProperty().addListener((ob, o, n) -> attach(n));
+    }
+
+    //================================================================================
+    // Methods
+    //================================================================================
+
+    /// Projects only hold their heavy resources while shown by a card, see [Project#attach()].
+    protected void attach(Project project) {
+        if (attached == project) return;
+        if (attached != null) attached.detach();
+        attached = project;
+        if (project != null) project.attach();
     }
 
     //================================================================================
     // Overridden Methods
     //================================================================================
+    @Override
+    public void onCache() {
+        attach(null);
+    }
+
+    @Override
+    public void onDeCache() {
+        attach(getItem());
+    }
+
+    @Override
+    public void dispose() {
+        attach(null);
+        super.dispose();
+    }
+
     @Override
     public List<String> defaultStyleClasses() {
         return List.of("project-card");
@@ -165,9 +197,13 @@ public class ProjectCard extends VFXCellBase<Project> {
                     .then(i -> {
                         double w = preview.getFitWidth();
                         double h = preview.getFitHeight();
-                        if (w <= 0 || h <= 0) return;
-                        Image out = UIUtils.transform(i, new CenterCrop(w, h));
-                        preview.setImage(out);
+                        if (w <= 0 || h <= 0 || i == null) return;
+                        // Center crop through the viewport, no pixel is copied
+                        double scale = Math.max(w / i.getWidth(), h / i.getHeight());
+                        double vw = w / scale;
+                        double vh = h / scale;
+                        preview.setViewport(new Rectangle2D((i.getWidth() - vw) / 2.0, (i.getHeight() - vh) / 2.0, vw, vh));
+                        preview.setImage(i);
                     })
                     .invalidating(preview.fitWidthProperty())
                     .invalidating(preview.fitHeightProperty()),
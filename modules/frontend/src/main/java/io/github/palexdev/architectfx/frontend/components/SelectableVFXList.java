@@ -21,6 +21,7 @@ package io.github.palexdev.architectfx.frontend.components;
 
 import java.util.function.Function;
 
+import io.github.palexdev.architectfx.frontend.components.selection.ISelectionModel;
 import io.github.palexdev.architectfx.frontend.components.selection.SelectionModel;
 import io.github.palexdev.virtualizedfx.cells.base.VFXCell;
 import io.github.palexdev.virtualizedfx.list.VFXList;
@@ -31,7 +32,7 @@ public class SelectableVFXList<T, C extends VFXCell<T>> extends VFXList<T, C> {
     //================================================================================
     // Properties
     //================================================================================
-    private final SelectionModel<T> selectionModel = new SelectionModel<>(itemsProperty());
+    private ISelectionModel<T> selectionModel = new SelectionModel<>(itemsProperty());
 
     //================================================================================
     // Constructors
@@ -47,9 +48,16 @@ public class SelectableVFXList<T, C extends VFXCell<T>> extends VFXList<T, C> {
     }
 
     //================================================================================
-    // Getters
+    // Getters/Setters
     //================================================================================
-    public SelectionModel<T> getSelectionModel() {
+    public ISelectionModel<T> getSelectionModel() {
         return selectionModel;
     }
+
+    /// Replaces the selection model, disposing the old one. Must be called before the cells are created, as they
+    /// usually bind to the model.
+    public void setSelectionModel(ISelectionModel<T> selectionModel) {
+        if (this.selectionModel != null) this.selectionModel.dispose();
+        this.selectionModel = selectionModel;
+    }
 }
@@ -22,6 +22,7 @@ import java.util.List;
 import java.util.Optional;
 
 import io.github.palexdev.mfxcore.base.beans.range.IntegerRange;
+import javafx.beans.Observable;
 import javafx.beans.property.MapProperty;
 
 @SuppressWarnings("unchecked")
@@ -63,6 +64,11 @@ public interface ISelectionModel<T> {
 
     MapProperty<Integer, T> selection();
 
+    /// @return an observable which is invalidated when the selection changes, by default [#selection()]
+    default Observable changes() {
+        return selection();
+    }
+
     List<T> getSelectedItems();
 
     default int size() {
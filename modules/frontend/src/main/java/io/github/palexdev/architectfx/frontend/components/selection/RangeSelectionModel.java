@@ -0,0 +1,390 @@
+/*
+ * Copyright (C) 2025 Parisi Alessandro - alessandro.parisi406@gmail.com
+ * This file is part of ArchitectFX (https://github.com/palexdev/ArchitectFX)
+ *
+ * ArchitectFX is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License
+ * as published by the Free Software Foundation; either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * ArchitectFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ArchitectFX. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.palexdev.architectfx.frontend.components.selection;
+
+import java.util.*;
+
+import io.github.palexdev.architectfx.backend.utils.IntRangeSet;
+import io.github.palexdev.mfxcore.base.beans.range.IntegerRange;
+import io.github.palexdev.virtualizedfx.utils.Utils;
+import javafx.beans.Observable;
+import javafx.beans.property.*;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableMap;
+
+/// Alternative to [SelectionModel] meant for big lists, which stores the selected indexes in an [IntRangeSet] rather
+/// than a map of boxed indexes.
+///
+/// - Range operations (e.g. [#selectIndexes(IntegerRange)], [#expandSelection(int, boolean)]) cost `O(r)` at most,
+/// where `r` is the number of selected runs, regardless of how many indexes they include.
+/// - Changes in the items list shift the selected runs in place.
+/// - Every operation notifies listeners of [#changes()] at most once, and [#batch(Runnable)] allows grouping several
+/// operations in a single notification.
+/// - Items are mapped to their index through a map built on demand and discarded when the list changes, so lookups by
+/// item are linear only the first time after a change.
+///
+/// [#selection()] is supported for compatibility with [ISelectionModel], but the map is built lazily, on the first
+/// call, and then kept in sync at every change, which has the same costs of [SelectionModel]. Prefer [#contains(int)]
+/// and [#changes()].
+///
+/// Selected items are always returned in ascending index order. [#expandSelection(int, boolean)] with `fromLast`
+/// uses the index selected last as the anchor.
+@SuppressWarnings("unchecked")
+public class RangeSelectionModel<T> implements ISelectionModel<T> {
+    //================================================================================
+    // Properties
+    //================================================================================
+    private final ListProperty<T> items = new SimpleListProperty<>();
+    private final IntRangeSet indexes = new IntRangeSet();
+    private final ReadOnlyLongWrapper changes = new ReadOnlyLongWrapper(0);
+    private int lastSelected = -1;
+    private boolean allowsMultipleSelection = true;
+
+    private int batchDepth = 0;
+    private boolean dirty = false;
+    private Map<T, Integer> itemsIndex;
+    private MapProperty<Integer, T> selection;
+
+    private final ListChangeListener<T> itemsListener = this::onItemsChanged;
+
+    //================================================================================
+    // Constructors
+    //================================================================================
+    public RangeSelectionModel(ObservableList<T> items) {
+        if (items instanceof ListProperty<T> lp) {
+            this.items.bind(lp);
+        } else {
+            this.items.set(items);
+        }
+        this.items.addListener(itemsListener);
+    }
+
+    //================================================================================
+    // Methods
+    //================================================================================
+
+    /// Runs the given action, listeners are notified once at the end, and only if the selection changed.
+    public void batch(Runnable action) {
+        batchDepth++;
+        try {
+            action.run();
+        } finally {
+            batchDepth--;
+            if (batchDepth == 0 && dirty) fireChanged();
+        }
+    }
+
+    /// @return the selected indexes, in ascending order
+    public int[] getSelectedIndexes() {
+        return indexes.toArray();
+    }
+
+    /// @return the index selected last, `-1` if none or if it was deselected
+    public int getLastSelectedIndex() {
+        return indexes.contains(lastSelected) ? lastSelected : -1;
+    }
+
+    /// Shifts the selected indexes according to the given change. Listeners are notified only if the selected indexes
+    /// or the index selected last actually changed, e.g. not when items are added after the last selected one.
+    protected void onItemsChanged(ListChangeListener.Change<? extends T> c) {
+        itemsIndex = null;
+        if (indexes.isEmpty()) return;
+        int version = indexes.version();
+        int oldLast = lastSelected;
+        while (c.next()) {
+            if (c.wasPermutated()) {
+                int[] old = indexes.toArray();
+                int[] permuted = new int[old.length];
+                for (int i = 0; i < old.length; i++) permuted[i] = permutation(c, old[i]);
+                Arrays.sort(permuted);
+                if (!Arrays.equals(old, permuted)) {
+                    indexes.clear();
+                    for (int p : permuted) indexes.add(p, p + 1);
+                }
+                lastSelected = permutation(c, lastSelected);
+                continue;
+            }
+            // Replacements of single elements keep the selection
+            if (c.wasReplaced() && c.getRemovedSize() == c.getAddedSize()) continue;
+            if (c.wasRemoved()) {
+                int from = c.getFrom();
+                int count = c.getRemovedSize();
+                indexes.removeShift(from, count);
+                if (lastSelected >= from + count) {
+                    lastSelected -= count;
+                } else if (lastSelected >= from) {
+                    lastSelected = -1;
+                }
+            }
+            if (c.wasAdded()) {
+                int count = c.getAddedSize();
+                indexes.insertShift(c.getFrom(), count);
+                if (lastSelected >= c.getFrom()) lastSelected += count;
+            }
+        }
+        if (indexes.version() != version || lastSelected != oldLast) changed();
+    }
+
+    private int permutation(ListChangeListener.Change<? extends T> c, int index) {
+        return (index >= c.getFrom() && index < c.getTo()) ? c.getPermutation(index) : index;
+    }
+
+    protected int indexOf(T item) {
+        if (itemsIndex == null) {
+            itemsIndex = HashMap.newHashMap(items.size());
+            for (int i = 0; i < items.size(); i++) itemsIndex.putIfAbsent(items.get(i), i);
+        }
+        return itemsIndex.getOrDefault(item, -1);
+    }
+
+    protected void select(int from, int to, boolean replace) {
+        if (from < 0 || from >= to) return;
+        if (!allowsMultipleSelection) {
+            from = to - 1;
+            replace = true;
+        }
+        if (replace) indexes.clear();
+        indexes.add(from, to);
+        lastSelected = to - 1;
+        changed();
+    }
+
+    protected void deselect(int from, int to) {
+        if (from < 0 || from >= to || indexes.isEmpty()) return;
+        int size = indexes.size();
+        indexes.remove(from, to);
+        if (size != indexes.size()) changed();
+    }
+
+    protected void changed() {
+        dirty = true;
+        if (batchDepth == 0) fireChanged();
+    }
+
+    protected void fireChanged() {
+        dirty = false;
+        if (selection != null) {
+            Map<Integer, T> map = new LinkedHashMap<>();
+            indexes.forEach(i -> map.put(i, items.get(i)));
+            selection.set(FXCollections.observableMap(map));
+        }
+        changes.set(changes.get() + 1);
+    }
+
+    //================================================================================
+    // Overridden Methods
+    //================================================================================
+
+    /// @return an observable which is invalidated once for every change in the selection, or batch of changes
+    @Override
+    public Observable changes() {
+        return changes.getReadOnlyProperty();
+    }
+
+    @Override
+    public boolean contains(int index) {
+        return indexes.contains(index);
+    }
+
+    @Override
+    public boolean contains(T element) {
+        int index = indexOf(element);
+        return index >= 0 && indexes.contains(index);
+    }
+
+    @Override
+    public void clearSelection() {
+        if (indexes.isEmpty()) return;
+        indexes.clear();
+        changed();
+    }
+
+    @Override
+    public void deselectIndex(int index) {
+        deselect(index, index + 1);
+    }
+
+    @Override
+    public void deselectItem(T item) {
+        int index = indexOf(item);
+        deselect(index, index + 1);
+    }
+
+    @Override
+    public void deselectIndexes(int... indexes) {
+        batch(() -> {
+            for (int index : indexes) deselectIndex(index);
+        });
+    }
+
+    @Override
+    public void deselectIndexes(IntegerRange range) {
+        if (Utils.INVALID_RANGE.equals(range)) return;
+        deselect(range.getMin(), range.getMax() + 1);
+    }
+
+    @Override
+    public void deselectItems(T... items) {
+        batch(() -> {
+            for (T item : items) deselectItem(item);
+        });
+    }
+
+    @Override
+    public void selectIndex(int index) {
+        select(index, index + 1, false);
+    }
+
+    @Override
+    public void selectItem(T item) {
+        int index = indexOf(item);
+        select(index, index + 1, false);
+    }
+
+    @Override
+    public void selectIndexes(Integer... indexes) {
+        batch(() -> {
+            for (Integer index : indexes) selectIndex(index);
+        });
+    }
+
+    @Override
+    public void selectIndexes(IntegerRange range) {
+        if (Utils.INVALID_RANGE.equals(range)) return;
+        select(range.getMin(), range.getMax() + 1, false);
+    }
+
+    @Override
+    public void selectItems(T... items) {
+        batch(() -> {
+            for (T item : items) selectItem(item);
+        });
+    }
+
+    @Override
+    public void expandSelection(int index, boolean fromLast) {
+        int anchor = fromLast ? getLastSelectedIndex() : indexes.first();
+        if (anchor < 0) {
+            select(0, index + 1, true);
+            return;
+        }
+        int min = Math.min(anchor, index);
+        int max = Math.max(anchor, index);
+        if (fromLast) {
+            select(min, max + 1, false);
+        } else {
+            select(min, max + 1, true);
+        }
+        lastSelected = index;
+    }
+
+    @Override
+    public void replaceSelection(Integer... indexes) {
+        batch(() -> {
+            clearSelection();
+            selectIndexes(indexes);
+        });
+    }
+
+    @Override
+    public void replaceSelection(IntegerRange range) {
+        if (Utils.INVALID_RANGE.equals(range)) return;
+        select(range.getMin(), range.getMax() + 1, true);
+    }
+
+    @Override
+    public void replaceSelection(T... items) {
+        batch(() -> {
+            clearSelection();
+            selectItems(items);
+        });
+    }
+
+    @Override
+    public MapProperty<Integer, T> selection() {
+        if (selection == null) {
+            selection = new SimpleMapProperty<>(FXCollections.observableHashMap());
+            Map<Integer, T> map = new LinkedHashMap<>();
+            indexes.forEach(i -> map.put(i, items.get(i)));
+            selection.set(FXCollections.observableMap(map));
+        }
+        return selection;
+    }
+
+    @Override
+    public List<T> getSelectedItems() {
+        List<T> res = new ArrayList<>(indexes.size());
+        indexes.forEach(i -> res.add(items.get(i)));
+        return Collections.unmodifiableList(res);
+    }
+
+    @Override
+    public int size() {
+        return indexes.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return indexes.isEmpty();
+    }
+
+    @Override
+    public T getSelectedItem() {
+        int first = indexes.first();
+        return (first < 0) ? null : items.get(first);
+    }
+
+    @Override
+    public T getLastSelectedItem() {
+        int last = indexes.last();
+        return (last < 0) ? null : items.get(last);
+    }
+
+    @Override
+    public boolean allowsMultipleSelection() {
+        return allowsMultipleSelection;
+    }
+
+    @Override
+    public void setAllowsMultipleSelection(boolean allowsMultipleSelection) {
+        // Clear selection when switching modes
+        if (this.allowsMultipleSelection != allowsMultipleSelection && !allowsMultipleSelection && size() > 1)
+            clearSelection();
+        this.allowsMultipleSelection = allowsMultipleSelection;
+    }
+
+    @Override
+    public void dispose() {
+        items.removeListener(itemsListener);
+        items.unbind();
+        items.set(null);
+        indexes.clear();
+        itemsIndex = null;
+        if (selection != null) selection.clear();
+    }
+
+    //================================================================================
+    // Getters
+    //================================================================================
+    public ObservableList<T> getItems() {
+        return FXCollections.unmodifiableObservableList(items);
+    }
+}
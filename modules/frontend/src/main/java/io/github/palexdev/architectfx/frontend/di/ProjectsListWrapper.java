@@ -22,9 +22,11 @@ import java.util.function.Supplier;
 
 import io.github.palexdev.architectfx.frontend.model.Project;
 import io.github.palexdev.architectfx.frontend.settings.AppSettings;
+import io.github.palexdev.architectfx.frontend.utils.ProjectRegistry;
 import io.inverno.core.annotation.Bean;
 import io.inverno.core.annotation.Wrapper;
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 
 @Bean
@@ -40,6 +42,25 @@ public class ProjectsListWrapper implements Supplier<ObservableList<Project>> {
     //================================================================================
     public ProjectsListWrapper(AppSettings settings) {
         projects = FXCollections.observableArrayList(settings.loadProjects());
+        projects.addListener(this::persist);
+    }
+
+    //================================================================================
+    // Methods
+    //================================================================================
+
+    /// Writes every edit to the [ProjectRegistry] as soon as it happens, each edit is a single append. Projects that
+    /// are already known keep their cached metadata.
+    protected void persist(ListChangeListener.Change<? extends Project> c) {
+        ProjectRegistry registry = ProjectRegistry.instance();
+        while (c.next()) {
+            for (Project p : c.getRemoved()) {
+                if (!projects.contains(p)) registry.remove(p.getFile());
+            }
+            for (Project p : c.getAddedSubList()) {
+                if (registry.get(p.getFile()).isEmpty()) registry.put(p.toEntry(-1));
+            }
+        }
     }
 
     //================================================================================
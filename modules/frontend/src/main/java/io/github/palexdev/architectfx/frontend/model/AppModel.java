@@ -18,8 +18,10 @@
 
 package io.github.palexdev.architectfx.frontend.model;
 
-import java.util.Comparator;
+import java.nio.file.Path;
+import java.util.*;
 
+import io.github.palexdev.architectfx.backend.utils.TextIndex;
 import io.github.palexdev.architectfx.frontend.events.AppEvent;
 import io.github.palexdev.architectfx.frontend.events.ModelEvent;
 import io.github.palexdev.architectfx.frontend.settings.AppSettings;
@@ -32,6 +34,7 @@ import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.beans.property.StringProperty;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import org.tinylog.Logger;
 
@@ -46,6 +49,10 @@ public class AppModel {
 
     // State
     private final RefineList<Project> projects;
+    private final TextIndex<Project> index = new TextIndex<>();
+    private Map<Project, Integer> scores;
+    private Map<Project, Integer> sortedScores;
+    private String lastFilter;
     private final StringProperty filter = new SimpleStringProperty() {
         @Override
         protected void invalidated() {
@@ -73,7 +80,19 @@ public class AppModel {
         this.settings = settings;
 
         /* Projects */
-        this.projects = new RefineList<>(projectsList);
+        this.projects = new RefineList<>(projectsList, true);
+        projectsList.forEach(p -> index.add(p, terms(p)));
+        projectsList.addListener((ListChangeListener<? super Project>) c -> {
+            while (c.next()) {
+                c.getRemoved().forEach(index::remove);
+                c.getAddedSubList().forEach(p -> index.add(p, terms(p)));
+            }
+            // New projects must be scored too, not just tested against the visible ones
+            if (getFilter() != null && !getFilter().isBlank()) {
+                lastFilter = null;
+                filterProjects();
+            }
+        });
         Project.SortMode mode;
         Project.SortBy sortBy;
         try {
@@ -102,25 +121,78 @@ public class AppModel {
     //================================================================================
     // Methods
     //================================================================================
+    /// Filters the projects by name and path, answering from the search index, see [TextIndex#rank(String)]. Matches
+    /// are sorted by score first, then by the chosen sort criteria.
+    ///
+    /// When the new filter contains the previous one, the projects that were already filtered out cannot match, so
+    /// only the visible ones are ranked and tested again, see [TextIndex#rank(String, Collection)].
+    ///
+    /// The projects are sorted again only if the order changed, that is, if any of the matches now has a different
+    /// score than the one used by the current comparator. Typically, as the query gets longer, the scores stay the same
+    /// and only the predicate changes.
     protected void filterProjects() {
         String filter = getFilter();
-        if (filter == null || filter.isEmpty()) {
+        String last = lastFilter;
+        lastFilter = filter;
+        if (filter == null || filter.isBlank()) {
+            scores = null;
             projects.setPredicate(null);
+            if (sortedScores != null) sortProjects();
             return;
         }
-        projects.setPredicate(p -> StringUtils.containsIgnoreCase(p.getName(), filter));
+
+        boolean narrowing = last != null && !last.isBlank() && StringUtils.containsIgnoreCase(filter, last);
+        List<TextIndex.Match<Project>> matches = narrowing ?
+            index.rank(filter, projects.getView()) :
+            index.rank(filter);
+        Map<Project, Integer> scores = HashMap.newHashMap(matches.size());
+        for (TextIndex.Match<Project> m : matches) scores.put(m.item(), m.score());
+        this.scores = scores;
+        projects.setPredicate(scores::containsKey, narrowing);
+        if (!isSortedBy(scores)) sortProjects();
+    }
+
+    /// @return whether the current order is still valid for the given scores. Projects which are not in the map are
+    /// filtered out, so their position doesn't matter, until they match again.
+    protected boolean isSortedBy(Map<Project, Integer> scores) {
+        Map<Project, Integer> sorted = sortedScores;
+        if (sorted == null) return false;
+        for (Map.Entry<Project, Integer> e : scores.entrySet()) {
+            if (!e.getValue().equals(sorted.getOrDefault(e.getKey(), 0))) return false;
+        }
+        return true;
+    }
+
+    /// @return the searchable terms of the given project: its name, the name of its file and of the parent directory,
+    /// and the whole path. The other elements of the path are not indexed on their own, they are shared by most
+    /// projects (e.g. the user's home) and would make common queries match exactly.
+    protected List<String> terms(Project project) {
+        List<String> terms = new ArrayList<>();
+        terms.add(project.getName());
+        Path file = project.getFile().toAbsolutePath();
+        if (file.getFileName() != null) terms.add(file.getFileName().toString());
+        if (file.getParent() != null && file.getParent().getFileName() != null)
+            terms.add(file.getParent().getFileName().toString());
+        terms.add(file.toString());
+        return terms;
     }
 
     protected void sortProjects() {
         Project.SortBy sortBy = getProjectsSortBy();
-        if (sortBy == null) {
-            projects.setComparator(null);
-            return;
+        Comparator<Project> comparator = null;
+        if (sortBy != null) {
+            Project.SortMode mode = getProjectsSortMode();
+            comparator = (mode == Project.SortMode.ASCENDING) ?
+                sortBy.getComparator() :
+                sortBy.getComparator().reversed();
+        }
+
+        Map<Project, Integer> scores = this.scores;
+        sortedScores = scores;
+        if (scores != null) {
+            Comparator<Project> byScore = Comparator.comparingInt(p -> -scores.getOrDefault(p, 0));
+            comparator = (comparator != null) ? byScore.thenComparing(comparator) : byScore;
         }
-        Project.SortMode mode = getProjectsSortMode();
-        Comparator<Project> comparator = (mode == Project.SortMode.ASCENDING) ?
-            sortBy.getComparator() :
-            sortBy.getComparator().reversed();
         projects.setComparator(comparator);
     }
 
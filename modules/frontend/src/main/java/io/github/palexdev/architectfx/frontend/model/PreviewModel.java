@@ -18,12 +18,23 @@
 
 package io.github.palexdev.architectfx.frontend.model;
 
+import java.nio.file.Files;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
 
 import fr.brouillard.oss.cssfx.CSSFX;
+import io.github.palexdev.architectfx.backend.deps.DependencyManager;
+import io.github.palexdev.architectfx.backend.enums.TaskPriority;
+import io.github.palexdev.architectfx.backend.lint.DocumentLinter;
+import io.github.palexdev.architectfx.backend.lint.LintFinding;
 import io.github.palexdev.architectfx.backend.loaders.UILoader;
+import io.github.palexdev.architectfx.backend.model.UIDocument;
 import io.github.palexdev.architectfx.backend.model.UIObj;
 import io.github.palexdev.architectfx.backend.utils.Async;
+import io.github.palexdev.architectfx.backend.utils.CancellationGroup;
+import io.github.palexdev.architectfx.frontend.ArchitectFX;
 import io.github.palexdev.architectfx.frontend.components.dialogs.DialogType;
 import io.github.palexdev.architectfx.frontend.components.dialogs.ProgressDialog;
 import io.github.palexdev.architectfx.frontend.components.dialogs.base.DialogConfigurator;
@@ -32,6 +43,8 @@ import io.github.palexdev.architectfx.frontend.events.ModelEvent;
 import io.github.palexdev.architectfx.frontend.events.UIEvent;
 import io.github.palexdev.architectfx.frontend.settings.AppSettings;
 import io.github.palexdev.architectfx.frontend.utils.FileObserver;
+import io.github.palexdev.architectfx.frontend.utils.ProjectRegistry;
+import io.github.palexdev.architectfx.frontend.utils.ReloadScheduler;
 import io.github.palexdev.architectfx.frontend.utils.ui.UIUtils;
 import io.github.palexdev.architectfx.frontend.views.InitialView;
 import io.github.palexdev.architectfx.frontend.views.LivePreviewView;
@@ -40,11 +53,12 @@ import io.github.palexdev.mfxcore.events.bus.IEventBus;
 import io.github.palexdev.mfxeffects.animations.motion.M3Motion;
 import io.inverno.core.annotation.Bean;
 import io.inverno.core.annotation.BeanSocket;
-import io.methvin.watcher.DirectoryChangeEvent;
 import javafx.application.Platform;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.ReadOnlyIntegerProperty;
 import javafx.beans.property.SimpleObjectProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
 import javafx.concurrent.Task;
 import javafx.scene.Node;
 import javafx.scene.Parent;
@@ -66,10 +80,7 @@ public class PreviewModel {
         @Override
         public void set(Project newValue) {
             if (newValue == null) {
-                if (observer != null) {
-                    observer.dispose();
-                    observer = null;
-                }
+                stopWatching();
                 setRoot(null);
                 super.set(null);
                 return;
@@ -92,12 +103,19 @@ public class PreviewModel {
                     .start();
                 events.publish(new UIEvent.ViewSwitchEvent(LivePreviewView.class));
                 snapshotProject();
+                lintProject(root.document());
+                return;
             }
+            lintFindings.clear();
         }
     };
+    private final ObservableList<LintFinding> lintFindings = FXCollections.observableArrayList();
     private Task<UILoader.Loaded<Node>> loadTask;
+    private CancellationGroup loadGroup;
+    private DependencyManager loadedDeps;
 
     private FileObserver observer;
+    private ReloadScheduler reloadScheduler;
     private final ResettableIntegerProperty reloadCountdown = new ResettableIntegerProperty() {
         @Override
         public void reset() {
@@ -127,8 +145,11 @@ public class PreviewModel {
             return;
         }
 
-        if (loadTask != null)
-            loadTask.cancel(true);
+        // Cancels the previous load and all of its sub-tasks
+        if (loadGroup != null)
+            loadGroup.cancel();
+        CancellationGroup group = new CancellationGroup("load:" + project.getName());
+        loadGroup = group;
 
         loader.progressProperty().reset();
         events.publish(new DialogEvent.ShowDialog<>(DialogType.PROGRESS, () -> new DialogConfigurator.DialogConfig<ProgressDialog>()
@@ -136,19 +157,30 @@ public class PreviewModel {
             .setScrimOwner(true)
             .extraConfig(d -> {
                 d.progressProperty().bind(loader.progressProperty());
-                d.setOnCancel(() -> loadTask.cancel(true));
+                d.setOnCancel(group::cancel);
             })
         ));
 
         loadTask = new Task<>() {
+            private DependencyManager deps;
+            private byte[] digest;
+
             @Override
             protected UILoader.Loaded<Node> call() throws Exception {
-                return loader.load(project);
+                long start = System.nanoTime();
+                byte[] content = Files.readAllBytes(project.getFile());
+                digest = ReloadScheduler.digest(content);
+                UILoader.Loaded<Node> loaded = loader.load(project, content);
+                // Taken here, the next load may change the loader's dependencies while the linter runs
+                deps = loader.getDependencyManager().snapshot();
+                ProjectRegistry.instance().updateLoadTime(project.getFile(), (System.nanoTime() - start) / 1_000_000);
+                return loaded;
             }
 
             @Override
             protected void succeeded() {
-                watchProject();
+                loadedDeps = deps;
+                watchProject(digest);
                 setRoot(getValue());
                 setReloadCountdown(Integer.MIN_VALUE);
             }
@@ -166,32 +198,82 @@ public class PreviewModel {
                 setReloadCountdown(-1);
             }
         };
-        Async.run(loadTask);
+        group.track(loadTask);
+        group.run(() -> Async.run(ArchitectFX.PREVIEW_EXECUTOR, TaskPriority.INTERACTIVE, loadTask));
     }
 
     public Node resolveObj(UIObj obj) {
         return loader.resolveObj(obj);
     }
 
-    protected void watchProject() {
+    public UIObj resolveNode(Node node) {
+        return loader.resolveNode(node);
+    }
+
+    /// Starts watching the project's file for changes. Events go through a [ReloadScheduler], so that bursts of events
+    /// (e.g. atomic saves) result in at most one reload, and only if the content actually changed.
+    ///
+    /// Called after every successful load with the digest of the parsed content, which becomes the new reference. Since
+    /// it's computed by the load task from the bytes it actually parsed, a save that happens while loading is still
+    /// detected as a change.
+    protected void watchProject(byte[] digest) {
         Project project = getProject();
-        observer = FileObserver.observeFile(project.getFile())
-            .condition(e -> FileObserver.IS_CHILD.apply(e, project.getFile()))
-            .onEvent((e, p) -> {
-                if (e == DirectoryChangeEvent.EventType.DELETE) {
-                    if (loadTask != null) loadTask.cancel(true);
-                    Platform.runLater(() -> {
-                        setProject(null);
-                        events.publish(new ModelEvent.ProjectDeletedEvent(project));
-                        events.publish(new UIEvent.ViewSwitchEvent(InitialView.class));
-                    });
-                    return;
-                }
-                reloadCountdown.reset();
+        if (reloadScheduler != null && reloadScheduler.getFile().equals(project.getFile())) {
+            reloadScheduler.prime(digest);
+            return;
+        }
+
+        stopWatching();
+        ReloadScheduler scheduler = new ReloadScheduler(project.getFile())
+            .onChanged(() -> Platform.runLater(reloadCountdown::reset))
+            .onDeleted(() -> {
+                if (loadGroup != null) loadGroup.cancel();
+                Platform.runLater(() -> {
+                    if (getProject() != project) return;
+                    setProject(null);
+                    events.publish(new ModelEvent.ProjectDeletedEvent(project));
+                    events.publish(new UIEvent.ViewSwitchEvent(InitialView.class));
+                });
             })
+            .prime(digest);
+        reloadScheduler = scheduler;
+        observer = FileObserver.observeFile(project.getFile())
+            .onEvent((e, p) -> scheduler.signal(e))
             .listen();
     }
 
+    protected void stopWatching() {
+        if (observer != null) {
+            observer.dispose();
+            observer = null;
+        }
+        if (reloadScheduler != null) {
+            reloadScheduler.dispose();
+            reloadScheduler = null;
+        }
+    }
+
+    /// Runs the [DocumentLinter] on the given document in background, the findings are then available through
+    /// [#getLintFindings()]. The task is part of the current load's [CancellationGroup].
+    ///
+    /// The linter works on the snapshot of the dependencies taken right after the document was loaded, see
+    /// [DependencyManager#snapshot()].
+    protected void lintProject(UIDocument document) {
+        DocumentLinter linter = new DocumentLinter(loadedDeps);
+        CompletableFuture<List<LintFinding>> task = Async.call(ArchitectFX.PREVIEW_EXECUTOR, TaskPriority.NORMAL, () -> linter.lint(document));
+        if (loadGroup != null) loadGroup.track(task);
+        task.thenAccept(l -> Platform.runLater(() -> {
+                // Discard stale results
+                UILoader.Loaded<Node> root = getRoot();
+                if (root != null && root.document() == document) lintFindings.setAll(l);
+            }))
+            .exceptionally(ex -> {
+                if (ex.getCause() instanceof CancellationException) return null;
+                Logger.error("Failed to lint document {} because:\n{}", document.getLocation(), ex);
+                return null;
+            });
+    }
+
     protected void snapshotProject() {
         UIUtils.delayAction(M3Motion.EXTRA_LONG4, () -> {
             Parent parent = Optional.ofNullable(getRoot())
@@ -199,7 +281,7 @@ public class PreviewModel {
                 .map(Node::getParent)
                 .orElse(null);
             if (parent == null) return;
-            Image snap = parent.snapshot(null, null);
+            Image snap = UIUtils.thumbnail(parent, Project.PREVIEW_WIDTH, Project.PREVIEW_HEIGHT);
             getProject().setPreview(snap);
         });
     }
@@ -232,6 +314,11 @@ public class PreviewModel {
         this.root.set(root);
     }
 
+    /// @return the performance problems found in the currently loaded document, see [DocumentLinter]
+    public ObservableList<LintFinding> getLintFindings() {
+        return lintFindings;
+    }
+
     public int getReloadCountdown() {
         return reloadCountdown.get();
     }
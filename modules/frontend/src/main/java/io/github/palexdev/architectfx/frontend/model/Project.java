@@ -18,22 +18,22 @@
 
 package io.github.palexdev.architectfx.frontend.model;
 
+import java.io.ByteArrayInputStream;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.*;
 import java.util.concurrent.Future;
 
+import io.github.palexdev.architectfx.backend.enums.TaskPriority;
 import io.github.palexdev.architectfx.backend.utils.Async;
 import io.github.palexdev.architectfx.frontend.ArchitectFX;
 import io.github.palexdev.architectfx.frontend.Resources;
 import io.github.palexdev.architectfx.frontend.utils.FileObserver;
 import io.github.palexdev.architectfx.frontend.utils.FileUtils;
-import io.github.palexdev.imcache.cache.DiskCache;
+import io.github.palexdev.architectfx.frontend.utils.ProjectRegistry;
+import io.github.palexdev.architectfx.frontend.utils.ThumbnailCache;
+import io.github.palexdev.architectfx.frontend.utils.ui.PngEncoder;
 import io.github.palexdev.imcache.cache.Identifiable;
-import io.github.palexdev.imcache.core.ImCache;
-import io.github.palexdev.imcache.core.ImImage;
-import io.github.palexdev.imcache.utils.ImageUtils;
-import io.github.palexdev.mfxcore.utils.fx.SwingFXUtils;
 import io.methvin.watcher.DirectoryChangeEvent.EventType;
 import javafx.application.Platform;
 import javafx.beans.property.ObjectProperty;
@@ -50,6 +50,9 @@ public class Project implements Comparable<Project>, Identifiable {
     public static final Image PLACEHOLDER_PREVIEW = new Image(
         Resources.loadURL("assets/placeholder.png").toExternalForm()
     );
+    /// Maximum size of the previews, both when rendered and when decoded. About twice the size at which cards show them.
+    public static final double PREVIEW_WIDTH = 480;
+    public static final double PREVIEW_HEIGHT = 360;
 
     //================================================================================
     // Properties
@@ -57,57 +60,38 @@ public class Project implements Comparable<Project>, Identifiable {
     private String id;
     private final Path file;
     private final ReadOnlyLongWrapper lastModified = new ReadOnlyLongWrapper();
-    private final ObjectProperty<Image> preview = new SimpleObjectProperty<>(PLACEHOLDER_PREVIEW) {
-        @Override
-        protected void invalidated() {
-            Image img = get();
-            savePreview(img);
-        }
-    };
+    private boolean lastModifiedRead = false;
+    private final ObjectProperty<Image> preview = new SimpleObjectProperty<>(PLACEHOLDER_PREVIEW);
     private FileObserver observer;
+    private Future<?> loadTask;
     private Future<?> saveTask;
+    private int attached = 0;
 
     //================================================================================
     // Constructors
     //================================================================================
-    static {
-        // Configure preview's cache
-        ImCache.instance()
-            .cacheConfig(() -> new DiskCache()
-                .saveTo(ArchitectFX.appCacheDir())
-                .setCapacity(Integer.MAX_VALUE)
-                .scan()
-            );
-    }
-
+    /// Projects are light descriptors: creating one only validates the file. The last modified time is read on first
+    /// request and then cached. The heavy resources (the file observer, the decoded preview) are only created when the
+    /// project is shown, see [#attach()].
     public Project(Path file) {
         if (!FileUtils.isValidFile(file))
             throw new IllegalArgumentException("Invalid project file: %s".formatted(file));
         this.file = file;
-        observer = FileObserver.observeFile(file)
-            .condition(e -> FileObserver.IS_CHILD.apply(e, file))
-            .onEvent((e, f) -> {
-                if (e == EventType.MODIFY) updateLastModified();
-            })
-            .executeNow()
-            .listen();
+    }
 
-        /* Load preview async */
-        Async.run(() -> ImCache.instance()
-            .storage()
-            .getImage(this)
-            .ifPresentOrElse(
-                i -> {
-                    Image img = new Image(i.asStream());
-                    Platform.runLater(() -> setPreview(img));
-                },
-                () -> Logger.debug("No previous preview was found for project {}", getName())
-            ));
+    /// Creates a project from a [ProjectRegistry] entry. The cached last modified time is used until the file is
+    /// observed, which spares reading it for every project at startup.
+    public Project(ProjectRegistry.Entry entry) {
+        this(entry.path());
+        lastModified.set(entry.lastModified());
+        lastModifiedRead = true;
     }
 
     //================================================================================
     // Static Methods
     //================================================================================
+    /// Parses the legacy format in which the projects were stored in the settings, only used to migrate them to the
+    /// [ProjectRegistry].
     public static List<Project> fromString(String s) {
         List<Project> projects = new ArrayList<>();
         try {
@@ -125,36 +109,74 @@ public class Project implements Comparable<Project>, Identifiable {
         return projects;
     }
 
-    public static String toString(Collection<Project> projects) {
-        if (projects.isEmpty()) return "[]";
-        StringBuilder sb = new StringBuilder("[\n");
-        for (Project project : projects) {
-            if (!project.isValid()) {
-                Logger.warn("Invalid recent:\n- {}\n- {}", project.getFile(), project.getLastModified());
-                continue;
-            }
-            sb.append("  ").append(project.getFile().toString()).append(",\n");
-        }
-        return sb.append("]").toString();
-    }
-
     //================================================================================
     // Methods
     //================================================================================
 
+    /// @return a [ProjectRegistry] entry describing this project, with the given last load duration
+    public ProjectRegistry.Entry toEntry(long loadMillis) {
+        return new ProjectRegistry.Entry(file, getLastModified(), id(), loadMillis);
+    }
+
     public void updateLastModified() {
+        lastModifiedRead = true;
         lastModified.set(file.toFile().lastModified());
     }
 
+    /// Acquires the heavy resources of this project: starts observing the file to keep the last modified time updated,
+    /// and loads the preview from the cache. Calls are counted, resources are released by the last matching call to
+    /// [#detach()].
+    ///
+    /// Meant to be called on the JavaFX thread, typically by the cells showing the project.
+    public void attach() {
+        if (attached++ > 0) return;
+        observer = FileObserver.observeFile(file)
+            .onEvent((e, f) -> {
+                if (e != EventType.DELETE) updateLastModified();
+            })
+            .executeNow()
+            .listen();
+        if (getPreview() == PLACEHOLDER_PREVIEW) loadPreview();
+    }
+
+    /// Releases the resources acquired by [#attach()] when there are no more users. The preview goes back to the
+    /// placeholder, so that the decoded image can be collected.
+    public void detach() {
+        if (attached == 0 || --attached > 0) return;
+        dispose();
+        preview.set(PLACEHOLDER_PREVIEW);
+    }
+
+    /// @return whether the project's resources are currently acquired, see [#attach()]
+    public boolean isAttached() {
+        return attached > 0;
+    }
+
+    protected void loadPreview() {
+        loadTask = Async.run(ArchitectFX.PREVIEW_EXECUTOR, TaskPriority.BACKGROUND, () -> ThumbnailCache.instance()
+            .get(id())
+            .ifPresentOrElse(
+                data -> {
+                    Image img = new Image(new ByteArrayInputStream(data), PREVIEW_WIDTH, PREVIEW_HEIGHT, true, true);
+                    Platform.runLater(() -> {
+                        if (isAttached()) preview.set(img);
+                    });
+                },
+                () -> Logger.debug("No previous preview was found for project {}", getName())
+            ));
+    }
+
+    /// Stores the given image in the [ThumbnailCache]. The pixels are read on the calling thread (which must be the
+    /// JavaFX thread for images being rendered), while the encoding happens in background, see [PngEncoder].
     protected void savePreview(Image img) {
         if (saveTask != null) saveTask.cancel(true);
-        saveTask = Async.run(() -> {
+        if (img == null || img == PLACEHOLDER_PREVIEW) return;
+        int w = (int) img.getWidth();
+        int h = (int) img.getHeight();
+        int[] pixels = PngEncoder.pixels(img);
+        saveTask = Async.run(ArchitectFX.PREVIEW_EXECUTOR, TaskPriority.BACKGROUND, () -> {
             try {
-                byte[] toBytes = ImageUtils.toBytes("png", SwingFXUtils.fromFXImage(img, null));
-                ImImage wrap = new ImImage(file.toUri().toURL(), toBytes);
-                ImCache.instance()
-                    .storage()
-                    .store(this, wrap);
+                ThumbnailCache.instance().put(id(), PngEncoder.encode(pixels, w, h));
             } catch (Exception ex) {
                 Logger.error("Failed to save preview for project {} because:\n{}", getName(), ex);
             }
@@ -170,6 +192,10 @@ public class Project implements Comparable<Project>, Identifiable {
             observer.dispose();
             observer = null;
         }
+        if (loadTask != null) {
+            loadTask.cancel(true);
+            loadTask = null;
+        }
     }
 
     //================================================================================
@@ -228,10 +254,12 @@ public class Project implements Comparable<Project>, Identifiable {
     }
 
     public long getLastModified() {
+        if (!lastModifiedRead) updateLastModified();
         return lastModified.get();
     }
 
     public ReadOnlyLongProperty lastModifiedProperty() {
+        if (!lastModifiedRead) updateLastModified();
         return lastModified.getReadOnlyProperty();
     }
 
@@ -243,8 +271,10 @@ public class Project implements Comparable<Project>, Identifiable {
         return preview;
     }
 
+    /// Sets the project's preview and saves it to the cache.
     public void setPreview(Image preview) {
         this.preview.set(preview);
+        savePreview(preview);
     }
 
     //================================================================================
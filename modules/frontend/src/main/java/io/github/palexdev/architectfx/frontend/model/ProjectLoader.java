@@ -18,11 +18,14 @@
 
 package io.github.palexdev.architectfx.frontend.model;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Map;
+import java.util.concurrent.CancellationException;
 
 import io.github.palexdev.architectfx.backend.deps.DependencyManager;
 import io.github.palexdev.architectfx.backend.loaders.UILoader;
@@ -52,7 +55,8 @@ public class ProjectLoader {
     private Scanner scanner;
     private Reflector reflector;
 
-    private Map<UIObj, Object> lastResolved;
+    private final ThreadLocal<Resolver.Context> loading = new ThreadLocal<>();
+    private volatile Resolved lastResolved;
 
     //================================================================================
     // Constructors
@@ -65,10 +69,28 @@ public class ProjectLoader {
     // Methods
     //================================================================================
     public UILoader.Loaded<Node> load(Project project) throws IOException {
+        return load(project, Files.readAllBytes(project.getFile()));
+    }
+
+    /// Loads the given project from the given content, which is expected to be the one of the project's file. Useful
+    /// when the caller needs to know exactly which bytes were parsed.
+    ///
+    /// The mappings used by [#resolveObj(UIObj)] and [#resolveNode(Node)] are replaced only when the load succeeds, and
+    /// once the resolver is done with them. This way, a load in progress, cancelled or failed doesn't affect the lookups
+    /// on the graph currently on screen.
+    public UILoader.Loaded<Node> load(Project project, byte[] content) throws IOException {
         try {
-            return loader.load(project.getFile().toFile());
+            UILoader.Loaded<Node> loaded = loader.load(new ByteArrayInputStream(content), project.getFile().toUri().toURL());
+            Resolver.Context context = loading.get();
+            if (context != null)
+                lastResolved = new Resolved(context.getInstancesUnmodifiable(), context.getObjsUnmodifiable());
+            return loaded;
+        } catch (CancellationException ex) {
+            throw ex;
         } catch (Exception ex) {
             throw new IOException(ex);
+        } finally {
+            loading.remove();
         }
     }
 
@@ -91,20 +113,39 @@ public class ProjectLoader {
                     reflector,
                     uri
                 );
-                lastResolved = context.getInstancesUnmodifiable();
+                // Published by load() only if the load succeeds
+                loading.set(context);
                 return new DefaultResolver(context);
             });
         loader.setConfig(config);
     }
 
     public Node resolveObj(UIObj obj) {
-        if (lastResolved == null) return null;
-        return ((Node) lastResolved.get(obj));
+        Resolved resolved = lastResolved;
+        if (resolved == null) return null;
+        return ((Node) resolved.instances().get(obj));
+    }
+
+    /// @return the [UIObj] from which the given node, or its closest ancestor, was resolved by the last load. Nodes
+    /// which are not in the document, such as the ones created by skins, are mapped to their owner this way.
+    public UIObj resolveNode(Node node) {
+        Resolved resolved = lastResolved;
+        if (resolved == null) return null;
+        for (Node curr = node; curr != null; curr = curr.getParent()) {
+            UIObj obj = resolved.objs().get(curr);
+            if (obj != null) return obj;
+        }
+        return null;
     }
 
     //================================================================================
     // Getters/Setters
     //================================================================================
+    /// @return the [DependencyManager] used by the last load, `null` if [#init()] was never called
+    public DependencyManager getDependencyManager() {
+        return dependencyManager;
+    }
+
     public ObservableList<String> getDependencies() {
         return dependencies;
     }
@@ -124,4 +165,11 @@ public class ProjectLoader {
     public ResettableObjectProperty<Progress> progressProperty() {
         return progress;
     }
+
+    //================================================================================
+    // Inner Classes
+    //================================================================================
+
+    /// The mappings between objects and nodes of a successful load, which are not modified anymore.
+    private record Resolved(Map<UIObj, Object> instances, Map<Object, UIObj> objs) {}
 }
@@ -18,12 +18,14 @@
 
 package io.github.palexdev.architectfx.frontend.settings;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
 import io.github.palexdev.architectfx.frontend.model.Project;
 import io.github.palexdev.architectfx.frontend.theming.ThemeMode;
+import io.github.palexdev.architectfx.frontend.utils.ProjectRegistry;
 import io.github.palexdev.mfxcore.base.beans.Size;
 import io.github.palexdev.mfxcore.settings.BooleanSetting;
 import io.github.palexdev.mfxcore.settings.NumberSetting;
@@ -31,6 +33,7 @@ import io.github.palexdev.mfxcore.settings.Settings;
 import io.github.palexdev.mfxcore.settings.StringSetting;
 import io.inverno.core.annotation.Bean;
 import javafx.application.Application;
+import org.tinylog.Logger;
 
 @Bean
 public class AppSettings extends Settings {
@@ -44,7 +47,7 @@ public class AppSettings extends Settings {
 
     // Model
     private final StringSetting lastDir = registerString("last.dir", "", "");
-    private final StringSetting projects = registerString("projects", "Array specifying the projects known to the app", "[]");
+    private final StringSetting projects = registerString("projects", "Legacy array of the projects known to the app, superseded by the ProjectRegistry", "[]");
     private final StringSetting projectsSort = registerString("projects.sort", "Last sort type for projects", Project.SortBy.NAME.name());
     private final StringSetting projectsSortMode = registerString("projects.sortmode", "Last sort mode for projects", Project.SortMode.ASCENDING.name());
     private final BooleanSetting autoReload = registerBoolean("reload.autoreload", "Whether to auto-reload a project after its file changed", true);
@@ -68,14 +71,41 @@ public class AppSettings extends Settings {
         return Size.of(windowWidth.get(), windowHeight.get());
     }
 
+    /// Loads the projects known to the app from the [ProjectRegistry]. Entries for which the file is no longer valid are
+    /// dropped from the registry.
+    ///
+    /// Before the registry existed, projects were stored in the settings as a single string. If the registry was never
+    /// written, that string is migrated once, then cleared.
     public List<Project> loadProjects() {
-        String s = projects.get();
-        return Project.fromString(s);
+        ProjectRegistry registry = ProjectRegistry.instance();
+        if (!registry.exists()) {
+            Project.fromString(projects.get()).forEach(p -> registry.put(p.toEntry(-1)));
+            projects.set(projects.defValue());
+        }
+
+        List<Project> loaded = new ArrayList<>(registry.size());
+        for (ProjectRegistry.Entry entry : registry.entries()) {
+            try {
+                loaded.add(new Project(entry));
+            } catch (Exception ex) {
+                Logger.warn("Dropping invalid project {} because:\n{}", entry.path(), ex);
+                registry.remove(entry.path());
+            }
+        }
+        return loaded;
     }
 
+    /// Every edit to the projects list is persisted as soon as it happens by the projects list wrapper, this only
+    /// refreshes the cached last modified times and compacts the registry if needed.
     public void saveProjects(Collection<Project> projects) {
-        String s = Project.toString(projects);
-        this.projects.set(s);
+        ProjectRegistry registry = ProjectRegistry.instance();
+        for (Project project : projects) {
+            registry.get(project.getFile())
+                .map(e -> e.withLastModified(project.getLastModified()))
+                .ifPresent(registry::put);
+        }
+        registry.compactIfNeeded();
+        registry.close();
     }
 
     //================================================================================
@@ -20,51 +20,23 @@ package io.github.palexdev.architectfx.frontend.utils;
 
 
 import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.concurrent.Future;
 import java.util.function.BiConsumer;
-import java.util.function.BiFunction;
-import java.util.function.Function;
-import java.util.stream.Stream;
 
-import io.github.palexdev.architectfx.backend.utils.Async;
-import io.methvin.watcher.DirectoryChangeEvent;
 import io.methvin.watcher.DirectoryChangeEvent.EventType;
-import io.methvin.watcher.DirectoryWatcher;
-import io.methvin.watcher.hashing.FileHasher;
-import io.methvin.watcher.visitor.FileTreeVisitor;
-import org.tinylog.Logger;
 
+/// Observes a file (or all the files in a directory) for changes.
+///
+/// Observers do not own any watch service or thread, they subscribe to the shared [WatchHub], so that thousands of
+/// files can be tracked with a single watcher.
 public class FileObserver {
-    //================================================================================
-    // Static Properties
-    //================================================================================
-    public static final BiFunction<DirectoryChangeEvent, Path, Boolean> IS_CHILD =
-        (e, p) -> e.path().equals(p);
-
-    public static final FileTreeVisitor FILES_VISITOR = (file, onDirectory, onFile) -> {
-        if (!Files.isDirectory(file)) return;
-        try (Stream<Path> stream = Files.list(file)) {
-            Path[] files = stream.filter(f -> !Files.isDirectory(f))
-                .toArray(Path[]::new);
-            for (Path f : files) {
-                onFile.call(f);
-            }
-        } catch (IOException ex) {
-            Logger.error("File observer error:\n{}", ex);
-        }
-    };
-
     //================================================================================
     // Properties
     //================================================================================
     private final Path path;
-    private Function<DirectoryChangeEvent, Boolean> condition = p -> true;
     private BiConsumer<EventType, Path> onEvent = (e, p) -> {};
 
-    private DirectoryWatcher watcher;
-    private Future<?> task;
+    private WatchHub.Subscription subscription;
 
     //================================================================================
     // Constructors
@@ -74,17 +46,12 @@ public class FileObserver {
     }
 
     public static FileObserver observeFile(Path path) {
-        return new FileObserver(path.getParent());
+        return new FileObserver(path);
     }
 
     //================================================================================
     // Methods
     //================================================================================
-    public FileObserver condition(Function<DirectoryChangeEvent, Boolean> condition) {
-        this.condition = condition;
-        return this;
-    }
-
     public FileObserver onEvent(BiConsumer<EventType, Path> onEvent) {
         this.onEvent = onEvent;
         return this;
@@ -97,17 +64,7 @@ public class FileObserver {
 
     public FileObserver listen() {
         try {
-            watcher = DirectoryWatcher.builder()
-                .path(path)
-                .fileHashing(true)
-                .fileHasher(FileHasher.LAST_MODIFIED_TIME)
-                .fileTreeVisitor(FILES_VISITOR)
-                .listener(e -> {
-                    if (condition.apply(e))
-                        onEvent.accept(e.eventType(), path);
-                })
-                .build();
-            task = watcher.watchAsync(Async.executor());
+            subscription = WatchHub.instance().subscribe(path, (e, p) -> onEvent.accept(e, p));
         } catch (IOException ex) {
             throw new RuntimeException(ex);
         }
@@ -115,15 +72,9 @@ public class FileObserver {
     }
 
     public void dispose() {
-        if (task != null) {
-            task.cancel(true);
-            task = null;
-        }
-        if (watcher != null) {
-            try {
-                watcher.close();
-                watcher = null;
-            } catch (Exception ignored) {}
+        if (subscription != null) {
+            subscription.close();
+            subscription = null;
         }
     }
 }
@@ -0,0 +1,332 @@
+/*
+ * Copyright (C) 2024 Parisi Alessandro - alessandro.parisi406@gmail.com
+ * This file is part of ArchitectFX (https://github.com/palexdev/ArchitectFX)
+ *
+ * ArchitectFX is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License
+ * as published by the Free Software Foundation; either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * ArchitectFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ArchitectFX. If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.palexdev.architectfx.frontend.utils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+import java.util.zip.CRC32;
+
+import io.github.palexdev.architectfx.frontend.ArchitectFX;
+import org.tinylog.Logger;
+
+/// Persistent registry of the projects known to the app, along with some cached metadata, see [Entry].
+///
+/// The registry is an append-only journal: every edit is a single record appended at the end of the file and synced to
+/// disk, so adding, updating or removing a project costs the same regardless of how many projects there are. At startup,
+/// the file is read in one pass, later records override earlier ones for the same path.
+///
+/// Each record is prefixed by its length and a CRC32 of its payload. A record that is incomplete or that doesn't match
+/// its checksum (e.g. the app crashed in the middle of a write) ends the journal: everything before it is kept, the
+/// rest is truncated. Since overridden and removed entries still occupy space, the journal is rewritten from the live
+/// entries by [#compact()] when the dead records outnumber the live ones. Compaction writes a temporary file which is
+/// then atomically moved over the journal, so a crash at any point leaves either the old or the new file.
+public class ProjectRegistry {
+    //================================================================================
+    // Static Properties
+    //================================================================================
+    private static final int MAGIC = 0x41465850; // AFXP
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 8;
+    private static final int RECORD_HEADER_SIZE = 8;
+    private static final int MAX_RECORD_SIZE = 64 * 1024;
+    private static final byte OP_PUT = 1;
+    private static final byte OP_REMOVE = 2;
+    private static ProjectRegistry instance;
+
+    //================================================================================
+    // Properties
+    //================================================================================
+    private final Path file;
+    private final Map<Path, Entry> entries = new LinkedHashMap<>();
+    private FileChannel channel;
+    private int records = 0;
+
+    //================================================================================
+    // Constructors
+    //================================================================================
+    public ProjectRegistry(Path file) {
+        this.file = file;
+        read();
+    }
+
+    //================================================================================
+    // Static Methods
+    //================================================================================
+
+    /// @return the app's registry, stored in [ArchitectFX#appBaseDir()]
+    public static synchronized ProjectRegistry instance() {
+        if (instance == null) {
+            Path baseDir = ArchitectFX.appBaseDir();
+            instance = new ProjectRegistry(baseDir != null ? baseDir.resolve("projects.db") : null);
+        }
+        return instance;
+    }
+
+    //================================================================================
+    // Methods
+    //================================================================================
+
+    /// @return the entry stored for the given path, if present
+    public synchronized Optional<Entry> get(Path path) {
+        return Optional.ofNullable(entries.get(path));
+    }
+
+    /// @return a snapshot of all the live entries, in insertion order
+    public synchronized List<Entry> entries() {
+        return List.copyOf(entries.values());
+    }
+
+    /// Adds or updates the given entry. Nothing is written if the stored entry is equal to the given one.
+    public synchronized void put(Entry entry) {
+        Entry old = entries.put(entry.path(), entry);
+        if (entry.equals(old)) return;
+        append(OP_PUT, entry);
+    }
+
+    /// Convenience method to update only the last load duration of the entry for the given path, if present.
+    public synchronized void updateLoadTime(Path path, long loadMillis) {
+        Entry entry = entries.get(path);
+        if (entry != null) put(entry.withLoadMillis(loadMillis));
+    }
+
+    public synchronized void remove(Path path) {
+        Entry old = entries.remove(path);
+        if (old == null) return;
+        append(OP_REMOVE, old);
+    }
+
+    /// @return whether the journal exists on disk. A registry without a file has never been written, which allows
+    /// callers to migrate data from older formats.
+    public synchronized boolean exists() {
+        return file != null && Files.isRegularFile(file);
+    }
+
+    /// Compacts the journal if the dead records outnumber the live ones, see [#compact()].
+    public synchronized void compactIfNeeded() {
+        if (records > entries.size() * 2) compact();
+    }
+
+    /// Rewrites the journal so that it contains exactly one record per live entry.
+    public synchronized void compact() {
+        if (file == null) return;
+        try {
+            closeChannel();
+            Path dir = file.toAbsolutePath().getParent();
+            Files.createDirectories(dir);
+            Path tmp = Files.createTempFile(dir, "projects", ".tmp");
+            try {
+                try (FileChannel out = FileChannel.open(tmp, StandardOpenOption.WRITE)) {
+                    out.write(header());
+                    for (Entry entry : entries.values()) out.write(record(OP_PUT, entry));
+                    out.force(true);
+                }
+                try {
+                    Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                } catch (AtomicMoveNotSupportedException ex) {
+                    Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+                }
+            } finally {
+                Files.deleteIfExists(tmp);
+            }
+            records = entries.size();
+        } catch (IOException ex) {
+            Logger.error("Failed to compact projects registry {} because:\n{}", file, ex);
+        }
+    }
+
+    /// Releases the file handle. The registry can still be used, the file is re-opened on the next write.
+    public synchronized void close() {
+        try {
+            closeChannel();
+        } catch (IOException ex) {
+            Logger.warn("Failed to close projects registry {} because:\n{}", file, ex);
+        }
+    }
+
+    protected void append(byte op, Entry entry) {
+        if (file == null) return;
+        try {
+            FileChannel channel = channel();
+            channel.write(record(op, entry), channel.size());
+            channel.force(false);
+            records++;
+        } catch (IOException ex) {
+            Logger.error("Failed to write to projects registry {} because:\n{}", file, ex);
+        }
+    }
+
+    /// Reads the whole journal in one pass, see the class docs for the handling of damaged files.
+    protected void read() {
+        if (!exists()) return;
+        long valid = HEADER_SIZE;
+        long size = 0;
+        try (FileChannel in = FileChannel.open(file, StandardOpenOption.READ)) {
+            size = in.size();
+            ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(size, Integer.MAX_VALUE));
+            while (buffer.hasRemaining() && in.read(buffer) >= 0) ;
+            buffer.flip();
+
+            if (buffer.remaining() < HEADER_SIZE || buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                Logger.warn("Unknown projects registry format {}, starting from scratch...", file);
+                entries.clear();
+                records = 0;
+                valid = 0;
+            } else {
+                CRC32 crc = new CRC32();
+                while (buffer.remaining() >= RECORD_HEADER_SIZE) {
+                    int len = buffer.getInt();
+                    int checksum = buffer.getInt();
+                    if (len <= 0 || len > MAX_RECORD_SIZE || len > buffer.remaining()) break;
+                    ByteBuffer payload = buffer.slice(buffer.position(), len);
+                    crc.reset();
+                    crc.update(payload.duplicate());
+                    if ((int) crc.getValue() != checksum) break;
+                    buffer.position(buffer.position() + len);
+
+                    byte op = payload.get();
+                    Entry entry = Entry.read(payload);
+                    if (op == OP_PUT) {
+                        entries.put(entry.path(), entry);
+                    } else {
+                        entries.remove(entry.path());
+                    }
+                    records++;
+                    valid = buffer.position();
+                }
+            }
+        } catch (IOException | RuntimeException ex) {
+            Logger.error("Failed to read projects registry {} because:\n{}", file, ex);
+        }
+
+        if (valid < size) {
+            Logger.warn("Projects registry {} has a damaged tail, discarding {} bytes", file, size - valid);
+            if (valid == 0) {
+                compact();
+                return;
+            }
+            try (FileChannel out = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                out.truncate(valid);
+                out.force(true);
+            } catch (IOException ex) {
+                Logger.error("Failed to repair projects registry {} because:\n{}", file, ex);
+            }
+        }
+    }
+
+    private FileChannel channel() throws IOException {
+        if (channel == null || !channel.isOpen()) {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            if (channel.size() == 0) channel.write(header(), 0);
+        }
+        return channel;
+    }
+
+    private void closeChannel() throws IOException {
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+    }
+
+    private static ByteBuffer header() {
+        return ByteBuffer.allocate(HEADER_SIZE).putInt(MAGIC).putInt(VERSION).flip();
+    }
+
+    /// Record layout: payload length, CRC32 of the payload, then the payload itself which is the operation byte
+    /// followed by the entry, see [Entry#write(DataOutputStream)].
+    private static ByteBuffer record(byte op, Entry entry) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(op);
+            entry.write(out);
+        }
+        byte[] payload = bytes.toByteArray();
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        return ByteBuffer.allocate(RECORD_HEADER_SIZE + payload.length)
+            .putInt(payload.length)
+            .putInt((int) crc.getValue())
+            .put(payload)
+            .flip();
+    }
+
+    //================================================================================
+    // Getters
+    //================================================================================
+    public Path file() {
+        return file;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    //================================================================================
+    // Inner Classes
+    //================================================================================
+
+    /// A project known to the app.
+    ///
+    /// @param path         the project's file
+    /// @param lastModified the file's last modified time, as last seen by the app
+    /// @param previewKey   the key under which the project's preview is stored in the [ThumbnailCache]
+    /// @param loadMillis   how long the last load of the project took, in milliseconds, or `-1` if never loaded
+    public record Entry(Path path, long lastModified, String previewKey, long loadMillis) {
+        public Entry withLastModified(long lastModified) {
+            return new Entry(path, lastModified, previewKey, loadMillis);
+        }
+
+        public Entry withLoadMillis(long loadMillis) {
+            return new Entry(path, lastModified, previewKey, loadMillis);
+        }
+
+        void write(DataOutputStream out) throws IOException {
+            writeString(out, path.toString());
+            out.writeLong(lastModified);
+            writeString(out, previewKey != null ? previewKey : "");
+            out.writeLong(loadMillis);
+        }
+
+        static Entry read(ByteBuffer buffer) {
+            Path path = Path.of(readString(buffer));
+            long lastModified = buffer.getLong();
+            String previewKey = readString(buffer);
+            long loadMillis = buffer.getLong();
+            return new Entry(path, lastModified, previewKey.isEmpty() ? null : previewKey, loadMillis);
+        }
+
+        private static String readString(ByteBuffer buffer) {
+            byte[] data = new byte[Short.toUnsignedInt(buffer.getShort())];
+            buffer.get(data);
+            return new String(data, StandardCharsets.UTF_8);
+        }
+
+        private static void writeString(DataOutputStream out, String s) throws IOException {
+            byte[] data = s.getBytes(StandardCharsets.UTF_8);
+            out.writeShort(data.length);
+            out.write(data);
+        }
+    }
+}
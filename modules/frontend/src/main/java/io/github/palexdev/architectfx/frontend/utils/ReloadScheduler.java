@@ -0,0 +1,207 @@
+/*
+ * Copyright (C) 2024 Parisi Alessandro - alessandro.parisi406@gmail.com
+ * This file is part of ArchitectFX (https://github.com/palexdev/ArchitectFX)
+ *
+ * ArchitectFX is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License
+ * as published by the Free Software Foundation; either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * ArchitectFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ArchitectFX. If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.palexdev.architectfx.frontend.utils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import io.github.palexdev.architectfx.backend.utils.Async;
+import io.methvin.watcher.DirectoryChangeEvent.EventType;
+import org.tinylog.Logger;
+
+/// Turns the raw stream of file-change events for a single file into reload requests.
+///
+/// Editors rarely produce a single event per save: many write the new content to a temporary file and then rename it
+/// over the original (_atomic save_), which results in bursts of `DELETE`/`CREATE`/`MODIFY` events. This class:
+/// - debounces events, the file is checked only once no event arrived for the configured delay
+/// - coalesces the burst by content: the file is hashed (SHA-256), and if the digest is the same of the last known
+/// content, no reload is requested
+/// - recognizes atomic saves: if the file is missing when checked, it is checked again a few times before declaring
+/// it deleted, so that a rename in progress does not count as a deletion
+///
+/// Callbacks are invoked on a background thread.
+public class ReloadScheduler {
+    //================================================================================
+    // Static Properties
+    //================================================================================
+    public static final Duration DEFAULT_DELAY = Duration.ofMillis(200);
+    public static final int MISSING_CHECKS = 3;
+
+    //================================================================================
+    // Properties
+    //================================================================================
+    private final Path file;
+    private final Duration delay;
+    private Runnable onChanged = () -> {};
+    private Runnable onDeleted = () -> {};
+
+    private byte[] digest;
+    private Future<?> pending;
+    private volatile boolean disposed = false;
+    private int events = 0;
+    private boolean deleteSeen = false;
+    private int missingChecks = 0;
+
+    //================================================================================
+    // Constructors
+    //================================================================================
+    public ReloadScheduler(Path file) {
+        this(file, DEFAULT_DELAY);
+    }
+
+    public ReloadScheduler(Path file, Duration delay) {
+        this.file = file;
+        this.delay = delay;
+    }
+
+    //================================================================================
+    // Static Methods
+    //================================================================================
+
+    /// @return the SHA-256 of the given file's content, `null` if it could not be read
+    public static byte[] digest(Path file) {
+        try {
+            return digest(Files.readAllBytes(file));
+        } catch (IOException ex) {
+            return null;
+        }
+    }
+
+    /// @return the SHA-256 of the given content
+    public static byte[] digest(byte[] content) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(content);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    //================================================================================
+    // Methods
+    //================================================================================
+
+    /// Records the digest of the file's current content, changes are detected against it.
+    ///
+    /// @see #prime(byte\[\])
+    public synchronized ReloadScheduler prime() {
+        digest = digest(file);
+        return this;
+    }
+
+    /// Records the given digest as the one of the last loaded content, changes are detected against it. Should be
+    /// called every time the file is (re)loaded, with the digest of the bytes that were actually parsed (see
+    /// [#digest(byte\[\])]): if the file is saved again while loading, the new content is then still seen as a change.
+    public synchronized ReloadScheduler prime(byte[] digest) {
+        this.digest = digest;
+        return this;
+    }
+
+    /// Notifies the scheduler of a new event, the check is postponed by the configured delay.
+    public synchronized void signal(EventType type) {
+        if (disposed) return;
+        events++;
+        if (type == EventType.DELETE) deleteSeen = true;
+        missingChecks = 0;
+        reschedule();
+    }
+
+    /// Cancels any pending check. A check already running when this is called won't invoke the callbacks.
+    public synchronized void dispose() {
+        disposed = true;
+        if (pending != null) {
+            pending.cancel(false);
+            pending = null;
+        }
+    }
+
+    protected void settle() {
+        int coalesced;
+        boolean atomic;
+        synchronized (this) {
+            pending = null;
+            coalesced = events;
+            atomic = deleteSeen;
+            if (!Files.exists(file)) {
+                if (++missingChecks < MISSING_CHECKS) {
+                    reschedule();
+                    return;
+                }
+                events = 0;
+                deleteSeen = false;
+                missingChecks = 0;
+            }
+        }
+        if (!Files.exists(file)) {
+            if (disposed) return;
+            Logger.debug("File {} was deleted", file);
+            onDeleted.run();
+            return;
+        }
+
+        byte[] newDigest = digest(file);
+        synchronized (this) {
+            if (newDigest == null) {
+                // The file may still be being written, check again later
+                if (++missingChecks < MISSING_CHECKS) reschedule();
+                return;
+            }
+            events = 0;
+            deleteSeen = false;
+            missingChecks = 0;
+            if (Arrays.equals(digest, newDigest)) {
+                Logger.debug("Content of {} did not change, skipping reload ({} events coalesced)", file, coalesced);
+                return;
+            }
+            digest = newDigest;
+        }
+        if (disposed) return;
+        if (atomic) Logger.debug("Detected atomic save for {}", file);
+        Logger.debug("Content of {} changed, requesting reload ({} events coalesced)", file, coalesced);
+        onChanged.run();
+    }
+
+    private void reschedule() {
+        if (disposed) return;
+        if (pending != null) pending.cancel(false);
+        pending = Async.schedule(this::settle, delay.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    //================================================================================
+    // Getters/Setters
+    //================================================================================
+    public Path getFile() {
+        return file;
+    }
+
+    public ReloadScheduler onChanged(Runnable onChanged) {
+        this.onChanged = onChanged;
+        return this;
+    }
+
+    public ReloadScheduler onDeleted(Runnable onDeleted) {
+        this.onDeleted = onDeleted;
+        return this;
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright (C) 2024 Parisi Alessandro - alessandro.parisi406@gmail.com
+ * This file is part of ArchitectFX (https://github.com/palexdev/ArchitectFX)
+ *
+ * ArchitectFX is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License
+ * as published by the Free Software Foundation; either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * ArchitectFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ArchitectFX. If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.palexdev.architectfx.frontend.utils;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.nio.file.attribute.FileTime;
+import java.util.*;
+import java.util.stream.Stream;
+
+import io.github.palexdev.architectfx.frontend.ArchitectFX;
+import org.tinylog.Logger;
+
+/// A disk cache for preview thumbnails, bounded by the total size of the stored files.
+///
+/// Entries are PNG files named after their id. The cache keeps an in-memory index of the entries in least recently used
+/// order, built at startup from the files' last modified times (which are updated on every access). When the total
+/// size exceeds the limit, the least recently used entries are deleted.
+public class ThumbnailCache {
+    //================================================================================
+    // Static Properties
+    //================================================================================
+    public static final long DEFAULT_MAX_BYTES = 32L * 1024 * 1024;
+    private static final String EXTENSION = ".png";
+    private static ThumbnailCache instance;
+
+    //================================================================================
+    // Properties
+    //================================================================================
+    private final Path dir;
+    private final long maxBytes;
+    private final LinkedHashMap<String, Long> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long size = 0;
+
+    //================================================================================
+    // Constructors
+    //================================================================================
+    public ThumbnailCache(Path dir, long maxBytes) {
+        this.dir = dir;
+        this.maxBytes = maxBytes;
+        scan();
+    }
+
+    //================================================================================
+    // Static Methods
+    //================================================================================
+
+    /// @return the app's thumbnails cache, stored in [ArchitectFX#appCacheDir()] and limited to [#DEFAULT_MAX_BYTES]
+    public static synchronized ThumbnailCache instance() {
+        if (instance == null) {
+            Path cacheDir = ArchitectFX.appCacheDir();
+            instance = new ThumbnailCache(cacheDir != null ? cacheDir.resolve("thumbnails") : null, DEFAULT_MAX_BYTES);
+        }
+        return instance;
+    }
+
+    //================================================================================
+    // Methods
+    //================================================================================
+
+    /// @return the data stored for the given id, if present
+    public synchronized Optional<byte[]> get(String id) {
+        if (dir == null || !entries.containsKey(id)) return Optional.empty();
+        Path file = file(id);
+        try {
+            byte[] data = Files.readAllBytes(file);
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+            return Optional.of(data);
+        } catch (IOException ex) {
+            Logger.warn("Failed to read thumbnail {} because:\n{}", file, ex);
+            remove(id);
+            return Optional.empty();
+        }
+    }
+
+    /// Stores the given data for the given id, then evicts the least recently used entries if needed.
+    public synchronized void put(String id, byte[] data) {
+        if (dir == null) return;
+        Path file = file(id);
+        try {
+            Files.createDirectories(dir);
+            Path tmp = Files.createTempFile(dir, "thumb", ".tmp");
+            try {
+                Files.write(tmp, data);
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tmp);
+            }
+        } catch (IOException ex) {
+            Logger.error("Failed to store thumbnail {} because:\n{}", file, ex);
+            return;
+        }
+        Long old = entries.put(id, (long) data.length);
+        size += data.length - ((old != null) ? old : 0L);
+        evict();
+    }
+
+    public synchronized void remove(String id) {
+        Long old = entries.remove(id);
+        if (old != null) size -= old;
+        if (dir == null) return;
+        try {
+            Files.deleteIfExists(file(id));
+        } catch (IOException ex) {
+            Logger.warn("Failed to delete thumbnail {} because:\n{}", id, ex);
+        }
+    }
+
+    /// @return the total size of the stored thumbnails, in bytes
+    public synchronized long size() {
+        return size;
+    }
+
+    protected void evict() {
+        Iterator<Map.Entry<String, Long>> it = entries.entrySet().iterator();
+        while (size > maxBytes && entries.size() > 1 && it.hasNext()) {
+            Map.Entry<String, Long> e = it.next();
+            it.remove();
+            size -= e.getValue();
+            try {
+                Files.deleteIfExists(file(e.getKey()));
+            } catch (IOException ex) {
+                Logger.warn("Failed to evict thumbnail {} because:\n{}", e.getKey(), ex);
+            }
+        }
+    }
+
+    protected void scan() {
+        if (dir == null || !Files.isDirectory(dir)) return;
+        record Entry(String id, long size, long time) {}
+        try (Stream<Path> files = Files.list(dir)) {
+            files.map(f -> {
+                    String name = f.getFileName().toString();
+                    if (!name.endsWith(EXTENSION)) return null;
+                    try {
+                        return new Entry(
+                            name.substring(0, name.length() - EXTENSION.length()),
+                            Files.size(f),
+                            Files.getLastModifiedTime(f).toMillis()
+                        );
+                    } catch (IOException ex) {
+                        return null;
+                    }
+                })
+                .filter(Objects::nonNull)
+                .sorted(Comparator.comparingLong(Entry::time))
+                .forEach(e -> {
+                    entries.put(e.id(), e.size());
+                    size += e.size();
+                });
+        } catch (IOException ex) {
+            Logger.error("Failed to scan thumbnails cache {} because:\n{}", dir, ex);
+        }
+        evict();
+    }
+
+    private Path file(String id) {
+        return dir.resolve(id + EXTENSION);
+    }
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright (C) 2024 Parisi Alessandro - alessandro.parisi406@gmail.com
+ * This file is part of ArchitectFX (https://github.com/palexdev/ArchitectFX)
+ *
+ * ArchitectFX is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License
+ * as published by the Free Software Foundation; either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * ArchitectFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ArchitectFX. If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.palexdev.architectfx.frontend.utils;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.*;
+import java.util.function.BiConsumer;
+
+import io.methvin.watcher.DirectoryChangeEvent.EventType;
+import org.tinylog.Logger;
+
+import static java.nio.file.StandardWatchEventKinds.*;
+
+/// A single, shared watch service which multiplexes file-change events to any number of subscribers.
+///
+/// Every directory is registered at most once with the underlying [WatchService], no matter how many files in it are
+/// observed, and it is unregistered as soon as the last subscriber leaves. A single virtual thread waits for events and
+/// dispatches them by path: subscribers of a file only receive events for that file, subscribers of a directory
+/// receive events for all its direct children.
+///
+/// Listeners are invoked on the watch thread, they should return quickly.
+///
+/// @see FileObserver
+public class WatchHub {
+    //================================================================================
+    // Static Properties
+    //================================================================================
+    private static final WatchHub instance = new WatchHub();
+
+    //================================================================================
+    // Properties
+    //================================================================================
+    private WatchService service;
+    private final Map<Path, Registration> registrations = new HashMap<>();
+    private final Map<WatchKey, Registration> byKey = new HashMap<>();
+
+    //================================================================================
+    // Constructors
+    //================================================================================
+    private WatchHub() {}
+
+    //================================================================================
+    // Static Methods
+    //================================================================================
+    public static WatchHub instance() {
+        return instance;
+    }
+
+    //================================================================================
+    // Methods
+    //================================================================================
+
+    /// Subscribes the given listener to the events of the given path, which can either be a file or a directory.
+    /// The listener receives the event type and the path of the affected file.
+    ///
+    /// @throws IOException if the directory could not be registered
+    public synchronized Subscription subscribe(Path path, BiConsumer<EventType, Path> listener) throws IOException {
+        Path target = path.toAbsolutePath().normalize();
+        boolean isDir = Files.isDirectory(target);
+        Path dir = isDir ? target : target.getParent();
+
+        Registration reg = registrations.get(dir);
+        if (reg == null) {
+            WatchKey key = dir.register(service(), ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+            reg = new Registration(dir, key);
+            registrations.put(dir, reg);
+            byKey.put(key, reg);
+        }
+
+        Subscription sub = new Subscription(reg, isDir ? null : target, listener);
+        reg.subscriptions.computeIfAbsent(sub.file, f -> new ArrayList<>()).add(sub);
+        return sub;
+    }
+
+    /// @return the number of directories currently registered
+    public synchronized int registeredDirectories() {
+        return registrations.size();
+    }
+
+    protected synchronized void unsubscribe(Subscription sub) {
+        Registration reg = sub.registration;
+        List<Subscription> subs = reg.subscriptions.get(sub.file);
+        if (subs == null || !subs.remove(sub)) return;
+        if (subs.isEmpty()) reg.subscriptions.remove(sub.file);
+        if (reg.subscriptions.isEmpty()) {
+            reg.key.cancel();
+            registrations.remove(reg.dir, reg);
+            byKey.remove(reg.key);
+        }
+    }
+
+    protected WatchService service() throws IOException {
+        if (service == null) {
+            service = FileSystems.getDefault().newWatchService();
+            Thread.ofVirtual().name("WatchHub").start(this::loop);
+        }
+        return service;
+    }
+
+    protected void loop() {
+        while (!Thread.currentThread().isInterrupted()) {
+            WatchKey key;
+            try {
+                key = service.take();
+            } catch (InterruptedException | ClosedWatchServiceException ex) {
+                return;
+            }
+
+            List<Runnable> dispatch = new ArrayList<>();
+            synchronized (this) {
+                Registration reg = byKey.get(key);
+                if (reg != null) {
+                    for (WatchEvent<?> event : key.pollEvents()) collect(reg, event, dispatch);
+                    if (!key.reset()) {
+                        // The directory is gone, everything in it is deleted
+                        registrations.remove(reg.dir);
+                        byKey.remove(key);
+                        reg.subscriptions.values().stream()
+                            .flatMap(List::stream)
+                            .forEach(s -> dispatch.add(() -> s.listener.accept(EventType.DELETE, Optional.ofNullable(s.file).orElse(reg.dir))));
+                    }
+                } else {
+                    key.pollEvents();
+                    key.cancel();
+                }
+            }
+
+            for (Runnable r : dispatch) {
+                try {
+                    r.run();
+                } catch (Exception ex) {
+                    Logger.error("File watch listener failed because:\n{}", ex);
+                }
+            }
+        }
+    }
+
+    /// Converts the given event and adds the calls to the interested listeners to the given list.
+    private void collect(Registration reg, WatchEvent<?> event, List<Runnable> dispatch) {
+        if (event.kind() == OVERFLOW) {
+            // Events were lost, everybody should check
+            for (List<Subscription> subs : reg.subscriptions.values()) {
+                for (Subscription s : subs) {
+                    Path p = Optional.ofNullable(s.file).orElse(reg.dir);
+                    dispatch.add(() -> s.listener.accept(EventType.OVERFLOW, p));
+                }
+            }
+            return;
+        }
+
+        Path file = reg.dir.resolve((Path) event.context());
+        EventType type = (event.kind() == ENTRY_CREATE) ? EventType.CREATE :
+            (event.kind() == ENTRY_DELETE) ? EventType.DELETE :
+                EventType.MODIFY;
+        for (Subscription s : reg.subscriptions.getOrDefault(file, List.of()))
+            dispatch.add(() -> s.listener.accept(type, file));
+        for (Subscription s : reg.subscriptions.getOrDefault(null, List.of()))
+            dispatch.add(() -> s.listener.accept(type, file));
+    }
+
+    //================================================================================
+    // Inner Classes
+    //================================================================================
+
+    /// A registered directory and its subscribers, grouped by file. Directory-wide subscribers use the `null` key.
+    private static class Registration {
+        private final Path dir;
+        private final WatchKey key;
+        private final Map<Path, List<Subscription>> subscriptions = new HashMap<>();
+
+        private Registration(Path dir, WatchKey key) {
+            this.dir = dir;
+            this.key = key;
+        }
+    }
+
+    /// Handle returned by [#subscribe(Path, BiConsumer)], closing it stops the notifications.
+    public class Subscription implements AutoCloseable {
+        private final Registration registration;
+        private final Path file;
+        private final BiConsumer<EventType, Path> listener;
+
+        private Subscription(Registration registration, Path file, BiConsumer<EventType, Path> listener) {
+            this.registration = registration;
+            this.file = file;
+            this.listener = listener;
+        }
+
+        @Override
+        public void close() {
+            unsubscribe(this);
+        }
+    }
+}
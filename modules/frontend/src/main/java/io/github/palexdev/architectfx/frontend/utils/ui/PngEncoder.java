@@ -0,0 +1,134 @@
+/*
+ * Copyright (C) 2024 Parisi Alessandro - alessandro.parisi406@gmail.com
+ * This file is part of ArchitectFX (https://github.com/palexdev/ArchitectFX)
+ *
+ * ArchitectFX is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License
+ * as published by the Free Software Foundation; either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * ArchitectFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ArchitectFX. If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.palexdev.architectfx.frontend.utils.ui;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.PixelReader;
+
+/// Minimal PNG encoder for 8-bit RGBA images, which works directly on pixel arrays.
+///
+/// This avoids converting JavaFX images to AWT ones (see `SwingFXUtils`) just to be able to use `ImageIO`. The
+/// typical usage is to read the pixels on the JavaFX thread with [#pixels(Image)], and then encode them on a
+/// background thread with [#encode(int\[\], int, int)].
+///
+/// Scanlines use the _Sub_ filter, which works well for UI screenshots.
+public class PngEncoder {
+    //================================================================================
+    // Static Properties
+    //================================================================================
+    private static final byte[] SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+
+    //================================================================================
+    // Constructors
+    //================================================================================
+    private PngEncoder() {}
+
+    //================================================================================
+    // Static Methods
+    //================================================================================
+
+    /// @return the pixels of the given image in the `ARGB` format, row by row
+    public static int[] pixels(Image image) {
+        int w = (int) image.getWidth();
+        int h = (int) image.getHeight();
+        int[] argb = new int[w * h];
+        PixelReader reader = image.getPixelReader();
+        reader.getPixels(0, 0, w, h, PixelFormat.getIntArgbInstance(), argb, 0, w);
+        return argb;
+    }
+
+    /// Encodes the given `ARGB` pixels to PNG, with the default compression level.
+    public static byte[] encode(int[] argb, int width, int height) {
+        return encode(argb, width, height, Deflater.DEFAULT_COMPRESSION);
+    }
+
+    /// Encodes the given `ARGB` pixels to PNG, with the given [Deflater] compression level.
+    public static byte[] encode(int[] argb, int width, int height, int level) {
+        if (argb.length < width * height)
+            throw new IllegalArgumentException("Expected %d pixels, got %d".formatted(width * height, argb.length));
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(width * height + 1024);
+            DataOutputStream dos = new DataOutputStream(out);
+            dos.write(SIGNATURE);
+
+            ByteArrayOutputStream header = new ByteArrayOutputStream(13);
+            DataOutputStream hos = new DataOutputStream(header);
+            hos.writeInt(width);
+            hos.writeInt(height);
+            hos.writeByte(8); // Bit depth
+            hos.writeByte(6); // Color type: RGBA
+            hos.writeByte(0); // Compression: deflate
+            hos.writeByte(0); // Filter method: adaptive
+            hos.writeByte(0); // Interlace: none
+            chunk(dos, "IHDR", header.toByteArray());
+
+            ByteArrayOutputStream data = new ByteArrayOutputStream(width * height);
+            Deflater deflater = new Deflater(level);
+            try (DeflaterOutputStream dfos = new DeflaterOutputStream(data, deflater, 1 << 16)) {
+                int stride = width * 4;
+                byte[] raw = new byte[stride];
+                byte[] line = new byte[stride + 1];
+                line[0] = 1; // Sub filter
+                for (int y = 0; y < height; y++) {
+                    int offset = y * width;
+                    for (int x = 0; x < width; x++) {
+                        int p = argb[offset + x];
+                        int i = x * 4;
+                        raw[i] = (byte) (p >> 16);
+                        raw[i + 1] = (byte) (p >> 8);
+                        raw[i + 2] = (byte) p;
+                        raw[i + 3] = (byte) (p >>> 24);
+                    }
+                    for (int i = 0; i < stride; i++) {
+                        line[i + 1] = (byte) (raw[i] - ((i >= 4) ? raw[i - 4] : 0));
+                    }
+                    dfos.write(line);
+                }
+            } finally {
+                deflater.end();
+            }
+            chunk(dos, "IDAT", data.toByteArray());
+            chunk(dos, "IEND", new byte[0]);
+            dos.flush();
+            return out.toByteArray();
+        } catch (IOException ex) {
+            // Cannot happen with in-memory streams
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static void chunk(DataOutputStream out, String type, byte[] data) throws IOException {
+        byte[] typeBytes = type.getBytes(StandardCharsets.US_ASCII);
+        CRC32 crc = new CRC32();
+        crc.update(typeBytes);
+        crc.update(data);
+        out.writeInt(data.length);
+        out.write(typeBytes);
+        out.write(data);
+        out.writeInt((int) crc.getValue());
+    }
+}
@@ -25,9 +25,18 @@ import java.util.function.Predicate;
 import javafx.beans.InvalidationListener;
 import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
 import javafx.collections.transformation.FilteredList;
 import javafx.collections.transformation.SortedList;
 
+/// Wraps a source list and offers a filtered and sorted view of it, see [#getView()]. Modifications are performed on
+/// the source list, while listeners are added to the view.
+///
+/// By default, the view is a chain of [FilteredList] and [SortedList]. The _incremental_ mode (see
+/// [#RefineList(ObservableList, boolean)]) uses an [IncrementalView] instead, which:
+/// - can narrow the previous result rather than testing the whole source again, see [#setPredicate(Predicate, boolean)]
+/// - notifies only the elements that were actually removed or added on filter changes, instead of a full permutation
+/// - handles changes in the source list one element at a time
 public class RefineList<T> implements ObservableList<T> {
     //================================================================================
     // Properties
@@ -35,46 +44,75 @@ public class RefineList<T> implements ObservableList<T> {
     private final ObservableList<T> src;
     private final FilteredList<T> filtered;
     private final SortedList<T> sorted;
+    private final IncrementalView<T> incremental;
 
     //================================================================================
     // Constructors
     //================================================================================
     public RefineList(ObservableList<T> src) {
+        this(src, false);
+    }
+
+    public RefineList(ObservableList<T> src, boolean incremental) {
         this.src = src;
-        filtered = new FilteredList<>(src);
-        sorted = new SortedList<>(filtered);
+        if (incremental) {
+            filtered = null;
+            sorted = null;
+            this.incremental = new IncrementalView<>(src);
+        } else {
+            filtered = new FilteredList<>(src);
+            sorted = new SortedList<>(filtered);
+            this.incremental = null;
+        }
     }
 
     //================================================================================
     // Delegate Methods
     //================================================================================
     public void setPredicate(Predicate<T> predicate) {
-        filtered.setPredicate(predicate);
+        setPredicate(predicate, false);
+    }
+
+    /// Sets the predicate used to filter the view.
+    ///
+    /// In incremental mode, `narrowing` tells whether the new predicate accepts a subset of what the previous one
+    /// accepted (e.g. the search query got longer), in which case only the elements currently in the view are tested.
+    /// The flag is ignored otherwise.
+    public void setPredicate(Predicate<T> predicate, boolean narrowing) {
+        if (incremental != null) {
+            incremental.setPredicate(predicate, narrowing);
+        } else {
+            filtered.setPredicate(predicate);
+        }
     }
 
     public void setComparator(Comparator<T> comparator) {
-        sorted.setComparator(comparator);
+        if (incremental != null) {
+            incremental.setComparator(comparator);
+        } else {
+            sorted.setComparator(comparator);
+        }
     }
 
     // Observability (on the "last view")
     @Override
     public void addListener(ListChangeListener<? super T> listener) {
-        sorted.addListener(listener);
+        getView().addListener(listener);
     }
 
     @Override
     public void removeListener(ListChangeListener<? super T> listener) {
-        sorted.removeListener(listener);
+        getView().removeListener(listener);
     }
 
     @Override
     public void addListener(InvalidationListener listener) {
-        sorted.addListener(listener);
+        getView().addListener(listener);
     }
 
     @Override
     public void removeListener(InvalidationListener listener) {
-        sorted.removeListener(listener);
+        getView().removeListener(listener);
     }
 
     // Basic List Operations
@@ -237,6 +275,176 @@ public class RefineList<T> implements ObservableList<T> {
     }
 
     public ObservableList<T> getView() {
-        return sorted;
+        return (incremental != null) ? incremental : sorted;
+    }
+
+    public boolean isIncremental() {
+        return incremental != null;
+    }
+
+    //================================================================================
+    // Inner Classes
+    //================================================================================
+
+    /// Filtered and sorted view of a source list, which keeps all the source's elements sorted (by the comparator, or
+    /// in the source's order if there's none) along with a flag that tells whether each of them passes the filter.
+    ///
+    /// Since the view is always a subsequence of the sorted elements, going from one filter to another is a linear walk
+    /// which emits the minimal set of removals and additions. A narrowing filter only tests the elements in the view.
+    /// Sorting is `O(n log n)` and is notified as a single permutation.
+    public static class IncrementalView<T> extends ObservableListBase<T> {
+        private final ObservableList<T> src;
+        private final List<Entry<T>> all = new ArrayList<>();
+        private List<T> view = new ArrayList<>();
+        private Predicate<T> predicate;
+        private Comparator<T> comparator;
+
+        public IncrementalView(ObservableList<T> src) {
+            this.src = src;
+            for (T t : src) {
+                all.add(new Entry<>(t, true));
+                view.add(t);
+            }
+            src.addListener(this::onSourceChanged);
+        }
+
+        public void setPredicate(Predicate<T> predicate, boolean narrowing) {
+            this.predicate = predicate;
+            List<T> newView = new ArrayList<>(narrowing ? view.size() : all.size());
+            beginChange();
+            int pos = 0;
+            for (Entry<T> e : all) {
+                boolean in = (!narrowing || e.in) && test(e.item);
+                if (e.in && !in) {
+                    nextRemove(pos, e.item);
+                } else if (!e.in && in) {
+                    nextAdd(pos, pos + 1);
+                }
+                e.in = in;
+                if (in) {
+                    newView.add(e.item);
+                    pos++;
+                }
+            }
+            view = newView;
+            endChange();
+        }
+
+        public void setComparator(Comparator<T> comparator) {
+            this.comparator = comparator;
+            if (comparator != null) {
+                all.sort((e1, e2) -> comparator.compare(e1.item, e2.item));
+            } else {
+                // Back to the source order
+                Map<T, Entry<T>> entries = new IdentityHashMap<>(all.size());
+                for (Entry<T> e : all) entries.put(e.item, e);
+                all.clear();
+                for (T t : src) all.add(entries.get(t));
+            }
+
+            Map<T, Integer> oldPositions = new IdentityHashMap<>(view.size());
+            for (int i = 0; i < view.size(); i++) oldPositions.put(view.get(i), i);
+            List<T> newView = new ArrayList<>(view.size());
+            int[] perm = new int[view.size()];
+            for (Entry<T> e : all) {
+                if (!e.in) continue;
+                perm[oldPositions.get(e.item)] = newView.size();
+                newView.add(e.item);
+            }
+            view = newView;
+            if (perm.length == 0) return;
+            beginChange();
+            nextPermutation(0, perm.length, perm);
+            endChange();
+        }
+
+        protected void onSourceChanged(ListChangeListener.Change<? extends T> c) {
+            boolean permutated = false;
+            beginChange();
+            while (c.next()) {
+                if (c.wasPermutated()) {
+                    permutated = true;
+                    continue;
+                }
+                for (T t : c.getRemoved()) remove(t);
+                if (c.wasAdded()) {
+                    List<? extends T> added = c.getAddedSubList();
+                    for (int i = 0; i < added.size(); i++) add(added.get(i), c.getFrom() + i);
+                }
+            }
+            endChange();
+
+            // Only matters without a comparator, as the order is the source's one
+            if (permutated && comparator == null) setComparator(null);
+        }
+
+        protected void remove(T t) {
+            int pos = 0;
+            for (int i = 0; i < all.size(); i++) {
+                Entry<T> e = all.get(i);
+                if (e.item == t) {
+                    all.remove(i);
+                    if (e.in) {
+                        view.remove(pos);
+                        nextRemove(pos, t);
+                    }
+                    return;
+                }
+                if (e.in) pos++;
+            }
+        }
+
+        protected void add(T t, int srcIndex) {
+            int index;
+            if (comparator == null) {
+                index = srcIndex;
+            } else {
+                // After the equal elements, like a stable sort would do
+                int lo = 0, hi = all.size();
+                while (lo < hi) {
+                    int mid = (lo + hi) >>> 1;
+                    if (comparator.compare(all.get(mid).item, t) <= 0) {
+                        lo = mid + 1;
+                    } else {
+                        hi = mid;
+                    }
+                }
+                index = lo;
+            }
+
+            boolean in = test(t);
+            all.add(index, new Entry<>(t, in));
+            if (!in) return;
+            int pos = 0;
+            for (int i = 0; i < index; i++) {
+                if (all.get(i).in) pos++;
+            }
+            view.add(pos, t);
+            nextAdd(pos, pos + 1);
+        }
+
+        private boolean test(T t) {
+            return predicate == null || predicate.test(t);
+        }
+
+        @Override
+        public T get(int index) {
+            return view.get(index);
+        }
+
+        @Override
+        public int size() {
+            return view.size();
+        }
+
+        private static class Entry<T> {
+            private final T item;
+            private boolean in;
+
+            Entry(T item, boolean in) {
+                this.item = item;
+                this.in = in;
+            }
+        }
     }
 }
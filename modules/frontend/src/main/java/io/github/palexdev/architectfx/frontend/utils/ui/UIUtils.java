@@ -34,6 +34,7 @@ import io.github.palexdev.mfxeffects.animations.Animations.PauseBuilder;
 import io.github.palexdev.mfxeffects.animations.motion.M3Motion;
 import javafx.animation.Animation;
 import javafx.animation.PauseTransition;
+import javafx.geometry.Bounds;
 import javafx.geometry.Pos;
 import javafx.geometry.Rectangle2D;
 import javafx.scene.Node;
@@ -109,6 +110,16 @@ public class UIUtils {
         return node.snapshot(parameters, null);
     }
 
+    /// Snapshots the given node scaled down to fit in the given size, preserving the aspect ratio. Nodes smaller than
+    /// the given size are not scaled up.
+    public static WritableImage thumbnail(Node node, double maxW, double maxH) {
+        Bounds bounds = node.getLayoutBounds();
+        double scale = Math.min(1.0, Math.min(maxW / bounds.getWidth(), maxH / bounds.getHeight()));
+        SnapshotParameters parameters = new SnapshotParameters();
+        parameters.setTransform(Transform.scale(scale, scale));
+        return node.snapshot(parameters, null);
+    }
+
     public static Image transform(Image src, io.github.palexdev.imcache.transforms.Transform... transforms) {
         if (transforms.length == 0) return src;
 
@@ -19,12 +19,16 @@
 package io.github.palexdev.architectfx.frontend.views;
 
 
+import java.util.List;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import io.github.palexdev.architectfx.frontend.components.BoundsOverlay;
 import io.github.palexdev.architectfx.frontend.components.CountdownIcon;
 import io.github.palexdev.architectfx.frontend.components.ObjInspector;
 import io.github.palexdev.architectfx.frontend.components.ZoomControls;
+import io.github.palexdev.architectfx.backend.lint.LintFinding;
+import io.github.palexdev.architectfx.backend.model.UIObj;
 import io.github.palexdev.architectfx.frontend.components.layout.Box;
 import io.github.palexdev.architectfx.frontend.events.UIEvent;
 import io.github.palexdev.architectfx.frontend.model.PreviewModel;
@@ -35,6 +39,8 @@ import io.github.palexdev.architectfx.frontend.utils.ui.UIUtils;
 import io.github.palexdev.architectfx.frontend.views.LivePreviewView.LivePreviewBehavior;
 import io.github.palexdev.architectfx.frontend.views.LivePreviewView.LivePreviewPane;
 import io.github.palexdev.mfxcomponents.controls.buttons.MFXIconButton;
+import io.github.palexdev.mfxcomponents.window.MFXPlainContent;
+import io.github.palexdev.mfxcomponents.window.popups.MFXTooltip;
 import io.github.palexdev.mfxcore.builders.bindings.ObjectBindingBuilder;
 import io.github.palexdev.mfxcore.events.WhenEvent;
 import io.github.palexdev.mfxcore.events.bus.IEventBus;
@@ -53,7 +59,12 @@ import io.inverno.core.annotation.Bean;
 import javafx.animation.Animation;
 import javafx.animation.Interpolator;
 import javafx.application.HostServices;
+import javafx.beans.InvalidationListener;
+import javafx.beans.binding.Bindings;
 import javafx.scene.Node;
+import javafx.scene.input.Clipboard;
+import javafx.scene.input.ClipboardContent;
+import javafx.scene.input.MouseButton;
 import javafx.scene.input.MouseEvent;
 import javafx.scene.layout.Pane;
 import javafx.scene.layout.Region;
@@ -153,6 +164,19 @@ public class LivePreviewView extends View<LivePreviewPane, LivePreviewBehavior>
             inspectBtn.getStyleClass().add("inspect");
             UIUtils.installTooltip(inspectBtn, "Open JUI Tree Inspector");
 
+            MFXIconButton pickBtn = new MFXIconButton().asToggle();
+            pickBtn.getStyleClass().add("pick");
+            UIUtils.installTooltip(pickBtn, "Pick Node to Inspect");
+
+            MFXIconButton lintBtn = new MFXIconButton();
+            lintBtn.getStyleClass().add("lint");
+            lintBtn.setOnAction(e -> behavior.copyLintReport());
+            lintBtn.disableProperty().bind(Bindings.isEmpty(previewModel.getLintFindings()));
+            MFXTooltip lintTooltip = UIUtils.installTooltip(lintBtn, "No Performance Issues");
+            previewModel.getLintFindings().addListener((InvalidationListener) o ->
+                lintTooltip.setContent(new MFXPlainContent(behavior.lintSummary()))
+            );
+
             MFXIconButton themeBtn = new MFXIconButton();
             themeBtn.getStyleClass().add("theme");
             themeBtn.setOnAction(e -> behavior.switchThemeMode());
@@ -174,6 +198,8 @@ public class LivePreviewView extends View<LivePreviewPane, LivePreviewBehavior>
                 reloadBtn,
                 autoReloadBtn,
                 inspectBtn,
+                pickBtn,
+                lintBtn,
                 Box.separator(),
                 zoomControls,
                 Box.separator("down"),
@@ -260,6 +286,20 @@ public class LivePreviewView extends View<LivePreviewPane, LivePreviewBehavior>
                 .listen();
             getChildren().add(inspector);
 
+            /* Pick mode, clicking on a node in the preview selects it in the inspector */
+            contentPane.addEventFilter(MouseEvent.ANY, e -> {
+                if (!pickBtn.isSelected()) return;
+                UIObj obj = previewModel.resolveNode(e.getPickResult().getIntersectedNode());
+                if (e.getEventType() == MouseEvent.MOUSE_MOVED) {
+                    boundsOverlay.showFor(previewModel.resolveObj(obj));
+                } else if (e.getEventType() == MouseEvent.MOUSE_CLICKED && e.getButton() == MouseButton.PRIMARY && obj != null) {
+                    inspectBtn.setSelected(true);
+                    inspector.select(obj);
+                }
+                // The preview must not react while picking, Ctrl+Drag still scrolls it though
+                if (!e.isControlDown()) e.consume();
+            });
+
             /* Update both content and inspector */
             When.onInvalidated(previewModel.rootProperty())
                 .then(r -> {
@@ -422,6 +462,27 @@ public class LivePreviewView extends View<LivePreviewPane, LivePreviewBehavior>
             settings.getAutoReload().set(autoReload);
         }
 
+        /// @return a short description of the most expensive lint findings, for the sidebar tooltip
+        public String lintSummary() {
+            List<LintFinding> findings = previewModel.getLintFindings();
+            if (findings.isEmpty()) return "No Performance Issues";
+            double cost = findings.stream().mapToDouble(LintFinding::cost).sum();
+            String top = findings.stream()
+                .limit(5)
+                .map(f -> "• " + f.message())
+                .collect(Collectors.joining("\n"));
+            return "%d Performance Issue(s), ~%.1f ms per load (click to copy)\n%s".formatted(findings.size(), cost, top);
+        }
+
+        public void copyLintReport() {
+            String report = previewModel.getLintFindings().stream()
+                .map(LintFinding::toString)
+                .collect(Collectors.joining("\n"));
+            ClipboardContent content = new ClipboardContent();
+            content.putString(report);
+            Clipboard.getSystemClipboard().setContent(content);
+        }
+
         public void switchThemeMode() {
             themeEngine.nextMode();
         }